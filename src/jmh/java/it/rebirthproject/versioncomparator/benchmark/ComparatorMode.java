@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.benchmark;
+
+import it.rebirthproject.versioncomparator.comparator.VersionComparator;
+import it.rebirthproject.versioncomparator.comparator.VersionComparatorBuilder;
+import it.rebirthproject.versioncomparator.parser.MavenRulesVersionParser;
+import it.rebirthproject.versioncomparator.parser.MinimalVersionParser;
+import it.rebirthproject.versioncomparator.parser.RelaxedSemanticVersionParser;
+import it.rebirthproject.versioncomparator.parser.StrictSemanticVersionParser;
+import it.rebirthproject.versioncomparator.parser.VersionParser;
+
+/**
+ * The four comparator modes that {@link VersionComparatorBuilder#build()} can
+ * create. Every benchmark is parameterized on this enum so that each mode is
+ * measured with the same harness.
+ */
+public enum ComparatorMode {
+    MINIMAL {
+        @Override
+        public VersionParser createParser() {
+            return new MinimalVersionParser();
+        }
+
+        @Override
+        public VersionComparatorBuilder configure(VersionComparatorBuilder builder) {
+            return builder.useMinimalVersionParser();
+        }
+    },
+    STRICT_SEMANTIC {
+        @Override
+        public VersionParser createParser() {
+            return new StrictSemanticVersionParser();
+        }
+
+        @Override
+        public VersionComparatorBuilder configure(VersionComparatorBuilder builder) {
+            return builder.useStrictSemanticVersionParser();
+        }
+    },
+    RELAXED_SEMANTIC {
+        @Override
+        public VersionParser createParser() {
+            return new RelaxedSemanticVersionParser();
+        }
+
+        @Override
+        public VersionComparatorBuilder configure(VersionComparatorBuilder builder) {
+            return builder;
+        }
+    },
+    MAVEN_RULES {
+        @Override
+        public VersionParser createParser() {
+            return new MavenRulesVersionParser();
+        }
+
+        @Override
+        public VersionComparatorBuilder configure(VersionComparatorBuilder builder) {
+            return builder.useMavenRulesVersionParser();
+        }
+    };
+
+    /**
+     *
+     * @return the parser used by the comparator of this mode.
+     */
+    public abstract VersionParser createParser();
+
+    /**
+     * Selects this mode on a builder.
+     *
+     * @param builder the builder to configure.
+     * @return the same builder.
+     */
+    public abstract VersionComparatorBuilder configure(VersionComparatorBuilder builder);
+
+    /**
+     *
+     * @return a comparator built by {@link VersionComparatorBuilder} for this
+     * mode.
+     */
+    public VersionComparator createComparator() {
+        return configure(new VersionComparatorBuilder()).build();
+    }
+}
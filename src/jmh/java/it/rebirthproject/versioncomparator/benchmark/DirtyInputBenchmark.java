@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.benchmark;
+
+import it.rebirthproject.versioncomparator.comparator.VersionComparator;
+import it.rebirthproject.versioncomparator.comparator.VersionParseResult;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the throwing {@link VersionComparator#parse(String)} with
+ * {@link VersionComparator#tryParse(String)} on a dataset where one version
+ * out of twenty is not valid for the mode under test, as in dirty
+ * user-supplied metadata.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DirtyInputBenchmark {
+
+    private static final int INVALID_EVERY = 20;
+
+    @Param
+    public ComparatorMode mode;
+
+    private VersionComparator comparator;
+
+    private String[] versions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        comparator = mode.createComparator();
+        String[] validVersions = InputShape.SHORT.versionsFor(mode);
+        versions = new String[INVALID_EVERY];
+        //A blank version is invalid in every mode
+        versions[0] = " ";
+        for (int i = 1; i < versions.length; i++) {
+            versions[i] = validVersions[i % validVersions.length];
+        }
+    }
+
+    @Benchmark
+    public boolean parseCatchingExceptions(InputCursor cursor) {
+        try {
+            return comparator.parse(versions[cursor.next(versions.length)]) != null;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean tryParse(InputCursor cursor) {
+        VersionParseResult result = comparator.tryParse(versions[cursor.next(versions.length)]);
+        return result.isValid();
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.benchmark;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A per-thread cursor that cycles over the dataset of a benchmark, so that
+ * concurrent threads do not share any mutable state.
+ */
+@State(Scope.Thread)
+public class InputCursor {
+
+    private int index = -1;
+
+    /**
+     * Moves the cursor to the next entry of a dataset.
+     *
+     * @param length the dataset length.
+     * @return the index of the next entry.
+     */
+    public int next(int length) {
+        index++;
+        if (index >= length) {
+            index = 0;
+        }
+        return index;
+    }
+}
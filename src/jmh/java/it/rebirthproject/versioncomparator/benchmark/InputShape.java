@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.benchmark;
+
+/**
+ * The shapes of the version strings fed to the benchmarks. Every shape holds a
+ * dataset for each {@link ComparatorMode}, and every entry is valid for the
+ * grammar of its mode.
+ *
+ * The minimal grammar has no qualifiers, so its qualifier-heavy dataset mixes
+ * two and three component versions at the maximum allowed length instead.
+ */
+public enum InputShape {
+    SHORT(
+            new String[]{"1.2", "0.1", "2.10.4", "1.0.0", "3.4", "10.2.1", "0.0.1", "7.7"},
+            new String[]{"1.2.3", "0.1.0", "2.10.4", "1.0.0", "3.4.5", "10.2.1", "0.0.1", "7.7.7"},
+            new String[]{"1.2.3", "0.1.0", "2.10.4", "1.0.0", "3.4.5", "10.2.1", "0.0.1", "7.7.7"},
+            new String[]{"1.2", "0.1", "2.10.4", "1", "3.4.5", "10-2", "0.0.1", "7"}),
+    LONG(
+            new String[]{"123456.654321.999999", "999999.999999", "100000.200000.300000", "987654.123456.456789",
+                "555555.444444.333333", "111111.222222", "654321.999999.100000", "900000.800000.700000"},
+            new String[]{"1234567890123456789.987654321098765432.555555555555555555", "922337203685477580.1.2",
+                "100000000000.200000000000.300000000000", "987654321.123456789.456789123",
+                "55555555555555.44444444444444.33333333333333", "1.1234567890123456789.1", "7.8.9000000000000000000",
+                "10000000000000000.20000000000000000.30000000000000000"},
+            new String[]{"12345678901.98765432109.55555555555", "99999999999.1.2", "10000000000.20000000000.30000000000",
+                "987654321.123456789.456789123", "55555555555.44444444444.33333333333", "1.12345678901.1",
+                "7.8.90000000000", "10000000000.2000000000.3000000000"},
+            new String[]{"1.2.3.4.5.6.7.8.9.10", "10.20.30.40.50.60.70.80", "1234567890123456789012345.1.2",
+                "1.0.0.0.0.0.0.0.0.1", "2024.10.18.123456.7", "99999999999999999999.9", "3.1.4.1.5.9.2.6.5.3.5",
+                "1.1.1.1.1.1.1.1.1.1.1.1.1.1.1.2"}),
+    QUALIFIER_HEAVY(
+            new String[]{"123456.654321", "999999.999999.999999", "100000.200000", "987654.123456.456789",
+                "555555.444444", "111111.222222.333333", "654321.999999", "900000.800000.700000"},
+            new String[]{"1.2.3-alpha.1.beta-2.rc.3+build.2024.10.18.sha-abcdef", "1.0.0-rc.1+build.1",
+                "2.0.0-alpha-a.b-c-somethinglong+build.1-aef.1-its-okay", "1.2.3----RC-SNAPSHOT.12.9.1--.12+788",
+                "10.2.3-DEV-SNAPSHOT", "1.0.0-alpha.beta.1", "1.0.0-0.3.7.x.7.z.92", "3.0.0-beta.11+exp.sha.5114f85"},
+            new String[]{"1.2.3-DEV-SNAPSHOT", "10.20.30.FINAL", "1.2.3-rc-fix.2", "2.0.0-RC3", "1.0.0-alpha.0valid",
+                "1.2.6-RC-SNAPSHOFT", "5.4.3.RELEASE", "1.2.3-SNAPSHOT-123"},
+            new String[]{"1.0-alpha-1-SNAPSHOT", "1-1.foo-bar1baz-.1", "2.0.0.RELEASE", "1.0-rc1", "3.2.1-beta-2.sp-1",
+                "1.0.0.Final-redhat-00001", "5.0.0-M2-fix_3", "2.6.1.Final"});
+
+    private final String[] minimalVersions;
+    private final String[] strictSemanticVersions;
+    private final String[] relaxedSemanticVersions;
+    private final String[] mavenRulesVersions;
+
+    private InputShape(String[] minimalVersions, String[] strictSemanticVersions, String[] relaxedSemanticVersions, String[] mavenRulesVersions) {
+        this.minimalVersions = minimalVersions;
+        this.strictSemanticVersions = strictSemanticVersions;
+        this.relaxedSemanticVersions = relaxedSemanticVersions;
+        this.mavenRulesVersions = mavenRulesVersions;
+    }
+
+    /**
+     * Returns a copy of the dataset of this shape for the given mode.
+     *
+     * @param mode the comparator mode.
+     * @return the version strings valid for the mode.
+     */
+    public String[] versionsFor(ComparatorMode mode) {
+        switch (mode) {
+            case MINIMAL:
+                return minimalVersions.clone();
+            case STRICT_SEMANTIC:
+                return strictSemanticVersions.clone();
+            case MAVEN_RULES:
+                return mavenRulesVersions.clone();
+            default:
+                return relaxedSemanticVersions.clone();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.benchmark;
+
+import it.rebirthproject.versioncomparator.comparator.ComparableVersion;
+import it.rebirthproject.versioncomparator.comparator.VersionComparator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures comparisons when the comparators of every {@link ComparatorMode}
+ * are used in the same JVM, as in a service that handles several version
+ * schemes: each invocation moves to the next mode, so the comparison call
+ * sites see all the comparator classes. Strings are compared through
+ * {@link VersionComparator#compare(String, String)} and parsed versions
+ * through {@link ComparableVersion#compareTo(ComparableVersion)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MixedModeBenchmark {
+
+    @Param
+    public InputShape shape;
+
+    /**
+     * The comparator, the versions and the parsed versions of each pair,
+     * interleaving the modes.
+     */
+    private VersionComparator[] comparators;
+
+    private String[] firstVersions;
+
+    private String[] secondVersions;
+
+    private ComparableVersion[] firstParsedVersions;
+
+    private ComparableVersion[] secondParsedVersions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ComparatorMode[] modes = ComparatorMode.values();
+        VersionComparator[] modeComparators = new VersionComparator[modes.length];
+        String[][] modeVersions = new String[modes.length][];
+        int pairsPerMode = 0;
+        for (int i = 0; i < modes.length; i++) {
+            modeComparators[i] = modes[i].createComparator();
+            modeVersions[i] = shape.versionsFor(modes[i]);
+            pairsPerMode = Math.max(pairsPerMode, modeVersions[i].length);
+        }
+
+        int pairs = pairsPerMode * modes.length;
+        comparators = new VersionComparator[pairs];
+        firstVersions = new String[pairs];
+        secondVersions = new String[pairs];
+        firstParsedVersions = new ComparableVersion[pairs];
+        secondParsedVersions = new ComparableVersion[pairs];
+        for (int pair = 0; pair < pairs; pair++) {
+            int mode = pair % modes.length;
+            String[] versions = modeVersions[mode];
+            int index = pair / modes.length % versions.length;
+            comparators[pair] = modeComparators[mode];
+            firstVersions[pair] = versions[index];
+            secondVersions[pair] = versions[(index + 3) % versions.length];
+            firstParsedVersions[pair] = comparators[pair].parse(firstVersions[pair]);
+            secondParsedVersions[pair] = comparators[pair].parse(secondVersions[pair]);
+        }
+    }
+
+    @Benchmark
+    public int compareStrings(InputCursor cursor) {
+        int pair = cursor.next(comparators.length);
+        return comparators[pair].compare(firstVersions[pair], secondVersions[pair]);
+    }
+
+    @Benchmark
+    public int compareParsed(InputCursor cursor) {
+        int pair = cursor.next(comparators.length);
+        return firstParsedVersions[pair].compareTo(secondParsedVersions[pair]);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.benchmark;
+
+import it.rebirthproject.versioncomparator.comparator.VersionComparator;
+import it.rebirthproject.versioncomparator.comparator.VersionComparatorBuilder;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link VersionComparator#compare(String, String)} on pairs whose
+ * major, minor and patch numbers differ, which the minimal, strict and
+ * relaxed semantic comparators decide on the raw strings, and on pairs whose
+ * numbers are equal, which need the full parse. The tied pairs differ only by
+ * their qualifier, except for the minimal rules, which have none.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class NumberPartsBenchmark {
+
+    @Param({"MINIMAL", "STRICT_SEMANTIC", "RELAXED_SEMANTIC"})
+    public ComparatorMode mode;
+
+    /**
+     * True to compare pairs with equal numbers.
+     */
+    @Param({"false", "true"})
+    public boolean tiedNumbers;
+
+    private VersionComparator comparator;
+
+    private String[] firstVersions;
+
+    private String[] secondVersions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        comparator = mode.configure(new VersionComparatorBuilder()).build();
+        String[] versions = InputShape.SHORT.versionsFor(mode);
+        firstVersions = new String[versions.length];
+        secondVersions = new String[versions.length];
+        for (int i = 0; i < versions.length; i++) {
+            firstVersions[i] = withQualifier(versions[i], "RC");
+            secondVersions[i] = withQualifier(versions[tiedNumbers ? i : (i + 3) % versions.length], "SNAPSHOT");
+            //Fail fast if a pair is not valid for the mode under test
+            comparator.compare(firstVersions[i], secondVersions[i]);
+        }
+    }
+
+    private String withQualifier(String version, String qualifier) {
+        return mode == ComparatorMode.MINIMAL ? version : version + "-" + qualifier;
+    }
+
+    @Benchmark
+    public int compare(InputCursor cursor) {
+        int pair = cursor.next(firstVersions.length);
+        return comparator.compare(firstVersions[pair], secondVersions[pair]);
+    }
+}
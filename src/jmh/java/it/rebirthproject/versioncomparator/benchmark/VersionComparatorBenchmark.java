@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.benchmark;
+
+import it.rebirthproject.versioncomparator.comparator.VersionComparator;
+import it.rebirthproject.versioncomparator.comparator.VersionComparatorBuilder;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link VersionComparator#compare(String, String)} for every
+ * {@link ComparatorMode} and {@link InputShape}, at one, four and all the
+ * available threads. Each invocation compares two different entries of the
+ * dataset, so equal, lower and greater outcomes are all exercised. The
+ * comparator is built with and without the parse cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class VersionComparatorBenchmark {
+
+    @Param
+    public ComparatorMode mode;
+
+    @Param
+    public InputShape shape;
+
+    /**
+     * The parse cache size, zero to disable the cache.
+     */
+    @Param({"0", "1024"})
+    public int parseCacheEntries;
+
+    private VersionComparator comparator;
+
+    private String[] versions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        VersionComparatorBuilder builder = mode.configure(new VersionComparatorBuilder());
+        if (parseCacheEntries > 0) {
+            builder.withParseCache(parseCacheEntries);
+        }
+        comparator = builder.build();
+        versions = shape.versionsFor(mode);
+        //Fail fast if a dataset entry is not valid for the mode under test
+        for (String version : versions) {
+            comparator.compare(version, version);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int compareOneThread(InputCursor cursor) {
+        return compareNextPair(cursor);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int compareFourThreads(InputCursor cursor) {
+        return compareNextPair(cursor);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int compareMaxThreads(InputCursor cursor) {
+        return compareNextPair(cursor);
+    }
+
+    private int compareNextPair(InputCursor cursor) {
+        int index = cursor.next(versions.length);
+        return comparator.compare(versions[index], versions[(index + 3) % versions.length]);
+    }
+}
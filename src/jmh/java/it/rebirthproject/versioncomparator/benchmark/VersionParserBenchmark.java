@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.benchmark;
+
+import it.rebirthproject.versioncomparator.model.Version;
+import it.rebirthproject.versioncomparator.parser.VersionParser;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link VersionParser#parseVersion(String)} for every
+ * {@link ComparatorMode} and {@link InputShape}, at one, four and all the
+ * available threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class VersionParserBenchmark {
+
+    @Param
+    public ComparatorMode mode;
+
+    @Param
+    public InputShape shape;
+
+    private VersionParser parser;
+
+    private String[] versions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        parser = mode.createParser();
+        versions = shape.versionsFor(mode);
+        //Fail fast if a dataset entry is not valid for the mode under test
+        for (String version : versions) {
+            parser.parseVersion(version);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Version parseVersionOneThread(InputCursor cursor) {
+        return parser.parseVersion(versions[cursor.next(versions.length)]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Version parseVersionFourThreads(InputCursor cursor) {
+        return parser.parseVersion(versions[cursor.next(versions.length)]);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Version parseVersionMaxThreads(InputCursor cursor) {
+        return parser.parseVersion(versions[cursor.next(versions.length)]);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.benchmark;
+
+import it.rebirthproject.versioncomparator.comparator.ComparableVersion;
+import it.rebirthproject.versioncomparator.comparator.VersionCollectors;
+import it.rebirthproject.versioncomparator.comparator.VersionComparator;
+import it.rebirthproject.versioncomparator.comparator.VersionSortResult;
+import it.rebirthproject.versioncomparator.comparator.VersionSorter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the sorting of a shuffled list of versions, either with the
+ * {@link VersionComparator} that parses both versions on every comparison, by
+ * parsing every version once into a {@link ComparableVersion}, with the
+ * parallel {@link VersionSorter} or with a parallel stream collected by
+ * {@link VersionCollectors}. The search of the newest version is measured the
+ * same way.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class VersionSortBenchmark {
+
+    @Param
+    public ComparatorMode mode;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private VersionComparator comparator;
+
+    private VersionSorter sorter;
+
+    private List<String> versions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        comparator = mode.createComparator();
+        sorter = new VersionSorter(comparator);
+        List<String> dataset = new ArrayList<>();
+        for (InputShape shape : InputShape.values()) {
+            Collections.addAll(dataset, shape.versionsFor(mode));
+        }
+
+        Random random = new Random(42);
+        versions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            versions.add(dataset.get(random.nextInt(dataset.size())));
+        }
+    }
+
+    @Benchmark
+    public List<String> sortWithComparator() {
+        List<String> sorted = new ArrayList<>(versions);
+        sorted.sort(comparator);
+        return sorted;
+    }
+
+    @Benchmark
+    public List<ComparableVersion> sortParsedOnce() {
+        List<ComparableVersion> sorted = new ArrayList<>(versions.size());
+        for (String version : versions) {
+            sorted.add(comparator.parse(version));
+        }
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    @Benchmark
+    public VersionSortResult<String> sortWithVersionSorter() {
+        return sorter.sort(versions);
+    }
+
+    @Benchmark
+    public List<String> sortWithCollector() {
+        return versions.parallelStream().collect(VersionCollectors.toSortedList(comparator));
+    }
+
+    @Benchmark
+    public Optional<String> maxWithComparator() {
+        return versions.parallelStream().max(comparator);
+    }
+
+    @Benchmark
+    public Optional<String> maxWithCollector() {
+        return versions.parallelStream().collect(VersionCollectors.maxVersion(comparator));
+    }
+}
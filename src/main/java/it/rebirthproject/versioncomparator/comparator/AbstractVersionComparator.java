@@ -0,0 +1,256 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import it.rebirthproject.versioncomparator.metrics.VersionMetricsListener;
+import it.rebirthproject.versioncomparator.model.Version;
+import it.rebirthproject.versioncomparator.parser.CachingVersionParser;
+import it.rebirthproject.versioncomparator.parser.VersionParser;
+import it.rebirthproject.versioncomparator.utils.ByteSlice;
+import it.rebirthproject.versioncomparator.version.VersionReleaseTypes;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+/**
+ * The base class of the library's comparators. A comparison is split in two
+ * steps: the parsing of both versions, and the comparison of the parsed
+ * {@link Version}s. The second step is shared with {@link ComparableVersion},
+ * so versions parsed once can be compared any number of times.
+ */
+abstract class AbstractVersionComparator implements VersionComparator {
+
+    /**
+     * The version parser used to match a string formatted version.
+     */
+    protected final VersionParser versionParser;
+
+    /**
+     * The listener of the comparisons, or null if there is none. The field is
+     * final, so without a listener a comparison pays a single null check.
+     */
+    private final VersionMetricsListener metricsListener;
+
+    /**
+     * @param versionParser The version parser chosen to check if a String
+     * formatted version matches the rules.
+     * @param metricsListener the listener of the comparisons, or null if there
+     * is none.
+     */
+    AbstractVersionComparator(VersionParser versionParser, VersionMetricsListener metricsListener) {
+        this.versionParser = versionParser;
+        this.metricsListener = metricsListener;
+    }
+
+    @Override
+    public int compare(String version1, String version2) throws IllegalArgumentException {
+        return compare((CharSequence) version1, (CharSequence) version2);
+    }
+
+    @Override
+    public int compare(CharSequence version1, CharSequence version2) throws IllegalArgumentException {
+        if (metricsListener == null) {
+            return compareVersions(versionParser.parseVersion(version1), versionParser.parseVersion(version2));
+        }
+
+        long start = System.nanoTime();
+        int comparison = compareVersions(versionParser.parseVersion(version1), versionParser.parseVersion(version2));
+        metricsListener.onCompare(versionParser.getParserType().name(), System.nanoTime() - start);
+        return comparison;
+    }
+
+    @Override
+    public int compareUtf8(byte[] version1, int offset1, int length1, byte[] version2, int offset2, int length2) throws IllegalArgumentException {
+        CharSequence firstVersion = version1 == null ? null : utf8Version(new ByteSlice().reset(version1, offset1, offset1 + length1));
+        CharSequence secondVersion = version2 == null ? null : utf8Version(new ByteSlice().reset(version2, offset2, offset2 + length2));
+        return compare(firstVersion, secondVersion);
+    }
+
+    @Override
+    public int compareUtf8(ByteBuffer version1, ByteBuffer version2) throws IllegalArgumentException {
+        CharSequence firstVersion = version1 == null ? null : utf8Version(new ByteSlice().reset(version1, version1.position(), version1.limit()));
+        CharSequence secondVersion = version2 == null ? null : utf8Version(new ByteSlice().reset(version2, version2.position(), version2.limit()));
+        return compare(firstVersion, secondVersion);
+    }
+
+    @Override
+    public int tryCompare(String version1, String version2) {
+        long start = metricsListener == null ? 0 : System.nanoTime();
+        Version firstVersion = versionParser.tryParseVersion(version1);
+        if (firstVersion == null) {
+            return INVALID_FIRST_VERSION;
+        }
+        Version secondVersion = versionParser.tryParseVersion(version2);
+        if (secondVersion == null) {
+            return INVALID_SECOND_VERSION;
+        }
+
+        int comparison = compareVersions(firstVersion, secondVersion);
+        if (metricsListener != null) {
+            metricsListener.onCompare(versionParser.getParserType().name(), System.nanoTime() - start);
+        }
+        return comparison;
+    }
+
+    @Override
+    public ComparableVersion parse(String version) throws IllegalArgumentException {
+        return new ComparableVersion(version, versionParser.parseVersion(version), this);
+    }
+
+    @Override
+    public VersionParseResult tryParse(String version) {
+        Version parsedVersion = versionParser.tryParseVersion(version);
+        if (parsedVersion != null) {
+            return VersionParseResult.valid(new ComparableVersion(version, parsedVersion, this));
+        }
+        if (version == null) {
+            return VersionParseResult.invalid(null, VersionParseError.NULL_VERSION, 0);
+        }
+
+        //Only rejected versions are scanned again, to locate the error
+        int errorIndex = versionParser.findInvalidIndex(version);
+        if (errorIndex < 0) {
+            //A custom parser may reject a version its scanner accepts
+            errorIndex = 0;
+        }
+        VersionParseError error = VersionParseError.UNEXPECTED_CHARACTER;
+        if (errorIndex == version.length()) {
+            error = isBlank(version) ? VersionParseError.BLANK_VERSION : VersionParseError.UNEXPECTED_END;
+        }
+        return VersionParseResult.invalid(version, error, errorIndex);
+    }
+
+    @Override
+    public byte[] toKey(String version) throws IllegalArgumentException {
+        return keyOf(versionParser.parseVersion(version));
+    }
+
+    @Override
+    public void writeKey(String version, ByteBuffer target) throws IllegalArgumentException {
+        VersionKeyWriter key = new VersionKeyWriter();
+        writeKey(versionParser.parseVersion(version), key);
+        key.writeTo(target);
+    }
+
+    @Override
+    public Optional<ParseCacheStatistics> getParseCacheStatistics() {
+        if (!(versionParser instanceof CachingVersionParser)) {
+            return Optional.empty();
+        }
+
+        CachingVersionParser cachingVersionParser = (CachingVersionParser) versionParser;
+        return Optional.of(new ParseCacheStatistics(cachingVersionParser.getHitCount(), cachingVersionParser.getMissCount(),
+                cachingVersionParser.getEvictionCount(), cachingVersionParser.size(), cachingVersionParser.getMaxEntries()));
+    }
+
+    /**
+     * Compares two versions already parsed by this comparator's parser.
+     *
+     * @param firstVersion The first version to compare.
+     * @param secondVersion The second version to compare.
+     *
+     * @return An integer indicating whether the first version is greater (1),
+     * equal (0), or lesser (-1) than the second version.
+     */
+    abstract int compareVersions(Version firstVersion, Version secondVersion);
+
+    /**
+     * Computes a hash code consistent with
+     * {@link #compareVersions(Version, Version)}: versions comparing as equal
+     * must have the same hash code.
+     *
+     * @param version a version parsed by this comparator's parser.
+     * @return the hash code of the version.
+     */
+    abstract int hashCodeOf(Version version);
+
+    /**
+     * Writes the order-preserving key of a version, see
+     * {@link VersionComparator#toKey(String)}.
+     *
+     * @param version a version parsed by this comparator's parser.
+     * @param key the writer of the key.
+     */
+    abstract void writeKey(Version version, VersionKeyWriter key);
+
+    /**
+     * Finds the release type of a version, see
+     * {@link ComparableVersion#getReleaseType()}.
+     *
+     * @param version a version parsed by this comparator's parser.
+     * @return the release type, or null if the version has only unknown
+     * qualifiers.
+     */
+    abstract VersionReleaseTypes releaseTypeOf(Version version);
+
+    /**
+     * Finds the release line of a version, see
+     * {@link VersionCollectors#groupingByMajor(VersionComparator)}.
+     *
+     * @param version a version parsed by this comparator's parser.
+     * @param parts the number of leading number parts of the line, 1 for the
+     * major version and 2 for the major and minor versions.
+     * @return the release line, the parts separated by dots.
+     */
+    abstract String releaseLineOf(Version version, int parts);
+
+    /**
+     * @param version a version parsed by this comparator's parser.
+     * @return the order-preserving key of the version.
+     */
+    byte[] keyOf(Version version) {
+        VersionKeyWriter key = new VersionKeyWriter();
+        writeKey(version, key);
+        return key.toByteArray();
+    }
+
+    /**
+     * Checks if versions parsed by another comparator can be compared with
+     * versions parsed by this one.
+     *
+     * @param other the other comparator.
+     * @return true if both comparators apply the same parsing and comparison
+     * rules.
+     */
+    boolean hasSameRulesAs(AbstractVersionComparator other) {
+        return this == other || (getClass() == other.getClass() && versionParser.getParserType() == other.versionParser.getParserType()
+                && qualifierTable().hasSameQualifiersAs(other.qualifierTable()));
+    }
+
+    /**
+     * @return the qualifiers known by the comparator and their priorities.
+     */
+    QualifierTable qualifierTable() {
+        return QualifierTable.RELEASE_TYPES;
+    }
+
+    /**
+     * @return the slice itself if it is made of ASCII characters, otherwise
+     * the decoded slice, so the parsers always read the version's characters.
+     */
+    private static CharSequence utf8Version(ByteSlice slice) {
+        return slice.isAscii() ? slice : slice.toString();
+    }
+
+    private static boolean isBlank(String version) {
+        for (int i = 0; i < version.length(); i++) {
+            //The same blank characters as String.trim()
+            if (version.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import it.rebirthproject.versioncomparator.model.Version;
+import it.rebirthproject.versioncomparator.version.VersionReleaseTypes;
+import java.util.Optional;
+
+/**
+ * An immutable version parsed once by a {@link VersionComparator}. It keeps
+ * the comparison-ready form of the version, so sorting or comparing many
+ * versions does not parse them again on every comparison.
+ *
+ * Instances are created by {@link VersionComparator#parse(String)} and their
+ * natural ordering is the ordering of the comparator that created them. Only
+ * versions created by comparators of the same mode, with the same custom
+ * qualifiers, can be compared.
+ */
+public final class ComparableVersion implements Comparable<ComparableVersion> {
+
+    /**
+     * The version in string format, as given to the parser.
+     */
+    private final String originalVersion;
+    /**
+     * The parsed version.
+     */
+    private final Version version;
+    /**
+     * The comparator that parsed the version.
+     */
+    private final AbstractVersionComparator comparator;
+
+    ComparableVersion(String originalVersion, Version version, AbstractVersionComparator comparator) {
+        this.originalVersion = originalVersion;
+        this.version = version;
+        this.comparator = comparator;
+    }
+
+    /**
+     * Compares this version with another one without parsing them again.
+     *
+     * @param other the version to compare with.
+     * @return An integer indicating whether this version is greater (1),
+     * equal (0), or lesser (-1) than the other version.
+     * @throws IllegalArgumentException if the versions were parsed by
+     * comparators of different modes or with different custom qualifiers.
+     */
+    @Override
+    public int compareTo(ComparableVersion other) throws IllegalArgumentException {
+        checkSameRules(other);
+        return comparator.compareVersions(version, other.version);
+    }
+
+    /**
+     * Encodes the version without parsing it again, see
+     * {@link VersionComparator#toKey(String)}.
+     *
+     * @return the order-preserving key of the version.
+     */
+    public byte[] toKey() {
+        return comparator.keyOf(version);
+    }
+
+    /**
+     * Finds the release type named by the qualifier of the version. When the
+     * qualifier names several release types, SNAPSHOT wins over the others
+     * and otherwise the first one is returned. Aliases are not merged, so for
+     * example a Maven {@code 1.0-a1} is of type
+     * {@link VersionReleaseTypes#A}.
+     *
+     * @return the release type, {@link VersionReleaseTypes#EMPTY} for
+     * versions without qualifier, or an empty optional if the qualifier does
+     * not name any known release type.
+     */
+    public Optional<VersionReleaseTypes> getReleaseType() {
+        return Optional.ofNullable(comparator.releaseTypeOf(version));
+    }
+
+    /**
+     * @param parts the number of leading number parts of the line.
+     * @return the release line of the version, for example "1.2".
+     */
+    String releaseLine(int parts) {
+        return comparator.releaseLineOf(version, parts);
+    }
+
+    /**
+     *
+     * @return the version in string format, as given to the parser.
+     */
+    public String getOriginalVersion() {
+        return originalVersion;
+    }
+
+    /**
+     * Two versions are equal when they were parsed by comparators of the same
+     * mode, with the same custom qualifiers, and compare as equal, so for example the Maven versions "1.0" and
+     * "1" are equal.
+     *
+     * @param obj the object to compare with.
+     * @return true if the versions are equal.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ComparableVersion)) {
+            return false;
+        }
+        ComparableVersion other = (ComparableVersion) obj;
+        return comparator.hasSameRulesAs(other.comparator) && comparator.compareVersions(version, other.version) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return comparator.hashCodeOf(version);
+    }
+
+    @Override
+    public String toString() {
+        return originalVersion;
+    }
+
+    private void checkSameRules(ComparableVersion other) throws IllegalArgumentException {
+        if (!comparator.hasSameRulesAs(other.comparator)) {
+            throw new IllegalArgumentException("Cannot compare versions parsed by comparators of different modes or qualifiers: " + originalVersion + ", " + other.originalVersion);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+/**
+ * An element whose version does not match the comparator's rules, together
+ * with the reason why it was rejected.
+ *
+ * @param <T> the type of the element.
+ */
+public final class InvalidVersion<T> {
+
+    private final T element;
+    private final VersionParseResult parseResult;
+
+    InvalidVersion(T element, VersionParseResult parseResult) {
+        this.element = element;
+        this.parseResult = parseResult;
+    }
+
+    /**
+     *
+     * @return the rejected element.
+     */
+    public T getElement() {
+        return element;
+    }
+
+    /**
+     *
+     * @return the result of parsing the element's version, with the reason
+     * why it was rejected and the position of the error.
+     */
+    public VersionParseResult getParseResult() {
+        return parseResult;
+    }
+
+    /**
+     * The exception is created only when this method is called.
+     *
+     * @return the error that {@link VersionComparator#parse(String)} would
+     * throw for the element's version, with the same information as
+     * {@link VersionParseResult#toString()}.
+     */
+    public IllegalArgumentException getError() {
+        return new IllegalArgumentException(parseResult.toString());
+    }
+
+    @Override
+    public String toString() {
+        return element + ": " + parseResult;
+    }
+}
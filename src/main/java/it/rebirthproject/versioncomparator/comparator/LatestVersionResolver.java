@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Finds the latest version among many, for example the latest release in
+ * the metadata of an artifact.
+ *
+ * Every version is parsed once and compared with the best candidate found so
+ * far, which is the only one kept, so the versions can come from a stream of
+ * any length in constant memory. Among versions comparing as equal, such as
+ * the Maven versions {@code 1.0} and {@code 1}, the first one is kept. A
+ * resolver is immutable and can be shared between threads.
+ */
+public final class LatestVersionResolver {
+
+    private final VersionComparator versionComparator;
+    private final ReleaseTypeFilter releaseTypeFilter;
+
+    /**
+     * Creates a resolver considering every version.
+     *
+     * @param versionComparator the comparator that parses and orders the
+     * versions.
+     * @throws IllegalArgumentException if the comparator is null.
+     */
+    public LatestVersionResolver(VersionComparator versionComparator) throws IllegalArgumentException {
+        this(versionComparator, ReleaseTypeFilter.any());
+    }
+
+    /**
+     * Creates a resolver considering only the versions accepted by a filter.
+     *
+     * @param versionComparator the comparator that parses and orders the
+     * versions.
+     * @param releaseTypeFilter the filter of the versions to consider, for
+     * example {@link ReleaseTypeFilter#withoutPreReleases()}.
+     * @throws IllegalArgumentException if an argument is null.
+     */
+    public LatestVersionResolver(VersionComparator versionComparator, ReleaseTypeFilter releaseTypeFilter) throws IllegalArgumentException {
+        if (versionComparator == null || releaseTypeFilter == null) {
+            throw new IllegalArgumentException("Version comparator and release type filter cannot be null");
+        }
+        this.versionComparator = versionComparator;
+        this.releaseTypeFilter = releaseTypeFilter;
+    }
+
+    /**
+     * Finds the latest version accepted by the filter.
+     *
+     * @param versions the string formatted versions.
+     * @return the latest version, or an empty optional if no version is
+     * accepted.
+     * @throws IllegalArgumentException if a version is not valid.
+     */
+    public Optional<ComparableVersion> findLatest(Iterable<String> versions) throws IllegalArgumentException {
+        return findLatest(versions.iterator());
+    }
+
+    /**
+     * Finds the latest version accepted by the filter, consuming the
+     * iterator.
+     *
+     * @param versions the string formatted versions.
+     * @return the latest version, or an empty optional if no version is
+     * accepted.
+     * @throws IllegalArgumentException if a version is not valid.
+     */
+    public Optional<ComparableVersion> findLatest(Iterator<String> versions) throws IllegalArgumentException {
+        ComparableVersion latest = null;
+        while (versions.hasNext()) {
+            ComparableVersion version = versionComparator.parse(versions.next());
+            if (releaseTypeFilter.test(version) && (latest == null || version.compareTo(latest) > 0)) {
+                latest = version;
+            }
+        }
+        return Optional.ofNullable(latest);
+    }
+
+    /**
+     * Finds the latest version accepted by the filter, consuming the stream.
+     * A parallel stream is reduced in parallel, and the first of the versions
+     * comparing as equal is still the one kept.
+     *
+     * @param versions the string formatted versions.
+     * @return the latest version, or an empty optional if no version is
+     * accepted.
+     * @throws IllegalArgumentException if a version is not valid.
+     */
+    public Optional<ComparableVersion> findLatest(Stream<String> versions) throws IllegalArgumentException {
+        return versions.map(versionComparator::parse)
+                .filter(releaseTypeFilter)
+                .reduce(BinaryOperator.maxBy(ComparableVersion::compareTo));
+    }
+}
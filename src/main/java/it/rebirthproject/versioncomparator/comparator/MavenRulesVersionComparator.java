@@ -15,107 +15,315 @@
  */
 package it.rebirthproject.versioncomparator.comparator;
 
+import it.rebirthproject.versioncomparator.metrics.VersionMetricsListener;
+import it.rebirthproject.versioncomparator.model.MavenConstants;
+import it.rebirthproject.versioncomparator.model.PackedMavenTokens;
+import it.rebirthproject.versioncomparator.model.Version;
 import it.rebirthproject.versioncomparator.parser.VersionParser;
-import it.rebirthproject.versioncomparator.utils.MavenRulesVersionPadder;
-import it.rebirthproject.versioncomparator.utils.TokenUtils;
-import it.rebirthproject.versioncomparator.version.MavenConstants;
-import it.rebirthproject.versioncomparator.version.PaddedLists;
-import it.rebirthproject.versioncomparator.version.Version;
 import it.rebirthproject.versioncomparator.version.VersionReleaseTypes;
-import java.util.List;
 
-public class MavenRulesVersionComparator implements VersionComparator {
+/**
+ * Compares versions following the Maven specifications.
+ *
+ * <p>The comparison works on the {@link PackedMavenTokens} of the two versions,
+ * walked in lockstep, and the shorter one is padded virtually: a missing
+ * separator takes the value of the separator found in the other version, a
+ * missing token takes {@code 0} when the other token starts with a digit and the
+ * empty qualifier otherwise. Numbers are compared as longs and known qualifiers
+ * through their release type, so a comparison allocates nothing beyond the
+ * parsing of its inputs.</p>
+ */
+public class MavenRulesVersionComparator extends AbstractVersionComparator {
 
-    private final VersionParser mavenVersionParser;
-    private final MavenRulesVersionPadder mavenVersionPadder;
+    /**
+     * The key of a known qualifier is this value plus its Maven priority.
+     */
+    private static final int KNOWN_QUALIFIER = 0x10;
+    private static final int UNKNOWN_QUALIFIER = 0x20;
+    private static final int HYPHEN_NUMBER = 0x30;
+    private static final int FULLSTOP_NUMBER = 0x31;
+    /**
+     * The end of the tokens, written as the empty qualifier that pads the
+     * shorter version in a comparison.
+     */
+    private static final int END_OF_TOKENS = KNOWN_QUALIFIER + VersionReleaseTypes.EMPTY.getMavenPriority();
+    /**
+     * The priority of an unknown qualifier.
+     */
+    private static final int UNKNOWN_PRIORITY = -1;
 
-    MavenRulesVersionComparator(VersionParser mavenVersionParser, MavenRulesVersionPadder mavenVersionPadder) {
-        this.mavenVersionParser = mavenVersionParser;
-        this.mavenVersionPadder = mavenVersionPadder;
+    /**
+     * The release types and the custom qualifiers. The release types of the
+     * tokens are resolved by the parser, so the table is only searched for
+     * the custom qualifiers.
+     */
+    private final QualifierTable qualifierTable;
+
+    MavenRulesVersionComparator(VersionParser mavenVersionParser) {
+        this(mavenVersionParser, null);
     }
 
-    @Override
-    public int compare(String version1, String version2) throws IllegalArgumentException {
-        Version firstVersion = mavenVersionParser.parseVersion(version1);
-        Version secondVersion = mavenVersionParser.parseVersion(version2);
+    MavenRulesVersionComparator(VersionParser mavenVersionParser, VersionMetricsListener metricsListener) {
+        this(mavenVersionParser, metricsListener, QualifierTable.RELEASE_TYPES);
+    }
 
-        PaddedLists paddedLists = mavenVersionPadder.padShorterVersion(firstVersion.getTokenList(), secondVersion.getTokenList());
-        List<String> firstVersionTokenList = paddedLists.getVersion1();
-        List<String> secondVersionTokenList = paddedLists.getVersion2();
+    MavenRulesVersionComparator(VersionParser mavenVersionParser, VersionMetricsListener metricsListener, QualifierTable qualifierTable) {
+        super(mavenVersionParser, metricsListener);
+        this.qualifierTable = qualifierTable;
+    }
 
-        int size = firstVersionTokenList.size();
+    @Override
+    QualifierTable qualifierTable() {
+        return qualifierTable;
+    }
+
+    @Override
+    int compareVersions(Version firstVersion, Version secondVersion) {
+        PackedMavenTokens firstVersionTokens = firstVersion.getPackedTokens();
+        PackedMavenTokens secondVersionTokens = secondVersion.getPackedTokens();
 
-        String token1 = firstVersionTokenList.get(0);
-        String token2 = secondVersionTokenList.get(0);
+        int size = Math.max(firstVersionTokens.size(), secondVersionTokens.size());
 
-        int compareResult = compareNumericTokens(token1, token2);
+        int compareResult = compareFirstTokens(firstVersionTokens, secondVersionTokens);
         if (compareResult != 0) {
             return compareResult;
+        }
+
+        for (int i = 1; i < size; i += 2) {
+            //First token in list is always a separator 
+            char separator1 = separatorAt(firstVersionTokens, secondVersionTokens, i);
+            char separator2 = separatorAt(secondVersionTokens, firstVersionTokens, i);
+
+            //then we must take the following token to compare it
+            int tokenIndex = i + 1;
+            boolean token1IsNumber = isNumberAt(firstVersionTokens, secondVersionTokens, tokenIndex);
+            boolean token2IsNumber = isNumberAt(secondVersionTokens, firstVersionTokens, tokenIndex);
+
+            if (separator1 == separator2) {
+                compareResult = compareTokens(firstVersionTokens, secondVersionTokens, tokenIndex, token1IsNumber, token2IsNumber);
+            } else {
+                compareResult = compareTokensWithSeparator(separator1, token1IsNumber, token2IsNumber);
+            }
+
+            if (compareResult != 0) {
+                return compareResult;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * The first token of a Maven version is always compared with
+     * {@link #compareFirstTokens(PackedMavenTokens, PackedMavenTokens)}, so
+     * versions comparing as equal share the same normalized first token.
+     */
+    @Override
+    int hashCodeOf(Version version) {
+        PackedMavenTokens tokens = version.getPackedTokens();
+        if (tokens.isNumber(0) && !tokens.isLargeNumber(0)) {
+            return Long.hashCode(tokens.numberAt(0));
+        }
+
+        String token = tokens.tokenAt(0);
+        int hash = 0;
+        for (int i = PackedMavenTokens.skipLeadingZeros(token); i < token.length(); i++) {
+            hash = 31 * hash + token.charAt(i);
+        }
+        return hash;
+    }
+
+    /**
+     * Writes the first token as a number, then every following token with a
+     * marker that orders qualifiers before numbers and numbers after a hyphen
+     * before numbers after a dot, and finally the end of the tokens, that
+     * orders the version after the longer ones padded with lesser tokens.
+     *
+     * A few comparisons cannot be expressed by a total order and follow the
+     * key order: qualifiers are written without their separator, while the
+     * comparator considers equal any two qualifiers preceded by different
+     * separators, so {@code 10cr.milestone} and {@code 10cr_sp} get
+     * different keys; a trailing {@code a}, {@code b} or {@code m} alias is
+     * written as an unknown qualifier, as when it is compared with a version
+     * of the same length; a zero followed by tokens lesser than the padding,
+     * and a qualifier starting with a non ASCII digit, are always written
+     * after the end of the tokens.
+     *
+     * The trailing tokens equal to the padding, a zero or a qualifier of the
+     * same priority as the empty qualifier, are not written, so versions that
+     * compare as equal only because of the padding get the same key.
+     */
+    @Override
+    void writeKey(Version version, VersionKeyWriter key) {
+        PackedMavenTokens tokens = version.getPackedTokens();
+        if (tokens.isNumber(0) && !tokens.isLargeNumber(0)) {
+            key.writeNumber(tokens.numberAt(0));
         } else {
-            for (int i = 1; i < size; i++) {
-                //First token in list is always a separator 
-                String separator1 = firstVersionTokenList.get(i);
-                String separator2 = secondVersionTokenList.get(i);
-
-                //then we must take the following token to compare it
-                i++;
-                token1 = firstVersionTokenList.get(i);
-                token2 = secondVersionTokenList.get(i);
-
-                if (separator1.equals(separator2)) {
-                    compareResult = compareTokens(firstVersionTokenList, secondVersionTokenList, i);
+            String token = tokens.tokenAt(0);
+            key.writeSizedText(token, PackedMavenTokens.skipLeadingZeros(token), token.length());
+        }
+
+        int size = tokens.size();
+        while (size > 1 && isPadding(tokens, size - 1)) {
+            size -= 2;
+        }
+
+        for (int i = 1; i < size; i += 2) {
+            int tokenIndex = i + 1;
+            if (tokens.isNumber(tokenIndex)) {
+                key.writeByte(tokens.separatorAt(i) == MavenConstants.FULLSTOP_SEPARATOR ? FULLSTOP_NUMBER : HYPHEN_NUMBER);
+                if (tokens.isLargeNumber(tokenIndex)) {
+                    key.writeNumber(tokens.tokenAt(tokenIndex));
                 } else {
-                    compareResult = compareTokensWithSeparator(separator1, token1, token2);
+                    key.writeNumber(tokens.numberAt(tokenIndex));
                 }
+                continue;
+            }
 
-                if (compareResult != 0) {
-                    return compareResult;
-                }
+            int priority = qualifierPriority(tokens, tokens, tokenIndex);
+            if (priority != UNKNOWN_PRIORITY) {
+                key.writeByte(KNOWN_QUALIFIER + priority);
+            } else {
+                key.writeByte(UNKNOWN_QUALIFIER);
+                key.writeTextIgnoreCase(tokens.tokenAt(tokenIndex));
             }
-            return 0;
         }
+        key.writeByte(END_OF_TOKENS);
     }
 
-    private int compareTokens(List<String> firstVersionTokenList, List<String> secondVersionTokenList, int tokenIndex) {
-        String token1 = firstVersionTokenList.get(tokenIndex);
-        String token2 = secondVersionTokenList.get(tokenIndex);
-        boolean token1IsNumber = TokenUtils.isNumber(token1);
-        boolean token2IsNumber = TokenUtils.isNumber(token2);
+    /**
+     * The release type is the one of the first known qualifier, SNAPSHOT
+     * winning over the others, as in {@code 1.0-rc1-SNAPSHOT}. A version made
+     * only of numbers is a release, as are the versions whose trailing
+     * {@code final}, {@code ga} or {@code release} qualifier was removed by
+     * the parser.
+     */
+    @Override
+    VersionReleaseTypes releaseTypeOf(Version version) {
+        PackedMavenTokens tokens = version.getPackedTokens();
+        VersionReleaseTypes releaseType = null;
+        boolean hasQualifiers = false;
+        for (int tokenIndex = 0; tokenIndex < tokens.size(); tokenIndex += 2) {
+            if (tokens.isNumber(tokenIndex)) {
+                continue;
+            }
+            hasQualifiers = true;
+            VersionReleaseTypes qualifier = resolveQualifier(tokens, tokens, tokenIndex);
+            if (qualifier == VersionReleaseTypes.SNAPSHOT) {
+                return qualifier;
+            }
+            if (releaseType == null) {
+                releaseType = qualifier;
+            }
+        }
+        return hasQualifiers ? releaseType : VersionReleaseTypes.EMPTY;
+    }
+
+    /**
+     * Checks if a trailing token compares as equal to the padding of a
+     * shorter version: {@code 0} for a number and the empty qualifier
+     * otherwise.
+     */
+    private boolean isPadding(PackedMavenTokens tokens, int tokenIndex) {
+        if (tokens.isNumber(tokenIndex)) {
+            return !tokens.isLargeNumber(tokenIndex) && tokens.numberAt(tokenIndex) == 0;
+        }
+        return qualifierPriority(tokens, tokens, tokenIndex) == VersionReleaseTypes.EMPTY.getMavenPriority();
+    }
+
+    /**
+     * The release line is made of the leading numbers separated by dots,
+     * leading zeros removed. As in a comparison, a missing number, or a
+     * number after a hyphen or a qualifier, is padded with {@code 0}, so
+     * {@code 1}, {@code 1.0} and {@code 1-2} share the line {@code 1.0}.
+     */
+    @Override
+    String releaseLineOf(Version version, int parts) {
+        PackedMavenTokens tokens = version.getPackedTokens();
+        StringBuilder releaseLine = new StringBuilder();
+        boolean padding = false;
+        for (int part = 0; part < parts; part++) {
+            int tokenIndex = part * 2;
+            padding = padding || tokenIndex >= tokens.size() || !tokens.isNumber(tokenIndex)
+                    || (tokenIndex > 0 && tokens.separatorAt(tokenIndex - 1) != MavenConstants.FULLSTOP_SEPARATOR);
+            if (part > 0) {
+                releaseLine.append(MavenConstants.FULLSTOP_SEPARATOR);
+            }
+            if (padding) {
+                releaseLine.append('0');
+            } else if (tokens.isLargeNumber(tokenIndex)) {
+                String token = tokens.tokenAt(tokenIndex);
+                releaseLine.append(token, PackedMavenTokens.skipLeadingZeros(token), token.length());
+            } else {
+                releaseLine.append(tokens.numberAt(tokenIndex));
+            }
+        }
+        return releaseLine.toString();
+    }
+
+    /**
+     * The first tokens are compared as numbers even when they are qualifiers,
+     * in which case their text is compared as if it was made of digits.
+     */
+    private int compareFirstTokens(PackedMavenTokens firstVersionTokens, PackedMavenTokens secondVersionTokens) {
+        if (firstVersionTokens.isNumber(0) && secondVersionTokens.isNumber(0)) {
+            return compareNumericTokens(firstVersionTokens, secondVersionTokens, 0);
+        }
+        return compareNumericText(firstVersionTokens.tokenAt(0), secondVersionTokens.tokenAt(0));
+    }
+
+    /**
+     * Returns the separator at the given index, padding the tokens virtually
+     * when they are shorter than the other ones.
+     */
+    private char separatorAt(PackedMavenTokens tokens, PackedMavenTokens otherTokens, int tokenIndex) {
+        return tokenIndex < tokens.size() ? tokens.separatorAt(tokenIndex) : otherTokens.separatorAt(tokenIndex);
+    }
+
+    /**
+     * Checks if the token at the given index is a number, padding the tokens
+     * virtually with {@code 0} when the other token starts with a digit.
+     */
+    private boolean isNumberAt(PackedMavenTokens tokens, PackedMavenTokens otherTokens, int tokenIndex) {
+        return tokenIndex < tokens.size() ? tokens.isNumber(tokenIndex) : otherTokens.startsWithDigit(tokenIndex);
+    }
+
+    private int compareTokens(PackedMavenTokens firstVersionTokens, PackedMavenTokens secondVersionTokens, int tokenIndex, boolean token1IsNumber, boolean token2IsNumber) {
         // alpha = a < beta = b < milestone = m < rc = cr < snapshot < '' < final = ga = release < sp
 
         // Check if both tokens are numeric
         if (token1IsNumber && token2IsNumber) {
-            return compareNumericTokens(token1, token2);
+            return compareNumericTokens(firstVersionTokens, secondVersionTokens, tokenIndex);
         }
 
         // Check if one is numeric and the other is a string
-        if (TokenUtils.isNumber(token1)) {
+        if (token1IsNumber) {
             return 1; // Numbers come before qualifiers
         }
-        if (TokenUtils.isNumber(token2)) {
+        if (token2IsNumber) {
             return -1; // Qualifiers come after numbers
         }
 
         // Both are strings, compare their order
-        VersionReleaseTypes qualifier1 = resolveQualifier(firstVersionTokenList, tokenIndex);
-        VersionReleaseTypes qualifier2 = resolveQualifier(secondVersionTokenList, tokenIndex);
+        int priority1 = qualifierPriority(firstVersionTokens, secondVersionTokens, tokenIndex);
+        int priority2 = qualifierPriority(secondVersionTokens, firstVersionTokens, tokenIndex);
 
         // Both qualifiers are known
-        if (qualifier1 != null && qualifier2 != null) {
-            return Integer.compare(qualifier1.getMavenPriority(), qualifier2.getMavenPriority());
+        if (priority1 != UNKNOWN_PRIORITY && priority2 != UNKNOWN_PRIORITY) {
+            return Integer.compare(priority1, priority2);
         }
 
         // If one is in known and the other is not, the one known comes first (is lesser than)
-        if (qualifier1 != null) {
+        if (priority1 != UNKNOWN_PRIORITY) {
             return -1;
         }
 
-        if (qualifier2 != null) {
+        if (priority2 != UNKNOWN_PRIORITY) {
             return 1;
         }
 
         //If both qualifiers are unknown then compare case-insensitively and normalize the result.
-        return Integer.compare(token1.compareToIgnoreCase(token2), 0);
+        //The empty pad is a known qualifier, so both tokens exist here.
+        return Integer.compare(firstVersionTokens.tokenAt(tokenIndex).compareToIgnoreCase(secondVersionTokens.tokenAt(tokenIndex)), 0);
     }
 
     /**
@@ -124,33 +332,63 @@ public class MavenRulesVersionComparator implements VersionComparator {
      * <p>Single-letter aliases {@code a}, {@code b} and {@code m} are treated as known
      * qualifiers only when followed by a numeric token (for example {@code 1a1},
      * {@code 1-b2}, {@code 1.m3}). In other contexts they are treated as unknown
-     * qualifiers and compared lexicographically.</p>
+     * qualifiers and compared lexicographically. The following token is read from
+     * the virtually padded tokens, so it depends on the version being compared.</p>
      *
-     * @param tokenList The parsed version token list.
+     * @param tokens The packed version tokens.
+     * @param otherTokens The packed tokens of the version it is compared with.
      * @param tokenIndex The index of the current qualifier token.
      *
      * @return The resolved release type or {@code null} for unknown qualifiers.
      */
-    private VersionReleaseTypes resolveQualifier(List<String> tokenList, int tokenIndex) {
-        VersionReleaseTypes qualifier = VersionReleaseTypes.getValueOfReleaseTypes(tokenList.get(tokenIndex));
+    private VersionReleaseTypes resolveQualifier(PackedMavenTokens tokens, PackedMavenTokens otherTokens, int tokenIndex) {
+        VersionReleaseTypes qualifier = tokenIndex < tokens.size() ? tokens.releaseTypeAt(tokenIndex) : VersionReleaseTypes.EMPTY;
 
         if (qualifier == VersionReleaseTypes.A || qualifier == VersionReleaseTypes.B || qualifier == VersionReleaseTypes.M) {
             // For single-letter aliases Maven requires a following numeric token.
             int nextTokenIndex = tokenIndex + 2;
-            if (nextTokenIndex >= tokenList.size()) {
+            if (nextTokenIndex >= Math.max(tokens.size(), otherTokens.size())) {
                 return null;
             }
 
-            return TokenUtils.isNumber(tokenList.get(nextTokenIndex)) ? qualifier : null;
+            return isNumberAt(tokens, otherTokens, nextTokenIndex) ? qualifier : null;
         }
 
         return qualifier;
     }
 
-    private int compareTokensWithSeparator(String separator1, String token1, String token2) {
-        boolean token1IsNumber = TokenUtils.isNumber(token1);
-        boolean token2IsNumber = TokenUtils.isNumber(token2);
+    /**
+     * Returns the Maven priority of a qualifier token: the priority of its
+     * release type, resolved by
+     * {@link #resolveQualifier(PackedMavenTokens, PackedMavenTokens, int)},
+     * or the priority of a custom qualifier registered on the builder.
+     *
+     * @param tokens The packed version tokens.
+     * @param otherTokens The packed tokens of the version it is compared with.
+     * @param tokenIndex The index of the current qualifier token.
+     *
+     * @return The priority, or {@link #UNKNOWN_PRIORITY} for unknown
+     * qualifiers.
+     */
+    private int qualifierPriority(PackedMavenTokens tokens, PackedMavenTokens otherTokens, int tokenIndex) {
+        VersionReleaseTypes qualifier = resolveQualifier(tokens, otherTokens, tokenIndex);
+        if (qualifier != null) {
+            return qualifier.getMavenPriority();
+        }
+        if (!qualifierTable.hasCustomQualifiers() || tokenIndex >= tokens.size()) {
+            return UNKNOWN_PRIORITY;
+        }
+
+        String token = tokens.tokenAt(tokenIndex);
+        int qualifierIndex = qualifierTable.indexOf(token, 0, token.length());
+        //The aliases of release types resolved as unknown qualifiers stay unknown
+        if (qualifierIndex == QualifierTable.UNKNOWN || qualifierTable.releaseTypeAt(qualifierIndex) != null) {
+            return UNKNOWN_PRIORITY;
+        }
+        return qualifierTable.mavenPriorityAt(qualifierIndex);
+    }
 
+    private int compareTokensWithSeparator(char separator1, boolean token1IsNumber, boolean token2IsNumber) {
         // tokens are both strings
         if (!token1IsNumber && !token2IsNumber) {
             return 0;
@@ -158,7 +396,7 @@ public class MavenRulesVersionComparator implements VersionComparator {
 
         // tokens are both numbers
         if (token1IsNumber && token2IsNumber) {
-            if (separator1.equals("" + MavenConstants.FULLSTOP_SEPARATOR)) {
+            if (separator1 == MavenConstants.FULLSTOP_SEPARATOR) {
                 return 1;
             } else {
                 return -1;
@@ -170,42 +408,62 @@ public class MavenRulesVersionComparator implements VersionComparator {
     }
 
     /**
-     * Compares numeric tokens without integer parsing to avoid overflow.
-     * Leading zeros are ignored to match Maven numeric-token ordering
-     * (for example {@code 0001} equals {@code 1}).
+     * Compares two numeric tokens, a missing token being the virtual pad
+     * {@code 0}. Numbers too large for a long are greater than all the others
+     * and are compared through their text.
      *
-     * @param token1 The first numeric token.
-     * @param token2 The second numeric token.
+     * @param firstVersionTokens The first version's packed tokens.
+     * @param secondVersionTokens The second version's packed tokens.
+     * @param tokenIndex The index of the numeric tokens.
      *
      * @return An integer indicating whether the first token is greater (1), equal (0),
      * or lesser (-1) than the second token.
      */
-    private int compareNumericTokens(String token1, String token2) {
-        String normalizedToken1 = normalizeNumericToken(token1);
-        String normalizedToken2 = normalizeNumericToken(token2);
-
-        int lengthComparison = Integer.compare(normalizedToken1.length(), normalizedToken2.length());
-        if (lengthComparison != 0) {
-            return lengthComparison;
+    private int compareNumericTokens(PackedMavenTokens firstVersionTokens, PackedMavenTokens secondVersionTokens, int tokenIndex) {
+        boolean token1IsPresent = tokenIndex < firstVersionTokens.size();
+        boolean token2IsPresent = tokenIndex < secondVersionTokens.size();
+        boolean token1IsLarge = token1IsPresent && firstVersionTokens.isLargeNumber(tokenIndex);
+        boolean token2IsLarge = token2IsPresent && secondVersionTokens.isLargeNumber(tokenIndex);
+
+        if (token1IsLarge && token2IsLarge) {
+            return compareNumericText(firstVersionTokens.tokenAt(tokenIndex), secondVersionTokens.tokenAt(tokenIndex));
+        }
+        if (token1IsLarge || token2IsLarge) {
+            return token1IsLarge ? 1 : -1;
         }
 
-        return Integer.compare(normalizedToken1.compareTo(normalizedToken2), 0);
+        long number1 = token1IsPresent ? firstVersionTokens.numberAt(tokenIndex) : 0;
+        long number2 = token2IsPresent ? secondVersionTokens.numberAt(tokenIndex) : 0;
+        return Long.compare(number1, number2);
     }
 
     /**
-     * Normalizes a numeric token by removing leading zeroes while preserving one zero
-     * for all-zero values.
+     * Compares numeric tokens without integer parsing to avoid overflow.
+     * Leading zeros are ignored to match Maven numeric-token ordering
+     * (for example {@code 0001} equals {@code 1}). The digits are compared in
+     * place, without creating normalized copies of the tokens.
      *
-     * @param token The numeric token to normalize.
+     * @param token1 The first numeric token.
+     * @param token2 The second numeric token.
      *
-     * @return The normalized numeric token.
+     * @return An integer indicating whether the first token is greater (1), equal (0),
+     * or lesser (-1) than the second token.
      */
-    private String normalizeNumericToken(String token) {
-        int index = 0;
-        while (index < token.length() - 1 && token.charAt(index) == '0') {
-            index++;
+    private int compareNumericText(String token1, String token2) {
+        int start1 = PackedMavenTokens.skipLeadingZeros(token1);
+        int start2 = PackedMavenTokens.skipLeadingZeros(token2);
+
+        int lengthComparison = Integer.compare(token1.length() - start1, token2.length() - start2);
+        if (lengthComparison != 0) {
+            return lengthComparison;
         }
 
-        return token.substring(index);
+        for (int i = start1, j = start2; i < token1.length(); i++, j++) {
+            int charComparison = Integer.compare(token1.charAt(i), token2.charAt(j));
+            if (charComparison != 0) {
+                return charComparison;
+            }
+        }
+        return 0;
     }
 }
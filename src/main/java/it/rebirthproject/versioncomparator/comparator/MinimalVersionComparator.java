@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import it.rebirthproject.versioncomparator.metrics.VersionMetricsListener;
+import it.rebirthproject.versioncomparator.model.Version;
+import it.rebirthproject.versioncomparator.parser.VersionParser;
+
+/**
+ * The comparator of the minimal rules. Minimal versions have neither a
+ * qualifier nor a build metadata, so only their number parts are compared.
+ */
+final class MinimalVersionComparator extends StandardVersionComparator {
+
+    /**
+     * @param versionParser The minimal version parser, possibly wrapped by a
+     * cache, an interning pool or a metrics parser.
+     * @param metricsListener the listener of the comparisons, or null if there
+     * is none.
+     */
+    MinimalVersionComparator(VersionParser versionParser, VersionMetricsListener metricsListener) {
+        super(versionParser, metricsListener);
+    }
+
+    @Override
+    int compareVersions(Version firstVersion, Version secondVersion) {
+        return compareNumbers(firstVersion, secondVersion);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+/**
+ * An immutable snapshot of the counters of a comparator's parse cache,
+ * enabled with {@link VersionComparatorBuilder#withParseCache(int)}. It can
+ * be used to size the cache: a low hit rate with many evictions means that
+ * the cache is too small for the working set of versions.
+ */
+public final class ParseCacheStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int size;
+    private final int maxEntries;
+
+    ParseCacheStatistics(long hitCount, long missCount, long evictionCount, int size, int maxEntries) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     *
+     * @return the number of parse requests served by the cache.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     *
+     * @return the number of parse requests that had to parse the version.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     *
+     * @return the number of versions evicted to respect the cache bound.
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     *
+     * @return the number of versions cached when the snapshot was taken.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     *
+     * @return the maximum number of versions kept by the cache.
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     *
+     * @return the ratio of parse requests served by the cache, or 0 if no
+     * request has been made yet.
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ParseCacheStatistics{hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount=" + evictionCount + ", size=" + size + ", maxEntries=" + maxEntries + "}";
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import it.rebirthproject.versioncomparator.utils.AsciiCaseInsensitiveTrie;
+import it.rebirthproject.versioncomparator.version.VersionReleaseTypes;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The qualifiers known by a comparator: the names of the
+ * {@link VersionReleaseTypes} and the custom qualifiers registered on {@link VersionComparatorBuilder}, all
+ * compiled into a single trie. A lookup ignores the case and takes a time
+ * that depends only on the length of the qualifier, not on the number of
+ * known qualifiers.
+ *
+ * A qualifier is identified by an index: the index of a release type is its
+ * ordinal, the custom qualifiers follow in registration order.
+ */
+final class QualifierTable {
+
+    /**
+     * The greatest priority of a custom qualifier.
+     */
+    static final int MAX_PRIORITY = 15;
+
+    /**
+     * The index returned for an unknown qualifier.
+     */
+    static final int UNKNOWN = AsciiCaseInsensitiveTrie.NO_VALUE;
+
+    private static final VersionReleaseTypes[] RELEASE_TYPE_VALUES = VersionReleaseTypes.values();
+
+    /**
+     * The table of the release types alone.
+     */
+    static final QualifierTable RELEASE_TYPES = new QualifierTable(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+
+    private final AsciiCaseInsensitiveTrie trie;
+    private final String[] names;
+    private final int[] semanticPriorities;
+    private final int[] mavenPriorities;
+
+    /**
+     * @param customNames the names of the custom qualifiers, already checked.
+     * @param customSemanticPriorities the priority of each custom qualifier
+     * with the semantic rules.
+     * @param customMavenPriorities the priority of each custom qualifier with
+     * the Maven rules.
+     */
+    QualifierTable(List<String> customNames, List<Integer> customSemanticPriorities, List<Integer> customMavenPriorities) {
+        int size = RELEASE_TYPE_VALUES.length + customNames.size();
+        names = new String[size];
+        int[] indexes = new int[size];
+        semanticPriorities = new int[size];
+        mavenPriorities = new int[size];
+
+        for (int index = 0; index < size; index++) {
+            indexes[index] = index;
+            if (index < RELEASE_TYPE_VALUES.length) {
+                names[index] = RELEASE_TYPE_VALUES[index].name();
+                semanticPriorities[index] = RELEASE_TYPE_VALUES[index].getSemanticPriority();
+                mavenPriorities[index] = RELEASE_TYPE_VALUES[index].getMavenPriority();
+            } else {
+                int custom = index - RELEASE_TYPE_VALUES.length;
+                names[index] = customNames.get(custom);
+                semanticPriorities[index] = customSemanticPriorities.get(custom);
+                mavenPriorities[index] = customMavenPriorities.get(custom);
+            }
+        }
+        this.trie = new AsciiCaseInsensitiveTrie(names, indexes);
+    }
+
+    /**
+     *
+     * @return true if custom qualifiers are registered.
+     */
+    boolean hasCustomQualifiers() {
+        return semanticPriorities.length > RELEASE_TYPE_VALUES.length;
+    }
+
+    /**
+     * Finds a qualifier, ignoring the case.
+     *
+     * @param text the text containing the qualifier.
+     * @param start the index of the first character.
+     * @param end the index following the last character.
+     * @return the index of the qualifier, or {@link #UNKNOWN}.
+     */
+    int indexOf(CharSequence text, int start, int end) {
+        return trie.get(text, start, end);
+    }
+
+    /**
+     * Checks if another table orders the qualifiers as this one: both tables
+     * know the same custom qualifiers, ignoring the case and the registration
+     * order, with the same priorities.
+     *
+     * @param other the other table.
+     * @return true if the tables have the same qualifiers.
+     */
+    boolean hasSameQualifiersAs(QualifierTable other) {
+        if (this == other) {
+            return true;
+        }
+        if (names.length != other.names.length) {
+            return false;
+        }
+        for (int index = RELEASE_TYPE_VALUES.length; index < names.length; index++) {
+            int otherIndex = other.indexOf(names[index], 0, names[index].length());
+            if (otherIndex == UNKNOWN || semanticPriorities[index] != other.semanticPriorities[otherIndex]
+                    || mavenPriorities[index] != other.mavenPriorities[otherIndex]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param index the index of a qualifier, or {@link #UNKNOWN}.
+     * @return the release type, or null if the qualifier is a custom or an
+     * unknown one.
+     */
+    VersionReleaseTypes releaseTypeAt(int index) {
+        return index >= 0 && index < RELEASE_TYPE_VALUES.length ? RELEASE_TYPE_VALUES[index] : null;
+    }
+
+    /**
+     * @param index the index of a qualifier.
+     * @return the priority of the qualifier with the semantic rules.
+     */
+    int semanticPriorityAt(int index) {
+        return semanticPriorities[index];
+    }
+
+    /**
+     * @param index the index of a qualifier.
+     * @return the priority of the qualifier with the Maven rules.
+     */
+    int mavenPriorityAt(int index) {
+        return mavenPriorities[index];
+    }
+}
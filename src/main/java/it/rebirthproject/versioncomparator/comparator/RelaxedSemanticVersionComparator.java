@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import it.rebirthproject.versioncomparator.metrics.VersionMetricsListener;
+import it.rebirthproject.versioncomparator.model.Version;
+import it.rebirthproject.versioncomparator.parser.VersionParser;
+
+/**
+ * The comparator of the relaxed semantic rules. The number parts are compared
+ * first, then the release types named by the qualifiers and finally the build
+ * metadata.
+ */
+final class RelaxedSemanticVersionComparator extends StandardVersionComparator {
+
+    /**
+     * @param versionParser The relaxed semantic version parser, possibly
+     * wrapped by a cache, an interning pool or a metrics parser.
+     * @param metricsListener the listener of the comparisons, or null if there
+     * is none.
+     * @param qualifierTable the known qualifiers and their priorities.
+     */
+    RelaxedSemanticVersionComparator(VersionParser versionParser, VersionMetricsListener metricsListener, QualifierTable qualifierTable) {
+        super(versionParser, metricsListener, qualifierTable);
+    }
+
+    @Override
+    int compareVersions(Version firstVersion, Version secondVersion) {
+        int numberComparison = compareNumbers(firstVersion, secondVersion);
+        if (numberComparison != 0) {
+            return numberComparison;
+        }
+
+        int qualifierComparison = compareQualifiers(firstVersion.getQualifier(), secondVersion.getQualifier());
+        if (qualifierComparison != 0) {
+            return qualifierComparison;
+        }
+        return compareBuildMetadata(firstVersion.getBuildMetadata(), secondVersion.getBuildMetadata());
+    }
+
+    /**
+     * Writes the number parts, then the qualifier inside its group. Inside a
+     * group known qualifiers are ordered by priority and unknown ones by
+     * text; since the relaxed semantic rules do not order unknown and known
+     * qualifiers consistently, the unknown ones come first below the release
+     * and last above it. The relaxed semantic parser never sets a build
+     * metadata, so nothing else is written.
+     */
+    @Override
+    void writeKey(Version version, VersionKeyWriter key) {
+        super.writeKey(version, key);
+        String qualifier = version.getQualifier();
+        if (!writeQualifierGroup(qualifier, key)) {
+            return;
+        }
+
+        boolean stableOrFinal = isStableOrFinal(qualifier);
+        int qualifierStart = skipLeadingSeparators(qualifier);
+        int qualifierIndex = qualifierTable().indexOf(qualifier, qualifierStart, qualifier.length());
+        if (qualifierIndex != QualifierTable.UNKNOWN) {
+            key.writeByte(stableOrFinal ? 0 : 1);
+            key.writeByte(qualifierTable().semanticPriorityAt(qualifierIndex));
+        } else {
+            key.writeByte(stableOrFinal ? 1 : 0);
+            key.writeTextIgnoreCase(qualifier.substring(qualifierStart));
+        }
+    }
+
+    private int compareQualifiers(String firstVersionQualifier, String secondVersionQualifier) {
+        if (firstVersionQualifier == null || secondVersionQualifier == null) {
+            return compareMissingQualifiers(firstVersionQualifier, secondVersionQualifier);
+        }
+        return compareReleaseTypesInQualifier(firstVersionQualifier, secondVersionQualifier);
+    }
+
+    /**
+     * This method compares two version qualifiers in string format.
+     *
+     * @param firstVersionQualifier The first version's qualifier to compare.
+     * @param secondVersionQualifier The second version's qualifier to compare.
+     *
+     * @return An integer indicating whether the first version's qualifier is
+     * greater (1), equal (0), or lesser (-1) than the second version's
+     * qualifier.
+     */
+    private int compareReleaseTypesInQualifier(String firstVersionQualifier, String secondVersionQualifier) {
+        int firstQualifierStart = skipLeadingSeparators(firstVersionQualifier);
+        int secondQualifierStart = skipLeadingSeparators(secondVersionQualifier);
+        int firstQualifierIndex = qualifierTable().indexOf(firstVersionQualifier, firstQualifierStart, firstVersionQualifier.length());
+        int secondQualifierIndex = qualifierTable().indexOf(secondVersionQualifier, secondQualifierStart, secondVersionQualifier.length());
+
+        if (firstQualifierIndex == QualifierTable.UNKNOWN && secondQualifierIndex == QualifierTable.UNKNOWN) {
+            String normalizedFirstVersionQualifier = firstVersionQualifier.substring(firstQualifierStart);
+            String normalizedSecondVersionQualifier = secondVersionQualifier.substring(secondQualifierStart);
+            return Integer.compare(normalizedFirstVersionQualifier.compareToIgnoreCase(normalizedSecondVersionQualifier), 0);
+        }
+
+        if (firstQualifierIndex == QualifierTable.UNKNOWN) {
+            return isStableOrFinal(secondVersionQualifier) ? 1 : -1;
+        } else if (secondQualifierIndex == QualifierTable.UNKNOWN) {
+            return isStableOrFinal(firstVersionQualifier) ? 1 : -1;
+        } else {
+            return Integer.compare(qualifierTable().semanticPriorityAt(firstQualifierIndex), qualifierTable().semanticPriorityAt(secondQualifierIndex));
+        }
+    }
+
+    /**
+     * Skips the leading separators of a qualifier, used by relaxed semantic
+     * parsing.
+     *
+     * @param qualifier The qualifier to normalize.
+     *
+     * @return The index where the normalized qualifier starts.
+     */
+    private static int skipLeadingSeparators(String qualifier) {
+        int start = 0;
+        while (start < qualifier.length() && (qualifier.charAt(start) == '.' || qualifier.charAt(start) == '-')) {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * This method takes two String formatted version's build metadata and
+     * compares them in a lexical way.
+     *
+     * @param firstVersionBuildMetadata The first version's build metadata to
+     * compare.
+     * @param secondVersionBuildMetadata The second version's build metadata to
+     * compare.
+     *
+     * @return An integer indicating whether the first version's build metadata
+     * is greater (1), equal (0), or lesser (-1) than the second version's build
+     * metadata.
+     */
+    private int compareBuildMetadata(String firstVersionBuildMetadata, String secondVersionBuildMetadata) {
+        if (firstVersionBuildMetadata == null && secondVersionBuildMetadata == null) {
+            return 0;
+        }
+
+        if (firstVersionBuildMetadata == null) {
+            return isStableOrFinal(secondVersionBuildMetadata) ? -1 : 1;
+        }
+
+        if (secondVersionBuildMetadata == null) {
+            return isStableOrFinal(firstVersionBuildMetadata) ? 1 : -1;
+        }
+
+        return firstVersionBuildMetadata.compareToIgnoreCase(secondVersionBuildMetadata);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import it.rebirthproject.versioncomparator.version.VersionReleaseTypes;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A filter that accepts versions by their release type, see
+ * {@link ComparableVersion#getReleaseType()}.
+ *
+ * The aliases of a release type are accepted or rejected together with it:
+ * {@code A} with {@code ALPHA}, {@code B} with {@code BETA}, {@code M} with
+ * {@code MILESTONE} and {@code CR} with {@code RC}. A filter is immutable and
+ * can be shared between threads.
+ */
+public final class ReleaseTypeFilter implements Predicate<ComparableVersion> {
+
+    private static final ReleaseTypeFilter ANY = new ReleaseTypeFilter(EnumSet.allOf(VersionReleaseTypes.class), true);
+
+    private static final ReleaseTypeFilter WITHOUT_PRE_RELEASES = excluding(VersionReleaseTypes.SNAPSHOT, VersionReleaseTypes.PRE_ALPHA,
+            VersionReleaseTypes.ALPHA, VersionReleaseTypes.BETA, VersionReleaseTypes.MILESTONE, VersionReleaseTypes.RC);
+
+    /**
+     * The accepted release types, aliases included.
+     */
+    private final Set<VersionReleaseTypes> acceptedReleaseTypes;
+    /**
+     * True if the versions whose qualifier names no known release type are
+     * accepted.
+     */
+    private final boolean unknownReleaseTypeAccepted;
+
+    private ReleaseTypeFilter(Set<VersionReleaseTypes> acceptedReleaseTypes, boolean unknownReleaseTypeAccepted) {
+        this.acceptedReleaseTypes = acceptedReleaseTypes;
+        this.unknownReleaseTypeAccepted = unknownReleaseTypeAccepted;
+    }
+
+    /**
+     *
+     * @return a filter accepting every version.
+     */
+    public static ReleaseTypeFilter any() {
+        return ANY;
+    }
+
+    /**
+     * Creates a filter rejecting snapshots and pre-releases: SNAPSHOT,
+     * PRE_ALPHA, ALPHA, BETA, MILESTONE and RC, with their aliases. Releases
+     * and versions with unknown qualifiers are accepted.
+     *
+     * @return a filter accepting only releases.
+     */
+    public static ReleaseTypeFilter withoutPreReleases() {
+        return WITHOUT_PRE_RELEASES;
+    }
+
+    /**
+     * Creates a filter rejecting the given release types and their aliases.
+     * Versions with unknown qualifiers are accepted.
+     *
+     * @param releaseTypes the rejected release types.
+     * @return the filter.
+     */
+    public static ReleaseTypeFilter excluding(VersionReleaseTypes... releaseTypes) {
+        Set<VersionReleaseTypes> acceptedReleaseTypes = EnumSet.allOf(VersionReleaseTypes.class);
+        acceptedReleaseTypes.removeAll(withAliases(releaseTypes));
+        return new ReleaseTypeFilter(acceptedReleaseTypes, true);
+    }
+
+    /**
+     * Creates a filter accepting only the given release types and their
+     * aliases. Versions with unknown qualifiers are rejected, and versions
+     * without qualifier are accepted only if
+     * {@link VersionReleaseTypes#EMPTY} is given, for example
+     * {@code only(EMPTY, GA, FINAL, RELEASE)}.
+     *
+     * @param releaseTypes the accepted release types.
+     * @return the filter.
+     */
+    public static ReleaseTypeFilter only(VersionReleaseTypes... releaseTypes) {
+        return new ReleaseTypeFilter(withAliases(releaseTypes), false);
+    }
+
+    /**
+     *
+     * @param version the version to check.
+     * @return true if the release type of the version is accepted.
+     */
+    @Override
+    public boolean test(ComparableVersion version) {
+        Optional<VersionReleaseTypes> releaseType = version.getReleaseType();
+        return releaseType.isPresent() ? acceptedReleaseTypes.contains(releaseType.get()) : unknownReleaseTypeAccepted;
+    }
+
+    private static Set<VersionReleaseTypes> withAliases(VersionReleaseTypes... releaseTypes) {
+        Set<VersionReleaseTypes> withAliases = EnumSet.noneOf(VersionReleaseTypes.class);
+        for (VersionReleaseTypes releaseType : releaseTypes) {
+            if (releaseType == null) {
+                throw new IllegalArgumentException("Release types cannot be null");
+            }
+            withAliases.add(releaseType);
+            VersionReleaseTypes alias = aliasOf(releaseType);
+            if (alias != null) {
+                withAliases.add(alias);
+            }
+        }
+        return withAliases;
+    }
+
+    private static VersionReleaseTypes aliasOf(VersionReleaseTypes releaseType) {
+        switch (releaseType) {
+            case ALPHA:
+                return VersionReleaseTypes.A;
+            case A:
+                return VersionReleaseTypes.ALPHA;
+            case BETA:
+                return VersionReleaseTypes.B;
+            case B:
+                return VersionReleaseTypes.BETA;
+            case MILESTONE:
+                return VersionReleaseTypes.M;
+            case M:
+                return VersionReleaseTypes.MILESTONE;
+            case CR:
+                return VersionReleaseTypes.RC;
+            case RC:
+                return VersionReleaseTypes.CR;
+            default:
+                return null;
+        }
+    }
+}
@@ -15,213 +15,284 @@
  */
 package it.rebirthproject.versioncomparator.comparator;
 
+import it.rebirthproject.versioncomparator.metrics.VersionMetricsListener;
+import it.rebirthproject.versioncomparator.model.Version;
+import it.rebirthproject.versioncomparator.parser.MinimalVersionParser;
 import it.rebirthproject.versioncomparator.parser.RelaxedSemanticVersionParser;
 import it.rebirthproject.versioncomparator.parser.StrictSemanticVersionParser;
-import it.rebirthproject.versioncomparator.version.Version;
-import it.rebirthproject.versioncomparator.version.VersionReleaseTypes;
 import it.rebirthproject.versioncomparator.parser.VersionParser;
-import java.util.Arrays;
-import java.util.Optional;
+import it.rebirthproject.versioncomparator.utils.TokenUtils;
+import it.rebirthproject.versioncomparator.version.VersionReleaseTypes;
 
 /**
- * This class is used to compare two versions in String format.
+ * This class is used to compare two versions in String format. It holds the
+ * parts shared by the minimal and the semantic modes: the number parts, the
+ * missing qualifiers and the release type; {@link VersionComparatorBuilder}
+ * creates its final subclasses, one per mode, that compare the qualifiers
+ * and write the keys with their own rules, without checking the mode.
  */
-public class StandardVersionComparator implements VersionComparator {
+public abstract class StandardVersionComparator extends AbstractVersionComparator {
 
     /**
-     * The version parser used to match a string formatted version.
+     * The key groups of a version's qualifier: the qualifiers lesser than the
+     * release, the release itself and the qualifiers greater than it.
      */
-    private final VersionParser versionParser;
+    private static final int QUALIFIER_BELOW_RELEASE = 1;
+    private static final int RELEASE = 2;
+    private static final int QUALIFIER_ABOVE_RELEASE = 3;
 
     /**
-     * A boolean variable that forces an unique version release type qualifier
-     * {@link VersionReleaseTypes} inside the string formatted version. If true
-     * then the version qualifier can contain only one of release type string.
-     * For example "RC" or "SNAPSHOT", or none of them.
+     * A boolean variable that states if the comparisons can be decided on the
+     * raw strings, see {@link #compare(CharSequence, CharSequence)}. It is
+     * true when the comparator uses one of the library's parsers directly,
+     * without a parse cache, an interning pool or a metrics listener, which
+     * all need the parsed versions.
      */
-    protected boolean releaseTypeUniqueInQualifier = false;
+    private final boolean fusedComparison;
+
+    /**
+     * The release types and the custom qualifiers, matched against whole
+     * qualifiers by the relaxed semantic rules and against the words of the
+     * qualifiers by {@link #releaseTypeOf(Version)}.
+     */
+    private final QualifierTable qualifierTable;
 
     /**
-     * The version comparator private contructor. The
-     * {@link VersionComparatorBuilder} is used to build the comparator.
-     *
      * @param versionParser The version parser chosen to check if a String
      * formatted version matches the rules.
+     * @param metricsListener the listener of the comparisons, or null if there
+     * is none.
      */
-    StandardVersionComparator(VersionParser versionParser) {
-        this.versionParser = versionParser;
-        if (versionParser instanceof RelaxedSemanticVersionParser) {
-            this.releaseTypeUniqueInQualifier = true;
-        }
+    StandardVersionComparator(VersionParser versionParser, VersionMetricsListener metricsListener) {
+        this(versionParser, metricsListener, QualifierTable.RELEASE_TYPES);
     }
 
     /**
-     * The main method used to compare two string formatted versions. It parses
-     * the versions' strings into valid {@link Version} And if no error occurs
-     * then it start comparing the various parts of the versions. We have
-     * basically three parts composing a valid version: - The number part (ex:
-     * 1.0.0) - The qualifier (ex: STABLE, FINAL,RC) - The build metadata (ex:
-     * build5678)
-     *
-     * The various parts are parsed using the chose version parser.
+     * @param versionParser The version parser chosen to check if a String
+     * formatted version matches the rules.
+     * @param metricsListener the listener of the comparisons, or null if there
+     * is none.
+     * @param qualifierTable the known qualifiers and their priorities.
+     */
+    StandardVersionComparator(VersionParser versionParser, VersionMetricsListener metricsListener, QualifierTable qualifierTable) {
+        super(versionParser, metricsListener);
+        this.qualifierTable = qualifierTable;
+        this.fusedComparison = metricsListener == null && (versionParser.getClass() == MinimalVersionParser.class
+                || versionParser.getClass() == StrictSemanticVersionParser.class || versionParser.getClass() == RelaxedSemanticVersionParser.class);
+    }
+
+    @Override
+    QualifierTable qualifierTable() {
+        return qualifierTable;
+    }
+
+    /**
+     * Compares two versions in a single pass over their number parts when
+     * possible. The major, minor and patch numbers are first read from the
+     * raw characters one part at a time, stopping at the first different
+     * part: when they differ, both versions are checked by the parser's
+     * scanner, which creates no object, and the comparison is decided without
+     * building the parsed versions, their qualifiers or their build metadata.
+     * Versions with equal numbers go straight to the full parse, which also
+     * checks them, so they are scanned only once. Invalid versions are fully
+     * parsed as well, to throw the parser's own message.
      *
      * @param version1 The first version to compare.
      * @param version2 The second version to compare.
      *
      * @return An integer indicating whether the first version is greater (1),
      * equal (0), or lesser (-1) than the second version.
+     * @throws IllegalArgumentException if a version does not match the
+     * parser's rules.
      */
     @Override
-    public int compare(String version1, String version2) throws IllegalArgumentException {
-        Version firstVersion = versionParser.parseVersion(version1);
-        Version secondVersion = versionParser.parseVersion(version2);
-
-        int numberComparison = compareNumbers(firstVersion, secondVersion);
-        if (numberComparison != 0) {
-            return numberComparison;
-        } else {
-            int qualifierComparison = compareQualifiers(firstVersion.getQualifier(), secondVersion.getQualifier());
-            if (qualifierComparison != 0) {
-                return qualifierComparison;
-            } else if (versionParser instanceof StrictSemanticVersionParser) {
-                return 0;
-            } else {
-                return compareBuildMetadata(firstVersion.getBuildMetadata(), secondVersion.getBuildMetadata());
+    public int compare(CharSequence version1, CharSequence version2) throws IllegalArgumentException {
+        if (fusedComparison && version1 != null && version2 != null) {
+            int numberComparison = compareNumberParts(version1, version2);
+            if (numberComparison != 0 && isValid(version1) && isValid(version2)) {
+                return numberComparison;
             }
         }
+        return super.compare(version1, version2);
     }
-    
+
     /**
-     * This method takes two String formatted version's qualifiers and compares
-     * them.
-     *
-     * @param firstVersionQualifier The first version's qualifier to compare.
-     * @param secondVersionQualifier The second version's qualifier to compare.
+     * Same as {@link #compare(CharSequence, CharSequence)}, without throwing.
      *
-     * @return An integer indicating whether the first version's qualifier is
-     * greater (1), equal (0), or lesser (-1) than the second version's
-     * qualifier.
+     * @param version1 The first version to compare.
+     * @param version2 The second version to compare.
+     * @return 1, 0 or -1, or {@link #INVALID_FIRST_VERSION} or
+     * {@link #INVALID_SECOND_VERSION} if a version is not valid.
      */
-    protected int compareQualifiers(String firstVersionQualifier, String secondVersionQualifier) {
-        if (firstVersionQualifier == null && secondVersionQualifier == null) {
-            return 0;
+    @Override
+    public int tryCompare(String version1, String version2) {
+        if (fusedComparison && version1 != null && version2 != null) {
+            int numberComparison = compareNumberParts(version1, version2);
+            if (numberComparison != 0) {
+                if (!isValid(version1)) {
+                    return INVALID_FIRST_VERSION;
+                }
+                if (!isValid(version2)) {
+                    return INVALID_SECOND_VERSION;
+                }
+                return numberComparison;
+            }
         }
+        return super.tryCompare(version1, version2);
+    }
 
-        if (firstVersionQualifier == null) {
-            return isStableOrFinal(secondVersionQualifier) ? -1 : 1;
-        }
+    private boolean isValid(CharSequence version) {
+        return versionParser.findInvalidIndex(version) == TokenUtils.NO_INVALID_INDEX;
+    }
 
-        if (secondVersionQualifier == null) {
-            return isStableOrFinal(firstVersionQualifier) ? 1 : -1;
+    /**
+     * Compares the major, minor and patch numbers of two versions as
+     * {@link #compareNumbers(Version, Version)} does, reading them from the
+     * raw characters and stopping at the first different part. A missing
+     * patch, allowed by the minimal rules, counts as -1 as in the parsed
+     * version. The versions are not checked: the result is meaningful only
+     * if both are valid.
+     */
+    private static int compareNumberParts(CharSequence version1, CharSequence version2) {
+        int length1 = version1.length();
+        int length2 = version2.length();
+        int start1 = 0;
+        int start2 = 0;
+        for (int part = 0; part < 3; part++) {
+            int end1 = TokenUtils.skipDigits(version1, start1, length1);
+            int end2 = TokenUtils.skipDigits(version2, start2, length2);
+            long number1 = end1 > start1 ? TokenUtils.parseNumber(version1, start1, end1) : -1;
+            long number2 = end2 > start2 ? TokenUtils.parseNumber(version2, start2, end2) : -1;
+            if (number1 != number2) {
+                return Long.compare(number1, number2);
+            }
+            start1 = nextPartStart(version1, end1);
+            start2 = nextPartStart(version2, end2);
         }
+        return 0;
+    }
 
-        if (releaseTypeUniqueInQualifier) {
-            return compareReleaseTypesInQualifier(firstVersionQualifier, secondVersionQualifier);
-        } else if (versionParser instanceof StrictSemanticVersionParser) {
-            return compareStrictSemanticPrerelease(firstVersionQualifier, secondVersionQualifier);
-        } else {
-            return firstVersionQualifier.compareToIgnoreCase(secondVersionQualifier);
-        }
+    /**
+     * @return the index following the dot that ends a number part, or the
+     * version's length if the part is the last one.
+     */
+    private static int nextPartStart(CharSequence version, int partEnd) {
+        return partEnd < version.length() && version.charAt(partEnd) == '.' ? partEnd + 1 : version.length();
     }
 
     /**
-     * Compares strict semantic pre-release identifiers according to SemVer precedence rules.
+     * Versions comparing as equal always have the same number parts, so only
+     * those are hashed.
+     */
+    @Override
+    int hashCodeOf(Version version) {
+        int hash = Long.hashCode(version.getMajor());
+        hash = 31 * hash + Long.hashCode(version.getMinor());
+        return 31 * hash + Long.hashCode(version.getPatch());
+    }
+
+    /**
+     * Writes the number parts. The minimal parser never sets a qualifier nor
+     * a build metadata, so nothing else is written; the semantic modes write
+     * their qualifier after the number parts.
+     */
+    @Override
+    void writeKey(Version version, VersionKeyWriter key) {
+        key.writeNumber(version.getMajor());
+        key.writeNumber(version.getMinor());
+        key.writeNumber(version.getPatch());
+    }
+
+    /**
+     * Writes the group of a qualifier, given by its comparison with the
+     * release version: lesser unless it contains STABLE or FINAL, as in
+     * {@link #compareMissingQualifiers(String, String)}. Two qualifiers of
+     * different groups are always ordered by their group, even where the
+     * semantic rules order them the other way (for example "GA" and "STABLE"
+     * with the relaxed semantic rules) or consider them equal (for example
+     * "RELEASE" and "FINAL", which have the same priority).
      *
-     * @param firstVersionQualifier The first qualifier to compare.
-     * @param secondVersionQualifier The second qualifier to compare.
+     * @param qualifier The qualifier, or null for a release version.
+     * @param key The writer of the key.
      *
-     * @return An integer indicating whether the first qualifier is greater (1), equal (0),
-     * or lesser (-1) than the second qualifier.
+     * @return true if the version has a qualifier, that the caller writes
+     * after its group.
      */
-    private int compareStrictSemanticPrerelease(String firstVersionQualifier, String secondVersionQualifier) {
-        String[] firstIdentifiers = firstVersionQualifier.split("\\.");
-        String[] secondIdentifiers = secondVersionQualifier.split("\\.");
-        int commonIdentifiersCount = Math.min(firstIdentifiers.length, secondIdentifiers.length);
+    final boolean writeQualifierGroup(String qualifier, VersionKeyWriter key) {
+        if (qualifier == null) {
+            key.writeByte(RELEASE);
+            return false;
+        }
+        key.writeByte(isStableOrFinal(qualifier) ? QUALIFIER_ABOVE_RELEASE : QUALIFIER_BELOW_RELEASE);
+        return true;
+    }
 
-        for (int i = 0; i < commonIdentifiersCount; i++) {
-            String firstIdentifier = firstIdentifiers[i];
-            String secondIdentifier = secondIdentifiers[i];
-            boolean firstNumeric = isNumericIdentifier(firstIdentifier);
-            boolean secondNumeric = isNumericIdentifier(secondIdentifier);
+    /**
+     * The release type is the one named by a word of the qualifier, SNAPSHOT
+     * winning over the others, as in {@code 1.0.0-RC1-SNAPSHOT}. Words are
+     * made of letters, so {@code alpha.1} and {@code rc1} name ALPHA and RC.
+     */
+    @Override
+    VersionReleaseTypes releaseTypeOf(Version version) {
+        String qualifier = version.getQualifier();
+        if (qualifier == null || qualifier.isEmpty()) {
+            return VersionReleaseTypes.EMPTY;
+        }
 
-            if (firstNumeric && secondNumeric) {
-                int lengthComparison = Integer.compare(firstIdentifier.length(), secondIdentifier.length());
-                if (lengthComparison != 0) {
-                    return lengthComparison;
+        VersionReleaseTypes releaseType = null;
+        int wordStart = -1;
+        for (int i = 0; i <= qualifier.length(); i++) {
+            if (i < qualifier.length() && Character.isLetter(qualifier.charAt(i))) {
+                if (wordStart < 0) {
+                    wordStart = i;
                 }
-
-                int lexicalNumericComparison = Integer.signum(firstIdentifier.compareTo(secondIdentifier));
-                if (lexicalNumericComparison != 0) {
-                    return lexicalNumericComparison;
+            } else if (wordStart >= 0) {
+                VersionReleaseTypes wordReleaseType = qualifierTable.releaseTypeAt(qualifierTable.indexOf(qualifier, wordStart, i));
+                if (wordReleaseType == VersionReleaseTypes.SNAPSHOT) {
+                    return wordReleaseType;
                 }
-            } else if (firstNumeric != secondNumeric) {
-                return firstNumeric ? -1 : 1;
-            } else {
-                int lexicalComparison = Integer.signum(firstIdentifier.compareTo(secondIdentifier));
-                if (lexicalComparison != 0) {
-                    return lexicalComparison;
+                if (releaseType == null) {
+                    releaseType = wordReleaseType;
                 }
+                wordStart = -1;
             }
         }
-
-        return Integer.compare(firstIdentifiers.length, secondIdentifiers.length);
+        return releaseType;
     }
 
     /**
-     * Checks if an identifier contains only numeric characters.
-     *
-     * @param identifier The identifier to check.
-     *
-     * @return true if the identifier is numeric, false otherwise.
+     * The release line is made of the major version and, for two parts, the
+     * minor version, always present in every mode.
      */
-    private boolean isNumericIdentifier(String identifier) {
-        return identifier.matches("\\d+");
+    @Override
+    String releaseLineOf(Version version, int parts) {
+        return parts == 1 ? Long.toString(version.getMajor()) : version.getMajor() + "." + version.getMinor();
     }
-    
-     /**
-     * This method compares two version qualifiers in string format.
+
+    /**
+     * Compares two qualifiers when at least one of them is missing: a version
+     * without qualifier is greater than a qualified one, unless the qualifier
+     * contains STABLE or FINAL.
      *
-     * @param firstVersionQualifier The first version's qualifier to compare.
-     * @param secondVersionQualifier The second version's qualifier to compare.
+     * @param firstVersionQualifier The first version's qualifier, or null.
+     * @param secondVersionQualifier The second version's qualifier, or null.
      *
      * @return An integer indicating whether the first version's qualifier is
      * greater (1), equal (0), or lesser (-1) than the second version's
      * qualifier.
      */
-    protected int compareReleaseTypesInQualifier(String firstVersionQualifier, String secondVersionQualifier) {
-        String normalizedFirstVersionQualifier = normalizeQualifier(firstVersionQualifier);
-        String normalizedSecondVersionQualifier = normalizeQualifier(secondVersionQualifier);
-        String[] arrayValues = VersionReleaseTypes.getValues();
-        Optional<String> optionalStringReleaseTypeFirstVersion = Arrays.stream(arrayValues).filter(s -> s.equalsIgnoreCase(normalizedFirstVersionQualifier)).findFirst();
-        Optional<String> optionalStringReleaseTypeSecondVersion = Arrays.stream(arrayValues).filter(s -> s.equalsIgnoreCase(normalizedSecondVersionQualifier)).findFirst();
-
-        if (!optionalStringReleaseTypeFirstVersion.isPresent() && !optionalStringReleaseTypeSecondVersion.isPresent()) {
-            return Integer.compare(normalizedFirstVersionQualifier.compareToIgnoreCase(normalizedSecondVersionQualifier), 0);
+    int compareMissingQualifiers(String firstVersionQualifier, String secondVersionQualifier) {
+        if (firstVersionQualifier == null && secondVersionQualifier == null) {
+            return 0;
         }
 
-        if (!optionalStringReleaseTypeFirstVersion.isPresent()) {
-            return isStableOrFinal(secondVersionQualifier) ? 1 : -1;
-        } else if (!optionalStringReleaseTypeSecondVersion.isPresent()) {
-            return isStableOrFinal(firstVersionQualifier) ? 1 : -1;
-        } else {
-            int priorityReleaseTypeFirstVersion = VersionReleaseTypes.getValueOfReleaseTypes(optionalStringReleaseTypeFirstVersion.get()).getSemanticPriority();
-            int priorityReleaseTypeSecondVersion = VersionReleaseTypes.getValueOfReleaseTypes(optionalStringReleaseTypeSecondVersion.get()).getSemanticPriority();
-
-            return Integer.compare(priorityReleaseTypeFirstVersion, priorityReleaseTypeSecondVersion);
+        if (firstVersionQualifier == null) {
+            return isStableOrFinal(secondVersionQualifier) ? -1 : 1;
         }
-    }
 
-    /**
-     * Normalizes the qualifier by removing leading separators used by relaxed semantic parsing.
-     *
-     * @param qualifier The qualifier to normalize.
-     *
-     * @return The normalized qualifier.
-     */
-    private String normalizeQualifier(String qualifier) {
-        return qualifier.replaceFirst("^[.-]+", "");
+        return isStableOrFinal(firstVersionQualifier) ? 1 : -1;
     }
-    
+
      /**
      * This method checks if a unique qualifier is of type
      * {VersionReleaseTypes.STABLE} or {VersionReleaseTypes.FINAL}
@@ -248,7 +319,7 @@ public class StandardVersionComparator implements VersionComparator {
      * greater (1), equal (0), or lesser (-1) than the second version's number
      * part.
      */
-    private int compareNumbers(Version firstVersion, Version secondVersion) {
+    int compareNumbers(Version firstVersion, Version secondVersion) {
         if (firstVersion.getMajor() != secondVersion.getMajor()) {
             return Long.compare(firstVersion.getMajor(), secondVersion.getMajor());
         }
@@ -263,33 +334,4 @@ public class StandardVersionComparator implements VersionComparator {
 
         return 0;
     }
-   
-    /**
-     * This method takes two String formatted version's build metadata and
-     * compares them in a lexical way.
-     *
-     * @param firstVersionBuildMetadata The first version's build metadata to
-     * compare.
-     * @param secondVersionBuildMetadata The second version's build metadata to
-     * compare.
-     *
-     * @return An integer indicating whether the first version's build metadata
-     * is greater (1), equal (0), or lesser (-1) than the second version's build
-     * metadata.
-     */
-    private int compareBuildMetadata(String firstVersionBuildMetadata, String secondVersionBuildMetadata) {
-        if (firstVersionBuildMetadata == null && secondVersionBuildMetadata == null) {
-            return 0;
-        }
-
-        if (firstVersionBuildMetadata == null) {
-            return isStableOrFinal(secondVersionBuildMetadata) ? -1 : 1;
-        }
-
-        if (secondVersionBuildMetadata == null) {
-            return isStableOrFinal(firstVersionBuildMetadata) ? 1 : -1;
-        }
-
-        return firstVersionBuildMetadata.compareToIgnoreCase(secondVersionBuildMetadata);
-    }      
 }
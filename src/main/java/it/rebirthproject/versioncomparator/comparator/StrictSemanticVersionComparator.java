@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import it.rebirthproject.versioncomparator.metrics.VersionMetricsListener;
+import it.rebirthproject.versioncomparator.model.Version;
+import it.rebirthproject.versioncomparator.parser.VersionParser;
+import it.rebirthproject.versioncomparator.utils.TokenUtils;
+
+/**
+ * The comparator of the strict semantic rules. The number parts are compared
+ * first, then the pre-release identifiers following the SemVer precedence
+ * rules; the build metadata is ignored.
+ */
+final class StrictSemanticVersionComparator extends StandardVersionComparator {
+
+    /**
+     * The key markers of the pre-release identifiers.
+     */
+    private static final int END_OF_IDENTIFIERS = 0;
+    private static final int NUMERIC_IDENTIFIER = 1;
+    private static final int ALPHANUMERIC_IDENTIFIER = 2;
+
+    /**
+     * @param versionParser The strict semantic version parser, possibly
+     * wrapped by a cache, an interning pool or a metrics parser.
+     * @param metricsListener the listener of the comparisons, or null if there
+     * is none.
+     */
+    StrictSemanticVersionComparator(VersionParser versionParser, VersionMetricsListener metricsListener) {
+        super(versionParser, metricsListener);
+    }
+
+    @Override
+    int compareVersions(Version firstVersion, Version secondVersion) {
+        int numberComparison = compareNumbers(firstVersion, secondVersion);
+        if (numberComparison != 0) {
+            return numberComparison;
+        }
+        return compareQualifiers(firstVersion.getQualifier(), secondVersion.getQualifier());
+    }
+
+    /**
+     * Writes the number parts, then the pre-release identifiers inside the
+     * group of the qualifier; the build metadata is ignored.
+     */
+    @Override
+    void writeKey(Version version, VersionKeyWriter key) {
+        super.writeKey(version, key);
+        String qualifier = version.getQualifier();
+        if (writeQualifierGroup(qualifier, key)) {
+            writeStrictSemanticPrerelease(qualifier, key);
+        }
+    }
+
+    private int compareQualifiers(String firstVersionQualifier, String secondVersionQualifier) {
+        if (firstVersionQualifier == null || secondVersionQualifier == null) {
+            return compareMissingQualifiers(firstVersionQualifier, secondVersionQualifier);
+        }
+        return compareStrictSemanticPrerelease(firstVersionQualifier, secondVersionQualifier);
+    }
+
+    /**
+     * Compares strict semantic pre-release identifiers according to SemVer precedence rules.
+     *
+     * @param firstVersionQualifier The first qualifier to compare.
+     * @param secondVersionQualifier The second qualifier to compare.
+     *
+     * @return An integer indicating whether the first qualifier is greater (1), equal (0),
+     * or lesser (-1) than the second qualifier.
+     */
+    private int compareStrictSemanticPrerelease(String firstVersionQualifier, String secondVersionQualifier) {
+        String[] firstIdentifiers = firstVersionQualifier.split("\\.");
+        String[] secondIdentifiers = secondVersionQualifier.split("\\.");
+        int commonIdentifiersCount = Math.min(firstIdentifiers.length, secondIdentifiers.length);
+
+        for (int i = 0; i < commonIdentifiersCount; i++) {
+            String firstIdentifier = firstIdentifiers[i];
+            String secondIdentifier = secondIdentifiers[i];
+            boolean firstNumeric = isNumericIdentifier(firstIdentifier);
+            boolean secondNumeric = isNumericIdentifier(secondIdentifier);
+
+            if (firstNumeric && secondNumeric) {
+                int lengthComparison = Integer.compare(firstIdentifier.length(), secondIdentifier.length());
+                if (lengthComparison != 0) {
+                    return lengthComparison;
+                }
+
+                int lexicalNumericComparison = Integer.signum(firstIdentifier.compareTo(secondIdentifier));
+                if (lexicalNumericComparison != 0) {
+                    return lexicalNumericComparison;
+                }
+            } else if (firstNumeric != secondNumeric) {
+                return firstNumeric ? -1 : 1;
+            } else {
+                int lexicalComparison = Integer.signum(firstIdentifier.compareTo(secondIdentifier));
+                if (lexicalComparison != 0) {
+                    return lexicalComparison;
+                }
+            }
+        }
+
+        return Integer.compare(firstIdentifiers.length, secondIdentifiers.length);
+    }
+
+    /**
+     * Checks if an identifier contains only numeric characters.
+     *
+     * @param identifier The identifier to check.
+     *
+     * @return true if the identifier is numeric, false otherwise.
+     */
+    private boolean isNumericIdentifier(String identifier) {
+        return identifier.matches("\\d+");
+    }
+
+    /**
+     * Writes the pre-release identifiers following SemVer precedence rules:
+     * numeric identifiers by length, then by digits, before alphanumeric ones,
+     * and fewer identifiers before more.
+     *
+     * @param qualifier The pre-release qualifier.
+     * @param key The writer of the key.
+     */
+    private void writeStrictSemanticPrerelease(String qualifier, VersionKeyWriter key) {
+        int start = 0;
+        while (start < qualifier.length()) {
+            int end = qualifier.indexOf('.', start);
+            if (end < 0) {
+                end = qualifier.length();
+            }
+
+            if (TokenUtils.skipDigits(qualifier, start, end) == end && end > start) {
+                key.writeByte(NUMERIC_IDENTIFIER);
+                key.writeSizedText(qualifier, start, end);
+            } else {
+                key.writeByte(ALPHANUMERIC_IDENTIFIER);
+                key.writeText(qualifier, start, end);
+            }
+            start = end + 1;
+        }
+        key.writeByte(END_OF_IDENTIFIERS);
+    }
+}
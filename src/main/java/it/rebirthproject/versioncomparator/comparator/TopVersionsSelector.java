@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Selects the K newest or oldest versions of a sequence, for example the last
+ * five releases of an artifact, without sorting the whole sequence.
+ *
+ * Every version is parsed once and the selected ones are kept in a bounded
+ * heap whose root is the worst of them, so a version that is not selected is
+ * discarded after a single comparison and the memory used does not depend on
+ * the length of the sequence. Among versions comparing as equal, the ones
+ * added first are preferred.
+ *
+ * A selector is not thread-safe. Split inputs can be processed in parallel
+ * with one selector each, then combined with
+ * {@link #merge(TopVersionsSelector)}.
+ */
+public final class TopVersionsSelector {
+
+    private final VersionComparator versionComparator;
+    private final int limit;
+    /**
+     * True when the newest versions are selected, false for the oldest ones.
+     */
+    private final boolean newest;
+    /**
+     * The order in which the versions are returned, best first.
+     */
+    private final Comparator<ComparableVersion> order;
+    /**
+     * The selected versions, whose head is the worst one.
+     */
+    private final PriorityQueue<ComparableVersion> heap;
+
+    private TopVersionsSelector(VersionComparator versionComparator, int limit, boolean newest) throws IllegalArgumentException {
+        if (versionComparator == null) {
+            throw new IllegalArgumentException("The version comparator cannot be null");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("The number of versions to select must be positive: " + limit);
+        }
+        this.versionComparator = versionComparator;
+        this.limit = limit;
+        this.newest = newest;
+        this.order = newest ? Comparator.reverseOrder() : Comparator.naturalOrder();
+        this.heap = new PriorityQueue<>(Math.min(limit, 1024) + 1, order.reversed());
+    }
+
+    /**
+     * Creates a selector of the newest versions.
+     *
+     * @param versionComparator the comparator that parses and orders the
+     * versions.
+     * @param limit the number of versions to select.
+     * @return the selector.
+     * @throws IllegalArgumentException if the comparator is null or the limit
+     * is not positive.
+     */
+    public static TopVersionsSelector newest(VersionComparator versionComparator, int limit) throws IllegalArgumentException {
+        return new TopVersionsSelector(versionComparator, limit, true);
+    }
+
+    /**
+     * Creates a selector of the oldest versions.
+     *
+     * @param versionComparator the comparator that parses and orders the
+     * versions.
+     * @param limit the number of versions to select.
+     * @return the selector.
+     * @throws IllegalArgumentException if the comparator is null or the limit
+     * is not positive.
+     */
+    public static TopVersionsSelector oldest(VersionComparator versionComparator, int limit) throws IllegalArgumentException {
+        return new TopVersionsSelector(versionComparator, limit, false);
+    }
+
+    /**
+     * Parses a version and selects it if it is among the best ones seen so
+     * far.
+     *
+     * @param version the string formatted version.
+     * @return this selector.
+     * @throws IllegalArgumentException if the version is not valid.
+     */
+    public TopVersionsSelector add(String version) throws IllegalArgumentException {
+        return add(versionComparator.parse(version));
+    }
+
+    /**
+     * Selects a parsed version if it is among the best ones seen so far.
+     *
+     * @param version the version, parsed by a comparator of the selector's
+     * mode.
+     * @return this selector.
+     * @throws IllegalArgumentException if the version was parsed by a
+     * comparator of another mode.
+     */
+    public TopVersionsSelector add(ComparableVersion version) throws IllegalArgumentException {
+        if (heap.size() < limit) {
+            heap.add(version);
+        } else if (order.compare(version, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(version);
+        }
+        return this;
+    }
+
+    /**
+     * Parses and selects every version of a sequence.
+     *
+     * @param versions the string formatted versions.
+     * @return this selector.
+     * @throws IllegalArgumentException if a version is not valid.
+     */
+    public TopVersionsSelector addAll(Iterable<String> versions) throws IllegalArgumentException {
+        for (String version : versions) {
+            add(version);
+        }
+        return this;
+    }
+
+    /**
+     * Combines the versions selected by another selector, for example one
+     * that processed another part of the input in parallel, with the ones
+     * selected by this selector.
+     *
+     * @param other a selector of the same direction and limit.
+     * @return this selector.
+     * @throws IllegalArgumentException if the other selector selects in
+     * another direction or a different number of versions.
+     */
+    public TopVersionsSelector merge(TopVersionsSelector other) throws IllegalArgumentException {
+        if (other.newest != newest || other.limit != limit) {
+            throw new IllegalArgumentException("Cannot merge selectors of different directions or limits");
+        }
+        for (ComparableVersion version : other.getVersions()) {
+            add(version);
+        }
+        return this;
+    }
+
+    /**
+     *
+     * @return the selected versions, best first: newest first for a selector
+     * of the newest versions, oldest first otherwise.
+     */
+    public List<ComparableVersion> getVersions() {
+        List<ComparableVersion> versions = new ArrayList<>(heap);
+        versions.sort(order);
+        return Collections.unmodifiableList(versions);
+    }
+}
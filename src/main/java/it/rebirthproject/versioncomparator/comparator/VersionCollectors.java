@@ -0,0 +1,223 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * {@link Collector}s that aggregate streams of versions in string format.
+ *
+ * Unlike {@code stream.max(comparator)} or {@code stream.sorted(comparator)},
+ * that parse both versions on every comparison, these collectors parse each
+ * version once, with {@link VersionComparator#parse(String)}, and then work
+ * on the parsed {@link ComparableVersion}s. They can be used on parallel
+ * streams: every part of the stream is parsed by its own thread and the
+ * partial results are merged. An invalid version makes the collection throw
+ * an {@link IllegalArgumentException}.
+ *
+ * Among versions comparing as equal, the first one in encounter order is
+ * chosen, as by {@link java.util.stream.Stream#max(Comparator)}.
+ */
+public final class VersionCollectors {
+
+    private VersionCollectors() {
+    }
+
+    /**
+     * Creates a collector of the newest version.
+     *
+     * @param versionComparator the comparator that parses and orders the
+     * versions.
+     * @return a collector of the newest version, or of an empty optional if
+     * there are no versions.
+     * @throws IllegalArgumentException if the comparator is null.
+     */
+    public static Collector<String, ?, Optional<String>> maxVersion(VersionComparator versionComparator) throws IllegalArgumentException {
+        return parsing(versionComparator, Collectors.collectingAndThen(Collectors.maxBy(Comparator.<ComparableVersion>naturalOrder()),
+                version -> version.map(ComparableVersion::getOriginalVersion)));
+    }
+
+    /**
+     * Creates a collector of the oldest version.
+     *
+     * @param versionComparator the comparator that parses and orders the
+     * versions.
+     * @return a collector of the oldest version, or of an empty optional if
+     * there are no versions.
+     * @throws IllegalArgumentException if the comparator is null.
+     */
+    public static Collector<String, ?, Optional<String>> minVersion(VersionComparator versionComparator) throws IllegalArgumentException {
+        return parsing(versionComparator, Collectors.collectingAndThen(Collectors.minBy(Comparator.<ComparableVersion>naturalOrder()),
+                version -> version.map(ComparableVersion::getOriginalVersion)));
+    }
+
+    /**
+     * Creates a collector of the versions sorted from the oldest to the
+     * newest. Versions comparing as equal keep their encounter order. The
+     * parsed versions are sorted with {@link Arrays#parallelSort(Object[])},
+     * so large inputs are sorted on all the cores.
+     *
+     * @param versionComparator the comparator that parses and orders the
+     * versions.
+     * @return a collector of a new list of the sorted versions.
+     * @throws IllegalArgumentException if the comparator is null.
+     */
+    public static Collector<String, ?, List<String>> toSortedList(VersionComparator versionComparator) throws IllegalArgumentException {
+        return parsing(versionComparator, Collectors.collectingAndThen(Collectors.toCollection(ArrayList::new), VersionCollectors::sort));
+    }
+
+    /**
+     * Creates a collector grouping the versions by major version, for
+     * example "1" for the versions 1.0.0 and 1.2.0-RC. With the Maven rules
+     * the major version is the first number, {@code 0} if the version starts
+     * with a qualifier.
+     *
+     * @param versionComparator the comparator that parses the versions.
+     * @return a collector of the versions of each major version, in
+     * encounter order.
+     * @throws IllegalArgumentException if the comparator is null.
+     */
+    public static Collector<String, ?, Map<String, List<String>>> groupingByMajor(VersionComparator versionComparator) throws IllegalArgumentException {
+        return groupingByMajor(versionComparator, originalVersions());
+    }
+
+    /**
+     * Same as {@link #groupingByMajor(VersionComparator)}, with a downstream
+     * collector of the parsed versions of each group, for example
+     * {@code Collectors.maxBy(Comparator.<ComparableVersion>naturalOrder())} for the newest
+     * version of each major version.
+     *
+     * @param <A> the accumulation type of the downstream collector.
+     * @param <D> the result type of the downstream collector.
+     * @param versionComparator the comparator that parses the versions.
+     * @param downstream the collector of the versions of a group.
+     * @return a collector of the result of the downstream collector for each
+     * major version.
+     * @throws IllegalArgumentException if the comparator or the downstream
+     * collector is null.
+     */
+    public static <A, D> Collector<String, ?, Map<String, D>> groupingByMajor(VersionComparator versionComparator,
+            Collector<? super ComparableVersion, A, D> downstream) throws IllegalArgumentException {
+        return groupingByReleaseLine(versionComparator, 1, downstream);
+    }
+
+    /**
+     * Creates a collector grouping the versions by major and minor version,
+     * for example "1.2" for the versions 1.2.0 and 1.2.5-RC. With the Maven
+     * rules the numbers are the leading ones separated by dots, a missing
+     * number being {@code 0}, so {@code 1} and {@code 1.0-rc1} are both in
+     * "1.0".
+     *
+     * @param versionComparator the comparator that parses the versions.
+     * @return a collector of the versions of each release line, in encounter
+     * order.
+     * @throws IllegalArgumentException if the comparator is null.
+     */
+    public static Collector<String, ?, Map<String, List<String>>> groupingByMajorMinor(VersionComparator versionComparator) throws IllegalArgumentException {
+        return groupingByMajorMinor(versionComparator, originalVersions());
+    }
+
+    /**
+     * Same as {@link #groupingByMajorMinor(VersionComparator)}, with a
+     * downstream collector of the parsed versions of each group.
+     *
+     * @param <A> the accumulation type of the downstream collector.
+     * @param <D> the result type of the downstream collector.
+     * @param versionComparator the comparator that parses the versions.
+     * @param downstream the collector of the versions of a group.
+     * @return a collector of the result of the downstream collector for each
+     * release line.
+     * @throws IllegalArgumentException if the comparator or the downstream
+     * collector is null.
+     */
+    public static <A, D> Collector<String, ?, Map<String, D>> groupingByMajorMinor(VersionComparator versionComparator,
+            Collector<? super ComparableVersion, A, D> downstream) throws IllegalArgumentException {
+        return groupingByReleaseLine(versionComparator, 2, downstream);
+    }
+
+    /**
+     * Creates a collector partitioning the versions into pre-releases, under
+     * the key true, and stable versions, under the key false. Pre-releases
+     * are the versions rejected by {@link ReleaseTypeFilter#withoutPreReleases()}:
+     * snapshots, pre-alpha, alpha, beta, milestone and RC versions. Versions
+     * whose qualifier names no known release type are stable.
+     *
+     * @param versionComparator the comparator that parses the versions.
+     * @return a collector of the pre-releases and of the stable versions, in
+     * encounter order.
+     * @throws IllegalArgumentException if the comparator is null.
+     */
+    public static Collector<String, ?, Map<Boolean, List<String>>> partitioningByPreRelease(VersionComparator versionComparator) throws IllegalArgumentException {
+        ReleaseTypeFilter stableVersions = ReleaseTypeFilter.withoutPreReleases();
+        return parsing(versionComparator, Collectors.partitioningBy(version -> !stableVersions.test(version), originalVersions()));
+    }
+
+    /**
+     * Creates a collector counting the distinct versions, two versions being
+     * the same when they compare as equal, as the Maven versions "1.0" and
+     * "1".
+     *
+     * @param versionComparator the comparator that parses the versions.
+     * @return a collector of the number of distinct versions.
+     * @throws IllegalArgumentException if the comparator is null.
+     */
+    public static Collector<String, ?, Long> countingDistinct(VersionComparator versionComparator) throws IllegalArgumentException {
+        return parsing(versionComparator, Collectors.collectingAndThen(Collectors.toSet(), versions -> (long) versions.size()));
+    }
+
+    private static <A, D> Collector<String, ?, Map<String, D>> groupingByReleaseLine(VersionComparator versionComparator, int parts,
+            Collector<? super ComparableVersion, A, D> downstream) throws IllegalArgumentException {
+        if (downstream == null) {
+            throw new IllegalArgumentException("The downstream collector cannot be null");
+        }
+        return parsing(versionComparator, Collectors.groupingBy(version -> version.releaseLine(parts), downstream));
+    }
+
+    /**
+     * Adapts a collector of parsed versions to the versions in string format,
+     * parsing each of them once.
+     */
+    private static <A, R> Collector<String, ?, R> parsing(VersionComparator versionComparator, Collector<ComparableVersion, A, R> downstream)
+            throws IllegalArgumentException {
+        if (versionComparator == null) {
+            throw new IllegalArgumentException("The version comparator cannot be null");
+        }
+        Function<String, ComparableVersion> parser = versionComparator::parse;
+        return Collectors.mapping(parser, downstream);
+    }
+
+    private static Collector<ComparableVersion, ?, List<String>> originalVersions() {
+        return Collectors.mapping(ComparableVersion::getOriginalVersion, Collectors.toList());
+    }
+
+    private static List<String> sort(List<ComparableVersion> versions) {
+        ComparableVersion[] sortedVersions = versions.toArray(new ComparableVersion[0]);
+        Arrays.parallelSort(sortedVersions);
+        List<String> sortedList = new ArrayList<>(sortedVersions.length);
+        for (ComparableVersion version : sortedVersions) {
+            sortedList.add(version.getOriginalVersion());
+        }
+        return sortedList;
+    }
+}
@@ -15,14 +15,36 @@
  */
 package it.rebirthproject.versioncomparator.comparator;
 
-import it.rebirthproject.versioncomparator.version.Version;
+import it.rebirthproject.versioncomparator.model.Version;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Comparator;
+import java.util.Optional;
 
 /**
  * This class is used to compare two versions in String format.
+ *
+ * Only {@link #compare(String, String)} must be implemented. The other
+ * methods have default implementations built on it, so comparators written
+ * outside this library keep working; the comparators built by
+ * {@link VersionComparatorBuilder} override all of them with faster
+ * versions. Parsing and keys need the library's parsed versions, so their
+ * default implementations throw {@link UnsupportedOperationException}.
  */
 public interface VersionComparator extends Comparator<String> {
 
+    /**
+     * The result of {@link #tryCompare(String, String)} when the first
+     * version, or both versions, do not match the parser's rules.
+     */
+    public static final int INVALID_FIRST_VERSION = Integer.MIN_VALUE;
+
+    /**
+     * The result of {@link #tryCompare(String, String)} when only the second
+     * version does not match the parser's rules.
+     */
+    public static final int INVALID_SECOND_VERSION = Integer.MIN_VALUE + 1;
+
     /**
      * The main method used to compare two string formatted versions. It parses
      * the versions' strings into valid {@link Version} And if no error occurs
@@ -41,4 +63,199 @@ public interface VersionComparator extends Comparator<String> {
      */
     @Override
     public int compare(String version1, String version2) throws IllegalArgumentException;
+
+    /**
+     * Compares two versions held by any character sequence, such as reused
+     * {@link StringBuilder}s, with the same rules as
+     * {@link #compare(String, String)}. The library's parsers read the
+     * sequences directly, without copying them into strings, unless the
+     * comparator has a parse cache or an interning pool, which are keyed by
+     * strings. The default implementation compares string copies of the
+     * sequences.
+     *
+     * @param version1 The first version to compare.
+     * @param version2 The second version to compare.
+     *
+     * @return An integer indicating whether the first version is greater (1),
+     * equal (0), or lesser (-1) than the second version.
+     * @throws IllegalArgumentException if a version does not match the
+     * parser's rules.
+     */
+    public default int compare(CharSequence version1, CharSequence version2) throws IllegalArgumentException {
+        return compare(version1 == null ? null : version1.toString(), version2 == null ? null : version2.toString());
+    }
+
+    /**
+     * Compares two versions encoded in UTF-8 in slices of byte arrays, such
+     * as network or file buffers, with the same rules as
+     * {@link #compare(String, String)}. Versions made of ASCII characters are
+     * read in place, the others are decoded first. The default
+     * implementation decodes both versions into strings.
+     *
+     * @param version1 the array holding the first version.
+     * @param offset1 the index of the first byte of the first version.
+     * @param length1 the number of bytes of the first version.
+     * @param version2 the array holding the second version.
+     * @param offset2 the index of the first byte of the second version.
+     * @param length2 the number of bytes of the second version.
+     *
+     * @return An integer indicating whether the first version is greater (1),
+     * equal (0), or lesser (-1) than the second version.
+     * @throws IllegalArgumentException if an array is null or a version does
+     * not match the parser's rules.
+     * @throws IndexOutOfBoundsException if a slice is not inside its array.
+     */
+    public default int compareUtf8(byte[] version1, int offset1, int length1, byte[] version2, int offset2, int length2) throws IllegalArgumentException {
+        if (version1 == null || version2 == null) {
+            throw new IllegalArgumentException("The version bytes cannot be null");
+        }
+        return compare(new String(version1, offset1, length1, StandardCharsets.UTF_8), new String(version2, offset2, length2, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Compares two versions encoded in UTF-8 in the remaining bytes of two
+     * buffers, with the same rules as {@link #compare(String, String)}.
+     * Versions made of ASCII characters are read in place, the others are
+     * decoded first. The buffers' positions are not changed. The default
+     * implementation decodes both versions into strings.
+     *
+     * @param version1 the buffer holding the first version.
+     * @param version2 the buffer holding the second version.
+     *
+     * @return An integer indicating whether the first version is greater (1),
+     * equal (0), or lesser (-1) than the second version.
+     * @throws IllegalArgumentException if a buffer is null or a version does
+     * not match the parser's rules.
+     */
+    public default int compareUtf8(ByteBuffer version1, ByteBuffer version2) throws IllegalArgumentException {
+        if (version1 == null || version2 == null) {
+            throw new IllegalArgumentException("The version buffers cannot be null");
+        }
+        return compare(StandardCharsets.UTF_8.decode(version1.duplicate()).toString(), StandardCharsets.UTF_8.decode(version2.duplicate()).toString());
+    }
+
+    /**
+     * Compares two string formatted versions like {@link #compare}, without
+     * throwing when a version does not match the parser's rules. It is meant
+     * for input where invalid versions are common, since rejecting a version
+     * costs no exception. The result must be checked against the invalid
+     * constants before its sign, as both are negative. The default
+     * implementation catches the exception of {@link #compare}, then compares
+     * the first version with itself to find which version was rejected.
+     *
+     * @param version1 The first version to compare.
+     * @param version2 The second version to compare.
+     *
+     * @return 1, 0 or -1 as {@link #compare}, or
+     * {@link #INVALID_FIRST_VERSION} or {@link #INVALID_SECOND_VERSION} if a
+     * version is null or does not match the parser's rules.
+     */
+    public default int tryCompare(String version1, String version2) {
+        try {
+            return Integer.signum(compare(version1, version2));
+        } catch (IllegalArgumentException ex) {
+            try {
+                compare(version1, version1);
+                return INVALID_SECOND_VERSION;
+            } catch (IllegalArgumentException firstEx) {
+                return INVALID_FIRST_VERSION;
+            }
+        }
+    }
+
+    /**
+     * Parses a string formatted version once into a {@link ComparableVersion}
+     * that keeps the comparison-ready form of the version. Comparing two
+     * {@link ComparableVersion}s gives the same result as {@link #compare}
+     * on their strings, without parsing them again.
+     *
+     * @param version The version to parse.
+     *
+     * @return the parsed version.
+     * @throws IllegalArgumentException if the string version does not match
+     * the parser's rules.
+     * @throws UnsupportedOperationException if the comparator was not built
+     * by {@link VersionComparatorBuilder}.
+     */
+    public default ComparableVersion parse(String version) throws IllegalArgumentException {
+        throw new UnsupportedOperationException("Parsing is supported only by comparators built by VersionComparatorBuilder");
+    }
+
+    /**
+     * Parses a string formatted version like {@link #parse(String)}, without
+     * throwing when the version does not match the parser's rules.
+     *
+     * @param version The version to parse, null included.
+     *
+     * @return the parsed version, or the error and its position.
+     * @throws UnsupportedOperationException if the comparator was not built
+     * by {@link VersionComparatorBuilder}.
+     */
+    public default VersionParseResult tryParse(String version) {
+        throw new UnsupportedOperationException("Parsing is supported only by comparators built by VersionComparatorBuilder");
+    }
+
+    /**
+     * Encodes a string formatted version into a key whose unsigned
+     * lexicographic byte order, see {@link VersionKeys#compare}, is the order
+     * of this comparator, so versions can be kept sorted in key-value stores
+     * or off-heap arrays and compared without this comparator. Versions
+     * comparing as equal have equal keys, except for the combinations below.
+     *
+     * The rules of the semantic and Maven modes are not transitive for a few
+     * qualifier combinations (for example with the relaxed semantic mode
+     * "1.0.0-GA" is lesser than "1.0.0", that is lesser than "1.0.0-STABLE",
+     * that is lesser than "1.0.0-GA"). Keys always define a total order, so
+     * for those combinations they follow the comparison with the release
+     * version, as described by each comparator. A few of those versions
+     * compare as equal but get different keys. With the relaxed semantic
+     * mode, "1.0.0-final" and "1.0.0-release" compare as equal, but only the
+     * first is greater than "1.0.0". With the Maven mode, qualifiers after
+     * different separators compare as equal, as in "10cr.milestone" and
+     * "10cr_sp". Keys created by comparators of different modes must not be
+     * compared.
+     *
+     * @param version The version to encode.
+     *
+     * @return the key of the version.
+     * @throws IllegalArgumentException if the string version does not match
+     * the parser's rules.
+     * @throws UnsupportedOperationException if the comparator was not built
+     * by {@link VersionComparatorBuilder}.
+     */
+    public default byte[] toKey(String version) throws IllegalArgumentException {
+        throw new UnsupportedOperationException("Keys are supported only by comparators built by VersionComparatorBuilder");
+    }
+
+    /**
+     * Writes the key of a string formatted version, see
+     * {@link #toKey(String)}, at the current position of a buffer. The
+     * default implementation writes the array returned by
+     * {@link #toKey(String)}.
+     *
+     * @param version The version to encode.
+     * @param target The buffer where the key is written.
+     *
+     * @throws IllegalArgumentException if the string version does not match
+     * the parser's rules.
+     * @throws java.nio.BufferOverflowException if the key does not fit in the
+     * remaining space of the buffer.
+     * @throws UnsupportedOperationException if the comparator was not built
+     * by {@link VersionComparatorBuilder}.
+     */
+    public default void writeKey(String version, ByteBuffer target) throws IllegalArgumentException {
+        target.put(toKey(version));
+    }
+
+    /**
+     * Takes a snapshot of the parse cache counters.
+     *
+     * @return the statistics of the parse cache, or an empty optional if the
+     * comparator was built without
+     * {@link VersionComparatorBuilder#withParseCache(int)} or not by
+     * {@link VersionComparatorBuilder} at all.
+     */
+    public default Optional<ParseCacheStatistics> getParseCacheStatistics() {
+        return Optional.empty();
+    }
 }
@@ -15,15 +15,23 @@
  */
 package it.rebirthproject.versioncomparator.comparator;
 
+import it.rebirthproject.versioncomparator.metrics.VersionMetricsListener;
+import it.rebirthproject.versioncomparator.parser.CachingVersionParser;
+import it.rebirthproject.versioncomparator.parser.InterningVersionParser;
 import it.rebirthproject.versioncomparator.parser.MavenRulesVersionParser;
+import it.rebirthproject.versioncomparator.parser.MeteredVersionParser;
 import it.rebirthproject.versioncomparator.parser.MinimalVersionParser;
 import it.rebirthproject.versioncomparator.parser.RelaxedSemanticVersionParser;
 import it.rebirthproject.versioncomparator.parser.StrictSemanticVersionParser;
 import it.rebirthproject.versioncomparator.parser.VersionMatchingParserType;
+import it.rebirthproject.versioncomparator.parser.VersionParser;
+import it.rebirthproject.versioncomparator.utils.TokenUtils;
+import it.rebirthproject.versioncomparator.version.VersionReleaseTypes;
+import java.util.ArrayList;
+import java.util.List;
 import static it.rebirthproject.versioncomparator.parser.VersionMatchingParserType.MAVEN_SPECS_VERSION;
 import static it.rebirthproject.versioncomparator.parser.VersionMatchingParserType.MINIMAL_LENGTH_VERSION;
 import static it.rebirthproject.versioncomparator.parser.VersionMatchingParserType.STRICT_SEMANTIC_VERSION_STANDARD;
-import it.rebirthproject.versioncomparator.utils.MavenRulesVersionPadder;
 
 /**
  * A builder which can be used to create an {@link StandardVersionComparator}
@@ -33,10 +41,36 @@ public final class VersionComparatorBuilder {
     /**
      * The type {@link VersionMatchingParserType} of parser used to check if a
      * String corresponds to a formal
-     * {@link  it.rebirthproject.versioncomparator.version.Version}.
+     * {@link  it.rebirthproject.versioncomparator.model.Version}.
      */
     private VersionMatchingParserType versionMatchingParserType = VersionMatchingParserType.RELAXED_SEMANTIC_VERSION;
 
+    /**
+     * The maximum number of parsed versions kept by the parse cache. Zero
+     * means that the cache is disabled.
+     */
+    private int parseCacheMaxEntries = 0;
+
+    /**
+     * A boolean that states if equal versions are parsed into a single shared
+     * instance.
+     */
+    private boolean interning = false;
+
+    /**
+     * The listener of the parsing and comparison measures, or null if the
+     * comparator is not measured.
+     */
+    private VersionMetricsListener metricsListener;
+
+    /**
+     * The names of the custom qualifiers, in registration order, and their
+     * priorities.
+     */
+    private final List<String> qualifierNames = new ArrayList<>();
+    private final List<Integer> qualifierSemanticPriorities = new ArrayList<>();
+    private final List<Integer> qualifierMavenPriorities = new ArrayList<>();
+
     /**
      * Sets the {@link #versionMatchingParserType} attribute to minimal version
      * parser.
@@ -73,10 +107,115 @@ public final class VersionComparatorBuilder {
         return this;
     }
     
+    /**
+     * Enables a thread-safe, bounded cache of parsed versions, shared by all
+     * the users of the built comparator. It pays off when the same versions
+     * are compared over and over. The cache counters are available through
+     * {@link VersionComparator#getParseCacheStatistics()}.
+     *
+     * @param maxEntries the maximum number of parsed versions kept by the
+     * cache.
+     * @return The {@link VersionComparatorBuilder} instance configured with the
+     * parse cache.
+     * @throws IllegalArgumentException if maxEntries is not positive.
+     */
+    public VersionComparatorBuilder withParseCache(int maxEntries) throws IllegalArgumentException {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Invalid parse cache size: " + maxEntries + ". The size must be greater than zero");
+        }
+        this.parseCacheMaxEntries = maxEntries;
+        return this;
+    }
+
+    /**
+     * Enables an interning pool of parsed versions: while a parsed version is
+     * in use, parsing an equal string returns the same shared instance, and
+     * the known qualifiers such as SNAPSHOT or RC are shared constants. The
+     * pool holds its versions through weak references, so it never keeps
+     * alive a version that is no longer used. It pays off when many
+     * {@link ComparableVersion}s of a few distinct versions are kept in
+     * memory, and it can be combined with the parse cache.
+     *
+     * @return The {@link VersionComparatorBuilder} instance configured with the
+     * interning pool.
+     */
+    public VersionComparatorBuilder withInterning() {
+        this.interning = true;
+        return this;
+    }
+
+    /**
+     * Registers a listener of the parsing and comparison measures: the
+     * latency of every parse and comparison, the rejected versions and, if the
+     * parse cache is enabled, its hits and misses. A comparator built without
+     * a listener does not measure anything.
+     *
+     * @param metricsListener the listener, for example a
+     * {@link it.rebirthproject.versioncomparator.metrics.VersionMetricsRecorder}.
+     * @return The {@link VersionComparatorBuilder} instance configured with the
+     * metrics listener.
+     * @throws IllegalArgumentException if the listener is null.
+     */
+    public VersionComparatorBuilder withMetricsListener(VersionMetricsListener metricsListener) throws IllegalArgumentException {
+        if (metricsListener == null) {
+            throw new IllegalArgumentException("The metrics listener cannot be null");
+        }
+        this.metricsListener = metricsListener;
+        return this;
+    }
+
+    /**
+     * Registers a custom qualifier, such as "nightly" or "hotfix", that the
+     * relaxed semantic and the Maven rules order as a known release type
+     * instead of comparing its text. The strict semantic rules follow the
+     * SemVer precedence and the minimal rules have no qualifiers, so they
+     * ignore it. The priorities are compared with the ones of the
+     * {@link it.rebirthproject.versioncomparator.version.VersionReleaseTypes},
+     * a greater priority meaning a greater version.
+     *
+     * @param name the qualifier, made of ASCII letters only, since the Maven
+     * rules split a qualifier where letters and digits meet and read
+     * underscores as separators, and the relaxed semantic rules reject
+     * underscores; its case is ignored.
+     * @param semanticPriority the priority with the relaxed semantic rules.
+     * @param mavenPriority the priority with the Maven rules.
+     * @return The {@link VersionComparatorBuilder} instance configured with the
+     * custom qualifier.
+     * @throws IllegalArgumentException if the name is not valid or is already
+     * known, or if a priority is negative or greater than 15.
+     */
+    public VersionComparatorBuilder withQualifier(String name, int semanticPriority, int mavenPriority) throws IllegalArgumentException {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Invalid qualifier name: " + name + ". The name cannot be empty");
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (!TokenUtils.isAsciiLetter(name.charAt(i))) {
+                throw new IllegalArgumentException("Invalid qualifier name: " + name + ". The name can contain only ASCII letters");
+            }
+        }
+        if (VersionReleaseTypes.getValueOfReleaseTypes(name) != null) {
+            throw new IllegalArgumentException("The qualifier " + name + " is a release type");
+        }
+        for (String qualifierName : qualifierNames) {
+            if (qualifierName.equalsIgnoreCase(name)) {
+                throw new IllegalArgumentException("The qualifier " + name + " is already registered");
+            }
+        }
+        checkQualifierPriority(semanticPriority);
+        checkQualifierPriority(mavenPriority);
+
+        qualifierNames.add(name);
+        qualifierSemanticPriorities.add(semanticPriority);
+        qualifierMavenPriorities.add(mavenPriority);
+        return this;
+    }
+
     /**
      * Builds a {@link StandardVersionComparator} configured by
      * {@link VersionComparatorBuilder}'s properties eventually set or with
-     * pre-configured default values
+     * pre-configured default values. Each semantic mode has its own final
+     * comparator class, so the rules of the mode are fixed when the comparator
+     * is created instead of being chosen on every comparison.
      *
      * @return an {@link VersionComparator} instance
      *
@@ -84,13 +223,50 @@ public final class VersionComparatorBuilder {
     public VersionComparator build() {
         switch (versionMatchingParserType) {
             case MINIMAL_LENGTH_VERSION:
-                return new StandardVersionComparator(new MinimalVersionParser());
+                return new MinimalVersionComparator(configureParser(new MinimalVersionParser()), metricsListener);
             case STRICT_SEMANTIC_VERSION_STANDARD:
-                return new StandardVersionComparator(new StrictSemanticVersionParser());
+                return new StrictSemanticVersionComparator(configureParser(new StrictSemanticVersionParser()), metricsListener);
             case MAVEN_SPECS_VERSION:                
-                return new MavenRulesVersionComparator(new MavenRulesVersionParser(), new MavenRulesVersionPadder());
+                return new MavenRulesVersionComparator(configureParser(new MavenRulesVersionParser()), metricsListener, buildQualifierTable());
             default:
-                return new StandardVersionComparator(new RelaxedSemanticVersionParser());
+                return new RelaxedSemanticVersionComparator(configureParser(new RelaxedSemanticVersionParser()), metricsListener, buildQualifierTable());
+        }
+    }
+
+    private static void checkQualifierPriority(int priority) throws IllegalArgumentException {
+        if (priority < 0 || priority > QualifierTable.MAX_PRIORITY) {
+            throw new IllegalArgumentException("Invalid qualifier priority: " + priority + ". The priority must be between 0 and " + QualifierTable.MAX_PRIORITY);
+        }
+    }
+
+    /**
+     * @return the table of the release types and of the custom qualifiers,
+     * shared by every comparator without custom qualifiers.
+     */
+    private QualifierTable buildQualifierTable() {
+        if (qualifierNames.isEmpty()) {
+            return QualifierTable.RELEASE_TYPES;
+        }
+        return new QualifierTable(qualifierNames, qualifierSemanticPriorities, qualifierMavenPriorities);
+    }
+
+    /**
+     * Wraps the chosen parser with the optional features set on the builder.
+     *
+     * @param versionParser the parser of the chosen mode.
+     * @return the parser to use in the comparator.
+     */
+    private VersionParser configureParser(VersionParser versionParser) {
+        if (metricsListener != null) {
+            versionParser = new MeteredVersionParser(versionParser, metricsListener);
+        }
+        if (interning) {
+            //The cache, when enabled, wraps the pool so its entries are interned too
+            versionParser = new InterningVersionParser(versionParser);
+        }
+        if (parseCacheMaxEntries > 0) {
+            return new CachingVersionParser(versionParser, parseCacheMaxEntries, metricsListener);
         }
+        return versionParser;
     }
 }
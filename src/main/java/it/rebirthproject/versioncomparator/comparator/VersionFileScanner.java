@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import it.rebirthproject.versioncomparator.parser.VersionParser;
+import it.rebirthproject.versioncomparator.utils.ByteSlice;
+import it.rebirthproject.versioncomparator.utils.TokenUtils;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads files holding a version on each line, such as exported repository
+ * indexes, and checks every version with the rules of a comparator.
+ *
+ * The file is memory-mapped with {@link FileChannel#map} and every line is
+ * checked directly on the mapped bytes by the single-pass scanner of the
+ * comparator's parser, see {@link VersionParser#findInvalidIndex}, so no
+ * {@link String} is created for lines made of ASCII characters. Lines holding
+ * other characters are decoded from UTF-8 once, and the decoded line is given
+ * to the handler, so its characters and indexes are the real ones. The lines
+ * are given to a {@link VersionLineHandler}, which decides which ones to keep
+ * or parse. Lines end with {@code \n} or {@code \r\n} and empty lines are
+ * skipped. Files larger than 2 GB are mapped one region at a time.
+ */
+public final class VersionFileScanner {
+
+    /**
+     * The largest region that can be mapped at once.
+     */
+    private static final int MAX_REGION_SIZE = Integer.MAX_VALUE;
+
+    private final VersionParser versionParser;
+    /**
+     * The size of the regions mapped at once. A line cannot be longer.
+     */
+    private final int regionSize;
+
+    /**
+     * @param versionComparator a comparator built by
+     * {@link VersionComparatorBuilder}, whose rules are used to check the
+     * versions.
+     * @throws IllegalArgumentException if the comparator was not built by
+     * {@link VersionComparatorBuilder}.
+     */
+    public VersionFileScanner(VersionComparator versionComparator) throws IllegalArgumentException {
+        this(versionComparator, MAX_REGION_SIZE);
+    }
+
+    VersionFileScanner(VersionComparator versionComparator, int regionSize) throws IllegalArgumentException {
+        if (!(versionComparator instanceof AbstractVersionComparator)) {
+            throw new IllegalArgumentException("The version comparator must be built by VersionComparatorBuilder");
+        }
+        this.versionParser = ((AbstractVersionComparator) versionComparator).versionParser;
+        this.regionSize = regionSize;
+    }
+
+    /**
+     * Scans a file, giving every non empty line to the handler in the file's
+     * order.
+     *
+     * @param file the file, encoded in UTF-8.
+     * @param handler the handler of the lines.
+     * @return the number of valid versions.
+     * @throws IOException if the file cannot be read or a line is longer than
+     * 2 GB.
+     */
+    public long scan(Path file, VersionLineHandler handler) throws IOException {
+        ByteSlice line = new ByteSlice();
+        long validVersions = 0;
+        long lineNumber = 0;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            long regionStart = 0;
+            while (regionStart < fileSize) {
+                int regionLength = (int) Math.min(regionSize, fileSize - regionStart);
+                boolean lastRegion = regionStart + regionLength == fileSize;
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, regionStart, regionLength);
+
+                int lineStart = 0;
+                boolean ascii = true;
+                for (int i = 0; i <= regionLength; i++) {
+                    if (i == regionLength && !lastRegion) {
+                        break;
+                    }
+                    byte b = i < regionLength ? region.get(i) : (byte) '\n';
+                    if (b != '\n') {
+                        ascii &= b >= 0;
+                        continue;
+                    }
+
+                    lineNumber++;
+                    int lineEnd = i > lineStart && region.get(i - 1) == '\r' ? i - 1 : i;
+                    if (lineEnd > lineStart) {
+                        line.reset(region, lineStart, lineEnd);
+                        //Non ASCII lines are decoded, so the parsers and the handler see their real characters
+                        CharSequence text = ascii ? line : line.toString();
+                        int invalidIndex = versionParser.findInvalidIndex(text);
+                        if (invalidIndex == TokenUtils.NO_INVALID_INDEX) {
+                            validVersions++;
+                            handler.onVersion(lineNumber, text);
+                        } else {
+                            handler.onInvalidVersion(lineNumber, text, invalidIndex);
+                        }
+                    } else if (i == regionLength) {
+                        //A file ending with a line break has no empty last line
+                        lineNumber--;
+                    }
+                    lineStart = i + 1;
+                    ascii = true;
+                }
+
+                if (lastRegion) {
+                    break;
+                }
+                if (lineStart == 0) {
+                    throw new IOException("Line " + (lineNumber + 1) + " of " + file + " is longer than " + regionSize + " bytes");
+                }
+                regionStart += lineStart;
+            }
+        }
+        return validVersions;
+    }
+}
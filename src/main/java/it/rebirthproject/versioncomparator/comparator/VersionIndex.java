@@ -0,0 +1,258 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * An immutable, sorted set of versions answering navigation queries, like a
+ * read-only {@link java.util.NavigableSet}.
+ *
+ * The versions are parsed once when the index is built and stored with their
+ * order-preserving keys, see {@link VersionComparator#toKey(String)}, in an
+ * array sorted by key. A query parses its argument once and finds its place
+ * with a binary search over the keys, comparing bytes only. Versions
+ * comparing as equal, such as the Maven versions {@code 1.0} and {@code 1},
+ * are stored once, keeping the first one. The versions follow the order of
+ * the keys, which is the order of the comparator except for the few
+ * qualifier combinations where the comparator is not transitive. Some of
+ * those combinations compare as equal but have different keys, such as the
+ * relaxed semantic versions {@code 1.0.0-final} and {@code 1.0.0-release},
+ * so both are stored. An index
+ * can be shared between threads.
+ */
+public final class VersionIndex {
+
+    private final VersionComparator versionComparator;
+    /**
+     * The distinct versions, in ascending order.
+     */
+    private final ComparableVersion[] versions;
+    /**
+     * The key of each version.
+     */
+    private final byte[][] keys;
+
+    /**
+     * Builds the index of a collection of versions.
+     *
+     * @param versionComparator the comparator that parses and orders the
+     * versions.
+     * @param versions the string formatted versions, in any order.
+     * @throws IllegalArgumentException if the comparator is null or a version
+     * is not valid.
+     */
+    public VersionIndex(VersionComparator versionComparator, Collection<String> versions) throws IllegalArgumentException {
+        if (versionComparator == null) {
+            throw new IllegalArgumentException("The version comparator cannot be null");
+        }
+        this.versionComparator = versionComparator;
+
+        IndexedVersion[] indexedVersions = new IndexedVersion[versions.size()];
+        int count = 0;
+        for (String version : versions) {
+            ComparableVersion parsedVersion = versionComparator.parse(version);
+            indexedVersions[count++] = new IndexedVersion(parsedVersion, parsedVersion.toKey());
+        }
+        //The sort is stable, so the first of the equal versions comes first
+        Arrays.sort(indexedVersions, (first, second) -> VersionKeys.compare(first.key, second.key));
+
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || VersionKeys.compare(indexedVersions[distinct - 1].key, indexedVersions[i].key) != 0) {
+                indexedVersions[distinct++] = indexedVersions[i];
+            }
+        }
+        this.versions = new ComparableVersion[distinct];
+        this.keys = new byte[distinct][];
+        for (int i = 0; i < distinct; i++) {
+            this.versions[i] = indexedVersions[i].version;
+            this.keys[i] = indexedVersions[i].key;
+        }
+    }
+
+    /**
+     *
+     * @return the number of distinct versions.
+     */
+    public int size() {
+        return versions.length;
+    }
+
+    /**
+     *
+     * @return the distinct versions in ascending order, as an unmodifiable
+     * list.
+     */
+    public List<ComparableVersion> getVersions() {
+        return Collections.unmodifiableList(Arrays.asList(versions));
+    }
+
+    /**
+     *
+     * @param version the string formatted version.
+     * @return the greatest version lesser than or equal to the given one.
+     * @throws IllegalArgumentException if the version is not valid.
+     */
+    public Optional<ComparableVersion> floor(String version) throws IllegalArgumentException {
+        return versionAt(upperBound(keyOf(version)) - 1);
+    }
+
+    /**
+     *
+     * @param version the string formatted version.
+     * @return the greatest version strictly lesser than the given one.
+     * @throws IllegalArgumentException if the version is not valid.
+     */
+    public Optional<ComparableVersion> lower(String version) throws IllegalArgumentException {
+        return versionAt(lowerBound(keyOf(version)) - 1);
+    }
+
+    /**
+     *
+     * @param version the string formatted version.
+     * @return the least version greater than or equal to the given one.
+     * @throws IllegalArgumentException if the version is not valid.
+     */
+    public Optional<ComparableVersion> ceiling(String version) throws IllegalArgumentException {
+        return versionAt(lowerBound(keyOf(version)));
+    }
+
+    /**
+     *
+     * @param version the string formatted version.
+     * @return the least version strictly greater than the given one.
+     * @throws IllegalArgumentException if the version is not valid.
+     */
+    public Optional<ComparableVersion> higher(String version) throws IllegalArgumentException {
+        return versionAt(upperBound(keyOf(version)));
+    }
+
+    /**
+     *
+     * @param version the string formatted version.
+     * @return true if the index contains a version equal to the given one.
+     * @throws IllegalArgumentException if the version is not valid.
+     */
+    public boolean contains(String version) throws IllegalArgumentException {
+        byte[] key = keyOf(version);
+        int index = lowerBound(key);
+        return index < keys.length && VersionKeys.compare(keys[index], key) == 0;
+    }
+
+    /**
+     *
+     * @param version the string formatted version.
+     * @return the number of versions strictly lesser than the given one,
+     * which is the position of the version in the index when it is contained.
+     * @throws IllegalArgumentException if the version is not valid.
+     */
+    public int rank(String version) throws IllegalArgumentException {
+        return lowerBound(keyOf(version));
+    }
+
+    /**
+     * Selects the versions from a version, inclusive, to another, exclusive,
+     * as {@link java.util.NavigableSet#subSet(Object, Object)} does.
+     *
+     * @param fromVersion the string formatted lower bound, inclusive.
+     * @param toVersion the string formatted upper bound, exclusive.
+     * @return the versions of the range in ascending order, as an
+     * unmodifiable view of the index.
+     * @throws IllegalArgumentException if a version is not valid.
+     */
+    public List<ComparableVersion> subRange(String fromVersion, String toVersion) throws IllegalArgumentException {
+        return subRange(fromVersion, true, toVersion, false);
+    }
+
+    /**
+     * Selects the versions between two bounds. A range whose lower bound is
+     * greater than its upper bound is empty.
+     *
+     * @param fromVersion the string formatted lower bound.
+     * @param fromInclusive true if the lower bound is included.
+     * @param toVersion the string formatted upper bound.
+     * @param toInclusive true if the upper bound is included.
+     * @return the versions of the range in ascending order, as an
+     * unmodifiable view of the index.
+     * @throws IllegalArgumentException if a version is not valid.
+     */
+    public List<ComparableVersion> subRange(String fromVersion, boolean fromInclusive, String toVersion, boolean toInclusive) throws IllegalArgumentException {
+        byte[] fromKey = keyOf(fromVersion);
+        byte[] toKey = keyOf(toVersion);
+        int from = fromInclusive ? lowerBound(fromKey) : upperBound(fromKey);
+        int to = toInclusive ? upperBound(toKey) : lowerBound(toKey);
+        return from < to ? getVersions().subList(from, to) : Collections.emptyList();
+    }
+
+    private byte[] keyOf(String version) {
+        return versionComparator.toKey(version);
+    }
+
+    private Optional<ComparableVersion> versionAt(int index) {
+        return index >= 0 && index < versions.length ? Optional.of(versions[index]) : Optional.empty();
+    }
+
+    /**
+     * @return the index of the first key greater than or equal to the given
+     * one.
+     */
+    private int lowerBound(byte[] key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (VersionKeys.compare(keys[middle], key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the index of the first key strictly greater than the given one.
+     */
+    private int upperBound(byte[] key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (VersionKeys.compare(keys[middle], key) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static final class IndexedVersion {
+
+        private final ComparableVersion version;
+        private final byte[] key;
+
+        private IndexedVersion(ComparableVersion version, byte[] key) {
+            this.version = version;
+            this.key = key;
+        }
+    }
+}
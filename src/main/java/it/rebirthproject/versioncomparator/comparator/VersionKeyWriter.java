@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A growable buffer that writes the parts of a version key with encodings
+ * whose unsigned lexicographic byte order is the order of the values they
+ * encode.
+ *
+ * <ul>
+ * <li>A length is a single byte below 255, otherwise the byte 255 followed
+ * by the length in four bytes, so longer lengths always sort higher.</li>
+ * <li>A character is written as its UTF-16 code unit plus one, with the
+ * variable-length layout of UTF-8. The byte order is the order of the code
+ * units and the byte 0 never appears, so it can terminate a text.</li>
+ * <li>A number is the length of its decimal digits followed by the digits,
+ * leading zeros removed, so it is compared by magnitude first and does not
+ * need to fit in a long.</li>
+ * </ul>
+ */
+final class VersionKeyWriter {
+
+    /**
+     * The byte that ends a text, lower than any encoded character.
+     */
+    private static final int TEXT_TERMINATOR = 0;
+    private static final int LONG_LENGTH = 0xFF;
+
+    private byte[] bytes = new byte[32];
+    private int size;
+
+    void writeByte(int b) {
+        ensureCapacity(1);
+        bytes[size++] = (byte) b;
+    }
+
+    void writeLength(int length) {
+        if (length < LONG_LENGTH) {
+            writeByte(length);
+        } else {
+            writeByte(LONG_LENGTH);
+            writeByte(length >>> 24);
+            writeByte(length >>> 16);
+            writeByte(length >>> 8);
+            writeByte(length);
+        }
+    }
+
+    /**
+     * Writes a number. A negative number stands for an absent number part
+     * and is written as an empty number, lower than any other.
+     *
+     * @param number the number to write.
+     */
+    void writeNumber(long number) {
+        if (number < 0) {
+            writeLength(0);
+            return;
+        }
+
+        int digits = 1;
+        for (long rest = number / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        writeLength(digits);
+        ensureCapacity(digits);
+        for (int i = size + digits - 1; i >= size; i--) {
+            bytes[i] = (byte) ('0' + number % 10 + 1);
+            number /= 10;
+        }
+        size += digits;
+    }
+
+    /**
+     * Writes a number made of ASCII digits, ignoring its leading zeros.
+     *
+     * @param digits the digits of the number.
+     */
+    void writeNumber(CharSequence digits) {
+        int start = 0;
+        while (start < digits.length() - 1 && digits.charAt(start) == '0') {
+            start++;
+        }
+        writeSizedText(digits, start, digits.length());
+    }
+
+    /**
+     * Writes the length of a text followed by its characters, so shorter
+     * texts sort before longer ones whatever their characters are.
+     *
+     * @param text the text to write.
+     * @param start the index of the first character.
+     * @param end the index following the last character.
+     */
+    void writeSizedText(CharSequence text, int start, int end) {
+        writeLength(end - start);
+        for (int i = start; i < end; i++) {
+            writeChar(text.charAt(i));
+        }
+    }
+
+    /**
+     * Writes a terminated text, so a text sorts before all the texts it is a
+     * prefix of, as in {@link String#compareTo(String)}.
+     *
+     * @param text the text to write.
+     * @param start the index of the first character.
+     * @param end the index following the last character.
+     */
+    void writeText(CharSequence text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            writeChar(text.charAt(i));
+        }
+        writeByte(TEXT_TERMINATOR);
+    }
+
+    /**
+     * Writes a terminated text in the order of
+     * {@link String#compareToIgnoreCase(String)}, which compares the
+     * characters once converted to upper case and then to lower case.
+     *
+     * @param text the text to write.
+     */
+    void writeTextIgnoreCase(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            writeChar(Character.toLowerCase(Character.toUpperCase(text.charAt(i))));
+        }
+        writeByte(TEXT_TERMINATOR);
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    void writeTo(ByteBuffer target) {
+        target.put(bytes, 0, size);
+    }
+
+    private void writeChar(char c) {
+        int value = c + 1;
+        if (value < 0x80) {
+            writeByte(value);
+        } else if (value < 0x800) {
+            writeByte(0xC0 | (value >>> 6));
+            writeByte(0x80 | (value & 0x3F));
+        } else if (value < 0x10000) {
+            writeByte(0xE0 | (value >>> 12));
+            writeByte(0x80 | ((value >>> 6) & 0x3F));
+            writeByte(0x80 | (value & 0x3F));
+        } else {
+            writeByte(0xF0 | (value >>> 18));
+            writeByte(0x80 | ((value >>> 12) & 0x3F));
+            writeByte(0x80 | ((value >>> 6) & 0x3F));
+            writeByte(0x80 | (value & 0x3F));
+        }
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+/**
+ * Helpers for the order-preserving keys created by
+ * {@link VersionComparator#toKey(String)}.
+ */
+public final class VersionKeys {
+
+    private VersionKeys() {
+    }
+
+    /**
+     * Compares two keys as unsigned bytes in lexicographic order, as memcmp
+     * does: when a key is a prefix of the other, the shorter one comes first.
+     *
+     * @param key1 the first key.
+     * @param key2 the second key.
+     * @return An integer indicating whether the first key is greater (1),
+     * equal (0), or lesser (-1) than the second key.
+     */
+    public static int compare(byte[] key1, byte[] key2) {
+        int length = Math.min(key1.length, key2.length);
+        for (int i = 0; i < length; i++) {
+            int byteComparison = Integer.compare(key1[i] & 0xFF, key2[i] & 0xFF);
+            if (byteComparison != 0) {
+                return byteComparison;
+            }
+        }
+        return Integer.compare(key1.length, key2.length);
+    }
+}
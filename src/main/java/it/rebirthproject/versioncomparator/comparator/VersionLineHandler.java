@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+/**
+ * Receives the lines read by a {@link VersionFileScanner}.
+ *
+ * The lines are views over the scanned file, reused for the following lines,
+ * so they are valid only during the call. A line can be kept with
+ * {@link CharSequence#toString()}, which decodes it from UTF-8, and parsed
+ * with {@link VersionComparator#parse(String)}. Lines holding non ASCII
+ * characters are given already decoded, so {@link CharSequence#charAt(int)}
+ * always returns the real characters of the line.
+ */
+@FunctionalInterface
+public interface VersionLineHandler {
+
+    /**
+     * Called for every line holding a valid version.
+     *
+     * @param lineNumber the number of the line, starting from 1.
+     * @param version the version, valid only during the call.
+     */
+    public void onVersion(long lineNumber, CharSequence version);
+
+    /**
+     * Called for every non empty line that does not hold a valid version.
+     * The default implementation ignores the line.
+     *
+     * @param lineNumber the number of the line, starting from 1.
+     * @param line the line, valid only during the call.
+     * @param invalidIndex the index of the first character of {@code line}
+     * that breaks the parser's rules.
+     */
+    public default void onInvalidVersion(long lineNumber, CharSequence line, int invalidIndex) {
+    }
+}
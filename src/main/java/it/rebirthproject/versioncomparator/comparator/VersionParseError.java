@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+/**
+ * The reason why a version does not match a comparator's rules, see
+ * {@link VersionParseResult#getError()}.
+ */
+public enum VersionParseError {
+    /**
+     * The version is null.
+     */
+    NULL_VERSION,
+    /**
+     * The version is empty or made only of blank characters.
+     */
+    BLANK_VERSION,
+    /**
+     * A character of the version breaks the rules, for example a letter in a
+     * number part or a repeated release type.
+     */
+    UNEXPECTED_CHARACTER,
+    /**
+     * The version ends before a mandatory part, for example "1.0" with the
+     * strict semantic rules.
+     */
+    UNEXPECTED_END;
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import java.util.Optional;
+
+/**
+ * The result of {@link VersionComparator#tryParse(String)}: either the parsed
+ * version, or the reason why the version was rejected and the position of
+ * the error. No exception is created for a rejected version unless
+ * {@link #getVersion()} is called.
+ */
+public final class VersionParseResult {
+
+    private final String originalVersion;
+    private final ComparableVersion version;
+    private final VersionParseError error;
+    private final int errorIndex;
+
+    private VersionParseResult(String originalVersion, ComparableVersion version, VersionParseError error, int errorIndex) {
+        this.originalVersion = originalVersion;
+        this.version = version;
+        this.error = error;
+        this.errorIndex = errorIndex;
+    }
+
+    static VersionParseResult valid(ComparableVersion version) {
+        return new VersionParseResult(version.getOriginalVersion(), version, null, -1);
+    }
+
+    static VersionParseResult invalid(String originalVersion, VersionParseError error, int errorIndex) {
+        return new VersionParseResult(originalVersion, null, error, errorIndex);
+    }
+
+    /**
+     *
+     * @return true if the version matches the comparator's rules.
+     */
+    public boolean isValid() {
+        return version != null;
+    }
+
+    /**
+     *
+     * @return the parsed version.
+     * @throws IllegalArgumentException if the version was rejected, with the
+     * same information as {@link #toString()}.
+     */
+    public ComparableVersion getVersion() throws IllegalArgumentException {
+        if (version == null) {
+            throw new IllegalArgumentException(toString());
+        }
+        return version;
+    }
+
+    /**
+     *
+     * @return the parsed version, or an empty optional if the version was
+     * rejected.
+     */
+    public Optional<ComparableVersion> toOptional() {
+        return Optional.ofNullable(version);
+    }
+
+    /**
+     *
+     * @return the version in string format, as given to the parser.
+     */
+    public String getOriginalVersion() {
+        return originalVersion;
+    }
+
+    /**
+     *
+     * @return the reason why the version was rejected, or null if the version
+     * is valid.
+     */
+    public VersionParseError getError() {
+        return error;
+    }
+
+    /**
+     *
+     * @return the index of the first character that breaks the rules (the
+     * version's length if the version is truncated or blank), or -1 if the
+     * version is valid.
+     */
+    public int getErrorIndex() {
+        return errorIndex;
+    }
+
+    @Override
+    public String toString() {
+        if (version != null) {
+            return originalVersion;
+        }
+        if (error == VersionParseError.NULL_VERSION) {
+            return "Invalid version: null";
+        }
+        return "Invalid version \"" + originalVersion + "\": " + error + " at index " + errorIndex;
+    }
+}
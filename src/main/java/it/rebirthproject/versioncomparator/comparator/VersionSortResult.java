@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import java.util.List;
+
+/**
+ * The result of a {@link VersionSorter} sort: the elements with a valid
+ * version in ascending order, and the elements whose version was rejected.
+ *
+ * @param <T> the type of the sorted elements.
+ */
+public final class VersionSortResult<T> {
+
+    private final List<T> sortedElements;
+    private final List<InvalidVersion<T>> invalidElements;
+
+    VersionSortResult(List<T> sortedElements, List<InvalidVersion<T>> invalidElements) {
+        this.sortedElements = sortedElements;
+        this.invalidElements = invalidElements;
+    }
+
+    /**
+     * Elements whose versions compare as equal keep their input order.
+     *
+     * @return the unmodifiable list of the elements with a valid version,
+     * sorted in ascending order.
+     */
+    public List<T> getSortedElements() {
+        return sortedElements;
+    }
+
+    /**
+     *
+     * @return the unmodifiable list of the elements with an invalid version,
+     * in input order.
+     */
+    public List<InvalidVersion<T>> getInvalidElements() {
+        return invalidElements;
+    }
+
+    /**
+     *
+     * @return true if every element had a valid version.
+     */
+    public boolean isAllValid() {
+        return invalidElements.isEmpty();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Sorts large lists of versions in parallel, parsing every version exactly
+ * once.
+ *
+ * The versions are parsed in parallel into {@link ComparableVersion}s, then
+ * sorted with {@link Arrays#parallelSort(Object[], java.util.Comparator)},
+ * which is stable, so elements whose versions compare as equal keep their
+ * input order. Elements whose version does not match the comparator's rules
+ * do not abort the sort: they are returned apart in the
+ * {@link VersionSortResult}.
+ */
+public final class VersionSorter {
+
+    /**
+     * The comparator whose rules are used to parse and sort the versions.
+     */
+    private final VersionComparator versionComparator;
+
+    /**
+     * @param versionComparator the comparator whose rules are used to parse
+     * and sort the versions.
+     * @throws IllegalArgumentException if the comparator is null.
+     */
+    public VersionSorter(VersionComparator versionComparator) throws IllegalArgumentException {
+        if (versionComparator == null) {
+            throw new IllegalArgumentException("The version comparator cannot be null");
+        }
+        this.versionComparator = versionComparator;
+    }
+
+    /**
+     * Sorts a list of string formatted versions. The list is not modified.
+     *
+     * @param versions the versions to sort.
+     * @return the sorted valid versions and the invalid ones.
+     */
+    public VersionSortResult<String> sort(List<String> versions) {
+        return sort(versions, Function.identity());
+    }
+
+    /**
+     * Sorts an array of string formatted versions. The array is not
+     * modified.
+     *
+     * @param versions the versions to sort.
+     * @return the sorted valid versions and the invalid ones.
+     */
+    public VersionSortResult<String> sort(String[] versions) {
+        return sort(Arrays.asList(versions));
+    }
+
+    /**
+     * Sorts a list of elements by their version. The list is not modified.
+     *
+     * @param <T> the type of the elements.
+     * @param elements the elements to sort.
+     * @param versionExtractor the function, called once per element and
+     * possibly from several threads, that returns the string formatted
+     * version of an element.
+     * @return the elements with a valid version in ascending order and the
+     * elements with an invalid one.
+     */
+    public <T> VersionSortResult<T> sort(List<? extends T> elements, Function<? super T, String> versionExtractor) {
+        List<? extends T> input = new ArrayList<>(elements);
+        @SuppressWarnings("unchecked")
+        ParsedElement<T>[] parsedElements = (ParsedElement<T>[]) new ParsedElement<?>[input.size()];
+        IntStream.range(0, parsedElements.length).parallel()
+                .forEach(i -> parsedElements[i] = parse(input.get(i), versionExtractor));
+
+        int validCount = 0;
+        List<InvalidVersion<T>> invalidElements = new ArrayList<>();
+        for (ParsedElement<T> parsedElement : parsedElements) {
+            if (parsedElement.version == null) {
+                invalidElements.add(new InvalidVersion<>(parsedElement.element, parsedElement.parseResult));
+            } else {
+                parsedElements[validCount++] = parsedElement;
+            }
+        }
+
+        ParsedElement<T>[] validElements = Arrays.copyOf(parsedElements, validCount);
+        Arrays.parallelSort(validElements, (first, second) -> first.version.compareTo(second.version));
+
+        List<T> sortedElements = new ArrayList<>(validCount);
+        for (ParsedElement<T> validElement : validElements) {
+            sortedElements.add(validElement.element);
+        }
+        return new VersionSortResult<>(Collections.unmodifiableList(sortedElements), Collections.unmodifiableList(invalidElements));
+    }
+
+    private <T> ParsedElement<T> parse(T element, Function<? super T, String> versionExtractor) {
+        //Invalid versions are rejected without an exception, they can be a large part of dirty inputs
+        VersionParseResult parseResult = versionComparator.tryParse(versionExtractor.apply(element));
+        return new ParsedElement<>(element, parseResult.isValid() ? parseResult.getVersion() : null, parseResult);
+    }
+
+    /**
+     * An element with its parsed version, or with the reason why its version
+     * was rejected.
+     */
+    private static final class ParsedElement<T> {
+
+        private final T element;
+        private final ComparableVersion version;
+        private final VersionParseResult parseResult;
+
+        private ParsedElement(T element, ComparableVersion version, VersionParseResult parseResult) {
+            this.element = element;
+            this.version = version;
+            this.parseResult = parseResult;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import it.rebirthproject.versioncomparator.parser.VersionParser;
+import it.rebirthproject.versioncomparator.utils.ByteSlice;
+import it.rebirthproject.versioncomparator.utils.TokenUtils;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Checks many versions at once with the rules of a comparator, for example to
+ * reject malformed versions before storing them.
+ *
+ * Every version is checked by the single-pass scanner of the comparator's
+ * parser, see {@link VersionParser#findInvalidIndex}, so neither parsed
+ * versions nor exceptions are created. Large inputs are split in blocks
+ * checked in parallel on a {@link ForkJoinPool}; every block fills its own
+ * words of the resulting bit set, so the blocks share no mutable state.
+ */
+public final class VersionValidator {
+
+    /**
+     * The number of versions checked by a single task, a multiple of 64 so
+     * that every task owns whole words of the bit set.
+     */
+    static final int BLOCK_SIZE = 4096;
+
+    private final VersionParser versionParser;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a validator running on the common fork-join pool.
+     *
+     * @param versionComparator a comparator built by
+     * {@link VersionComparatorBuilder}, whose rules are used to check the
+     * versions.
+     * @throws IllegalArgumentException if the comparator was not built by
+     * {@link VersionComparatorBuilder}.
+     */
+    public VersionValidator(VersionComparator versionComparator) throws IllegalArgumentException {
+        this(versionComparator, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param versionComparator a comparator built by
+     * {@link VersionComparatorBuilder}, whose rules are used to check the
+     * versions.
+     * @param pool the pool checking the blocks of large inputs.
+     * @throws IllegalArgumentException if the comparator was not built by
+     * {@link VersionComparatorBuilder} or the pool is null.
+     */
+    public VersionValidator(VersionComparator versionComparator, ForkJoinPool pool) throws IllegalArgumentException {
+        if (!(versionComparator instanceof AbstractVersionComparator)) {
+            throw new IllegalArgumentException("The version comparator must be built by VersionComparatorBuilder");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("The fork-join pool cannot be null");
+        }
+        this.versionParser = ((AbstractVersionComparator) versionComparator).versionParser;
+        this.pool = pool;
+    }
+
+    /**
+     * Checks an array of versions.
+     *
+     * @param versions the versions to check, null entries included.
+     * @return a bit set where the bit of index i is set if the version of
+     * index i matches the comparator's rules.
+     */
+    public BitSet validate(String[] versions) {
+        return validate(versions.length, (index, line) -> versions[index]);
+    }
+
+    /**
+     * Checks a list of versions. The list should support fast random access,
+     * as {@link java.util.ArrayList} does.
+     *
+     * @param versions the versions to check, null entries included.
+     * @return a bit set where the bit of index i is set if the version of
+     * index i matches the comparator's rules.
+     */
+    public BitSet validate(List<? extends CharSequence> versions) {
+        return validate(versions.size(), (index, line) -> versions.get(index));
+    }
+
+    /**
+     * Checks versions encoded in UTF-8, each one held by the remaining bytes
+     * of a buffer, for example slices of a larger buffer made with
+     * {@link ByteBuffer#slice()}. The versions made of ASCII bytes are checked
+     * in place, the others are decoded first. The buffers' positions are not
+     * changed.
+     *
+     * @param versions the buffers holding the versions, null entries
+     * included. The list should support fast random access.
+     * @return a bit set where the bit of index i is set if the version of
+     * index i matches the comparator's rules.
+     */
+    public BitSet validateUtf8(List<ByteBuffer> versions) {
+        return validate(versions.size(), (index, line) -> {
+            ByteBuffer buffer = versions.get(index);
+            if (buffer == null) {
+                return null;
+            }
+
+            line.reset(buffer, buffer.position(), buffer.limit());
+            return line.isAscii() ? line : line.toString();
+        });
+    }
+
+    private BitSet validate(int size, VersionSource source) {
+        long[] words = new long[(size + 63) / 64];
+        ValidationTask task = new ValidationTask(source, words, 0, size);
+        if (size <= BLOCK_SIZE) {
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+        return BitSet.valueOf(words);
+    }
+
+    private boolean isValid(CharSequence version) {
+        return version != null && versionParser.findInvalidIndex(version) == TokenUtils.NO_INVALID_INDEX;
+    }
+
+    /**
+     * Gives access to the version of an index. The line is a view owned by the
+     * calling task, that the source can reuse for byte slices.
+     */
+    @FunctionalInterface
+    private interface VersionSource {
+
+        CharSequence get(int index, ByteSlice line);
+    }
+
+    /**
+     * Checks a range of versions, splitting it in halves aligned on blocks
+     * until it is not larger than a block.
+     */
+    private final class ValidationTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient VersionSource source;
+        private final long[] words;
+        private final int start;
+        private final int end;
+
+        ValidationTask(VersionSource source, long[] words, int start, int end) {
+            this.source = source;
+            this.words = words;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= BLOCK_SIZE) {
+                ByteSlice line = new ByteSlice();
+                for (int i = start; i < end; i++) {
+                    if (isValid(source.get(i, line))) {
+                        words[i >>> 6] |= 1L << i;
+                    }
+                }
+                return;
+            }
+
+            int blocks = (end - start + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            int middle = start + blocks / 2 * BLOCK_SIZE;
+            invokeAll(new ValidationTask(source, words, start, middle), new ValidationTask(source, words, middle, end));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies with fixed, power of two buckets.
+ *
+ * The bucket 0 counts the latencies of 0 nanoseconds and the bucket i counts
+ * the latencies from 2<sup>i-1</sup> included to 2<sup>i</sup> excluded
+ * nanoseconds; the last bucket also counts all the longer latencies. Every
+ * bucket is a {@link LongAdder}, so concurrent threads recording latencies do
+ * not contend on a single counter. The precision is coarse, a factor of two,
+ * but recording costs a few instructions and the memory is constant.
+ */
+public final class LatencyHistogram {
+
+    /**
+     * The number of buckets. The last bucket starts at about 275 seconds.
+     */
+    public static final int BUCKET_COUNT = 40;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder totalNanos = new LongAdder();
+
+    /**
+     * Creates an empty histogram.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a latency. A negative latency, which a clock adjustment can
+     * cause, is recorded as 0.
+     *
+     * @param elapsedNanos the latency in nanoseconds.
+     */
+    public void record(long elapsedNanos) {
+        long nanos = Math.max(0, elapsedNanos);
+        buckets[Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(nanos))].increment();
+        totalNanos.add(nanos);
+    }
+
+    /**
+     *
+     * @return the number of recorded latencies.
+     */
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     *
+     * @return the sum of the recorded latencies, in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     *
+     * @param bucket the index of a bucket, from 0 to {@link #BUCKET_COUNT}
+     * excluded.
+     * @return the number of latencies recorded in the bucket.
+     */
+    public long getBucketCount(int bucket) {
+        return buckets[bucket].sum();
+    }
+
+    /**
+     *
+     * @param bucket the index of a bucket, from 0 to {@link #BUCKET_COUNT}
+     * excluded.
+     * @return the lowest latency, in nanoseconds, that is not counted by the
+     * bucket, or {@link Long#MAX_VALUE} for the last bucket.
+     */
+    public static long getBucketUpperBound(int bucket) {
+        return bucket == BUCKET_COUNT - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+
+    /**
+     * Estimates a percentile of the recorded latencies. The buckets are read
+     * one by one while latencies may be recorded, so the result is
+     * approximate under concurrent updates.
+     *
+     * @param percentile the percentile, greater than 0 and at most 100.
+     * @return the upper bound of the bucket that contains the percentile, or
+     * 0 if no latency has been recorded.
+     * @throws IllegalArgumentException if the percentile is not valid.
+     */
+    public long getPercentileUpperBound(double percentile) throws IllegalArgumentException {
+        if (!(percentile > 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Invalid percentile: " + percentile + ". The percentile must be greater than 0 and at most 100");
+        }
+
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(count * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return getBucketUpperBound(i);
+            }
+        }
+        return getBucketUpperBound(BUCKET_COUNT - 1);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.metrics;
+
+/**
+ * Receives the measures of a comparator's parsing and comparisons. A listener
+ * is registered with
+ * {@code VersionComparatorBuilder#withMetricsListener(VersionMetricsListener)};
+ * a comparator built without a listener does not measure anything.
+ *
+ * The methods are called on the thread that parses or compares, so they must
+ * be thread-safe and fast. Every method does nothing by default, so a
+ * listener implements only the measures it needs. The parser type is the
+ * name of the rules applied by the comparator: MINIMAL_LENGTH_VERSION,
+ * STRICT_SEMANTIC_VERSION_STANDARD, RELAXED_SEMANTIC_VERSION or
+ * MAVEN_SPECS_VERSION.
+ *
+ * @see VersionMetricsRecorder
+ */
+public interface VersionMetricsListener {
+
+    /**
+     * Called after a version has been parsed. Versions served by the parse
+     * cache or by the interning pool are not parsed again.
+     *
+     * @param parserType the name of the parser's rules.
+     * @param elapsedNanos the time spent parsing, in nanoseconds.
+     */
+    public default void onParse(String parserType, long elapsedNanos) {
+    }
+
+    /**
+     * Called after a version has been rejected by the parser.
+     *
+     * @param parserType the name of the parser's rules.
+     * @param elapsedNanos the time spent before the rejection, in nanoseconds.
+     */
+    public default void onParseFailure(String parserType, long elapsedNanos) {
+    }
+
+    /**
+     * Called after two version strings have been compared. Comparisons that
+     * fail because a version is not valid are reported only as parse
+     * failures.
+     *
+     * @param parserType the name of the comparator's rules.
+     * @param elapsedNanos the time spent parsing and comparing both versions,
+     * in nanoseconds.
+     */
+    public default void onCompare(String parserType, long elapsedNanos) {
+    }
+
+    /**
+     * Called when a version is served by the parse cache.
+     *
+     * @param parserType the name of the parser's rules.
+     */
+    public default void onCacheHit(String parserType) {
+    }
+
+    /**
+     * Called when a version is not found in the parse cache.
+     *
+     * @param parserType the name of the parser's rules.
+     */
+    public default void onCacheMiss(String parserType) {
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.metrics;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free {@link VersionMetricsListener} that keeps the measures in
+ * memory, so they can be exported to any monitoring system. The counters are
+ * {@link LongAdder}s, striped between the threads that update them, and the
+ * latencies are kept in {@link LatencyHistogram}s. A recorder can be shared
+ * by several comparators: the counters are kept by parser type, the
+ * latencies of all the parser types share the same histograms.
+ */
+public final class VersionMetricsRecorder implements VersionMetricsListener {
+
+    private final ConcurrentMap<String, ParserTypeCounters> counters = new ConcurrentHashMap<>();
+    private final LatencyHistogram parseLatency = new LatencyHistogram();
+    private final LatencyHistogram compareLatency = new LatencyHistogram();
+
+    @Override
+    public void onParse(String parserType, long elapsedNanos) {
+        countersOf(parserType).parseCount.increment();
+        parseLatency.record(elapsedNanos);
+    }
+
+    @Override
+    public void onParseFailure(String parserType, long elapsedNanos) {
+        countersOf(parserType).parseFailureCount.increment();
+        parseLatency.record(elapsedNanos);
+    }
+
+    @Override
+    public void onCompare(String parserType, long elapsedNanos) {
+        countersOf(parserType).compareCount.increment();
+        compareLatency.record(elapsedNanos);
+    }
+
+    @Override
+    public void onCacheHit(String parserType) {
+        countersOf(parserType).cacheHitCount.increment();
+    }
+
+    @Override
+    public void onCacheMiss(String parserType) {
+        countersOf(parserType).cacheMissCount.increment();
+    }
+
+    /**
+     *
+     * @return the names of the parser types measured so far.
+     */
+    public Set<String> getParserTypes() {
+        return Collections.unmodifiableSet(counters.keySet());
+    }
+
+    /**
+     *
+     * @param parserType the name of a parser type.
+     * @return the number of versions parsed successfully.
+     */
+    public long getParseCount(String parserType) {
+        ParserTypeCounters parserTypeCounters = counters.get(parserType);
+        return parserTypeCounters == null ? 0 : parserTypeCounters.parseCount.sum();
+    }
+
+    /**
+     *
+     * @param parserType the name of a parser type.
+     * @return the number of versions rejected by the parser.
+     */
+    public long getParseFailureCount(String parserType) {
+        ParserTypeCounters parserTypeCounters = counters.get(parserType);
+        return parserTypeCounters == null ? 0 : parserTypeCounters.parseFailureCount.sum();
+    }
+
+    /**
+     *
+     * @param parserType the name of a parser type.
+     * @return the number of successful comparisons.
+     */
+    public long getCompareCount(String parserType) {
+        ParserTypeCounters parserTypeCounters = counters.get(parserType);
+        return parserTypeCounters == null ? 0 : parserTypeCounters.compareCount.sum();
+    }
+
+    /**
+     *
+     * @param parserType the name of a parser type.
+     * @return the number of versions served by the parse cache.
+     */
+    public long getCacheHitCount(String parserType) {
+        ParserTypeCounters parserTypeCounters = counters.get(parserType);
+        return parserTypeCounters == null ? 0 : parserTypeCounters.cacheHitCount.sum();
+    }
+
+    /**
+     *
+     * @param parserType the name of a parser type.
+     * @return the number of versions not found in the parse cache.
+     */
+    public long getCacheMissCount(String parserType) {
+        ParserTypeCounters parserTypeCounters = counters.get(parserType);
+        return parserTypeCounters == null ? 0 : parserTypeCounters.cacheMissCount.sum();
+    }
+
+    /**
+     *
+     * @return the latencies of the successful and failed parses.
+     */
+    public LatencyHistogram getParseLatency() {
+        return parseLatency;
+    }
+
+    /**
+     *
+     * @return the latencies of the successful comparisons.
+     */
+    public LatencyHistogram getCompareLatency() {
+        return compareLatency;
+    }
+
+    private ParserTypeCounters countersOf(String parserType) {
+        //A plain get first, computeIfAbsent may lock the bin even when the counters exist
+        ParserTypeCounters parserTypeCounters = counters.get(parserType);
+        return parserTypeCounters != null ? parserTypeCounters : counters.computeIfAbsent(parserType, type -> new ParserTypeCounters());
+    }
+
+    /**
+     * The counters of a parser type.
+     */
+    private static final class ParserTypeCounters {
+
+        private final LongAdder parseCount = new LongAdder();
+        private final LongAdder parseFailureCount = new LongAdder();
+        private final LongAdder compareCount = new LongAdder();
+        private final LongAdder cacheHitCount = new LongAdder();
+        private final LongAdder cacheMissCount = new LongAdder();
+    }
+}
@@ -13,7 +13,7 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package it.rebirthproject.versioncomparator.version;
+package it.rebirthproject.versioncomparator.model;
 
 public enum MavenCharType {
     DIGIT, LETTER, SEPARATOR
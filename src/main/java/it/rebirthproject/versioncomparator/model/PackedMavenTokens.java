@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.model;
+
+import it.rebirthproject.versioncomparator.utils.TokenUtils;
+import it.rebirthproject.versioncomparator.version.VersionReleaseTypes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The compact, immutable form of a Maven version's token list.
+ *
+ * Tokens at even indexes are values and tokens at odd indexes are separators,
+ * as in the list produced by the Maven parser. The kind of every token is
+ * stored in a byte: separators need nothing else, numbers that fit in a long
+ * are stored as primitives and qualifiers carry the ordinal of their release
+ * type, so a comparison never has to look at their text unless both
+ * qualifiers are unknown. The original text of a value is kept only when it
+ * cannot be rebuilt from the primitive form, and the spellings of the known
+ * release types are shared between all the versions.
+ */
+public final class PackedMavenTokens {
+
+    private static final byte HYPHEN = 0;
+    private static final byte FULLSTOP = 1;
+    /**
+     * A number whose value, leading zeros ignored, fits in a long.
+     */
+    private static final byte NUMBER = 2;
+    /**
+     * A number too large for a long, compared through its text.
+     */
+    private static final byte LARGE_NUMBER = 3;
+    private static final byte UNKNOWN_QUALIFIER = 4;
+    /**
+     * The kind of a known qualifier is this value plus the ordinal of its
+     * release type.
+     */
+    private static final byte KNOWN_QUALIFIER = 5;
+
+    private static final String HYPHEN_TOKEN = MavenConstants.HYPHEN_SEPARATOR.toString();
+    private static final String FULLSTOP_TOKEN = MavenConstants.FULLSTOP_SEPARATOR.toString();
+    private static final VersionReleaseTypes[] RELEASE_TYPES = VersionReleaseTypes.values();
+
+    /**
+     * The kind of each token.
+     */
+    private final byte[] kinds;
+    /**
+     * The value of each numeric value token, indexed by value position.
+     */
+    private final long[] numbers;
+    /**
+     * The text of each value token that cannot be rebuilt from its number,
+     * indexed by value position, or null when every value is a plain number.
+     */
+    private final String[] texts;
+
+    private PackedMavenTokens(byte[] kinds, long[] numbers, String[] texts) {
+        this.kinds = kinds;
+        this.numbers = numbers;
+        this.texts = texts;
+    }
+
+    /**
+     * Packs a Maven token list.
+     *
+     * @param tokenList the tokens, alternating values and separators.
+     * @return the packed tokens.
+     */
+    public static PackedMavenTokens pack(List<String> tokenList) {
+        int size = tokenList.size();
+        byte[] kinds = new byte[size];
+        long[] numbers = new long[(size + 1) / 2];
+        String[] texts = null;
+
+        for (int i = 0; i < size; i++) {
+            String token = tokenList.get(i);
+            if (i % 2 == 1) {
+                kinds[i] = token.charAt(0) == MavenConstants.FULLSTOP_SEPARATOR ? FULLSTOP : HYPHEN;
+                continue;
+            }
+
+            String text = token;
+            if (TokenUtils.isNumber(token)) {
+                int start = skipLeadingZeros(token);
+                if (fitsInLong(token, start)) {
+                    kinds[i] = NUMBER;
+                    numbers[i / 2] = TokenUtils.parseNumber(token, start, token.length());
+                    text = start == 0 ? null : token;
+                } else {
+                    kinds[i] = LARGE_NUMBER;
+                }
+            } else {
+                VersionReleaseTypes releaseType = VersionReleaseTypes.getValueOfReleaseTypes(token);
+                if (releaseType == null) {
+                    kinds[i] = UNKNOWN_QUALIFIER;
+                } else {
+                    kinds[i] = (byte) (KNOWN_QUALIFIER + releaseType.ordinal());
+                    text = VersionReleaseTypes.canonicalSpelling(token);
+                }
+            }
+
+            if (text != null) {
+                if (texts == null) {
+                    texts = new String[numbers.length];
+                }
+                texts[i / 2] = text;
+            }
+        }
+        return new PackedMavenTokens(kinds, numbers, texts);
+    }
+
+    /**
+     *
+     * @return the number of tokens, separators included.
+     */
+    public int size() {
+        return kinds.length;
+    }
+
+    /**
+     *
+     * @param index the index of a separator token.
+     * @return the separator character.
+     */
+    public char separatorAt(int index) {
+        return kinds[index] == FULLSTOP ? MavenConstants.FULLSTOP_SEPARATOR : MavenConstants.HYPHEN_SEPARATOR;
+    }
+
+    /**
+     *
+     * @param index the index of a value token.
+     * @return true if the token is made only of ASCII digits.
+     */
+    public boolean isNumber(int index) {
+        return kinds[index] == NUMBER || kinds[index] == LARGE_NUMBER;
+    }
+
+    /**
+     *
+     * @param index the index of a value token.
+     * @return true if the token is a number too large for
+     * {@link #numberAt(int)}.
+     */
+    public boolean isLargeNumber(int index) {
+        return kinds[index] == LARGE_NUMBER;
+    }
+
+    /**
+     *
+     * @param index the index of a numeric value token.
+     * @return the value of the number, leading zeros ignored.
+     */
+    public long numberAt(int index) {
+        return numbers[index / 2];
+    }
+
+    /**
+     *
+     * @param index the index of a value token.
+     * @return true if the first character of the token is a digit, in any
+     * script.
+     */
+    public boolean startsWithDigit(int index) {
+        return isNumber(index) || Character.isDigit(texts[index / 2].charAt(0));
+    }
+
+    /**
+     *
+     * @param index the index of a value token.
+     * @return the release type of a known qualifier, or null for numbers and
+     * unknown qualifiers.
+     */
+    public VersionReleaseTypes releaseTypeAt(int index) {
+        int ordinal = kinds[index] - KNOWN_QUALIFIER;
+        return ordinal >= 0 ? RELEASE_TYPES[ordinal] : null;
+    }
+
+    /**
+     *
+     * @param index the index of a token.
+     * @return the text of the token as it was parsed.
+     */
+    public String tokenAt(int index) {
+        switch (kinds[index]) {
+            case HYPHEN:
+                return HYPHEN_TOKEN;
+            case FULLSTOP:
+                return FULLSTOP_TOKEN;
+            default:
+                String text = texts == null ? null : texts[index / 2];
+                return text != null ? text : Long.toString(numbers[index / 2]);
+        }
+    }
+
+    /**
+     * Rebuilds the token list.
+     *
+     * @return a new unmodifiable list with the text of every token.
+     */
+    public List<String> toTokenList() {
+        List<String> tokenList = new ArrayList<>(kinds.length);
+        for (int i = 0; i < kinds.length; i++) {
+            tokenList.add(tokenAt(i));
+        }
+        return Collections.unmodifiableList(tokenList);
+    }
+
+    /**
+     * Returns the index of the first significant digit of a numeric token,
+     * skipping leading zeroes while preserving one zero for all-zero values.
+     *
+     * @param token The numeric token.
+     *
+     * @return The index where the normalized numeric token starts.
+     */
+    public static int skipLeadingZeros(String token) {
+        int index = 0;
+        while (index < token.length() - 1 && token.charAt(index) == '0') {
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean fitsInLong(String digits, int start) {
+        int length = digits.length() - start;
+        if (length != 19) {
+            return length < 19;
+        }
+        return digits.substring(start).compareTo(Long.toString(Long.MAX_VALUE)) <= 0;
+    }
+}
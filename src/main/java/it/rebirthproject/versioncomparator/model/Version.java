@@ -13,7 +13,7 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package it.rebirthproject.versioncomparator.version;
+package it.rebirthproject.versioncomparator.model;
 
 import java.util.List;
 
@@ -45,12 +45,26 @@ public class Version {
     /**
      * a boolean that states if the version is tokenized or not
      */
-    private boolean isTokenized = false;
+    private final boolean isTokenized;
 
     /**
-     * a tokenized list representing the version for Maven comparator
+     * the packed tokens representing the version for Maven comparator
      */
-    private List<String> tokenList = null;
+    private final PackedMavenTokens packedTokens;
+
+    /**
+     * The canonical contructor. All the fields are final, so a version can be
+     * safely shared between threads, for example by a parse cache.
+     */
+    private Version(long major, long minor, long patch, String qualifier, String buildMetadata, PackedMavenTokens packedTokens) {
+        this.major = major;
+        this.minor = minor;
+        this.patch = patch;
+        this.qualifier = qualifier;
+        this.buildMetadata = buildMetadata;
+        this.isTokenized = packedTokens != null;
+        this.packedTokens = packedTokens;
+    }
 
     /**
      * The semantic version's contructor.
@@ -62,11 +76,7 @@ public class Version {
      * @param buildMetadata the version's build metadata
      */
     public Version(long major, long minor, long patch, String qualifier, String buildMetadata) {
-        this.major = major;
-        this.minor = minor;
-        this.patch = patch;
-        this.qualifier = qualifier;
-        this.buildMetadata = buildMetadata;
+        this(major, minor, patch, qualifier, buildMetadata, null);
     }
 
     /**
@@ -93,14 +103,13 @@ public class Version {
     }
 
     /**
-     * The Maven version's contructor.
-     *
+     * The Maven version's contructor. The tokens are stored in their packed
+     * form, see {@link PackedMavenTokens}.
      *
+     * @param tokenList the version's tokens, alternating values and separators
      */
     public Version(List<String> tokenList) {
-        this(-1, -1, -1, "", "");
-        this.isTokenized = true;
-        this.tokenList = tokenList;
+        this(-1, -1, -1, "", "", PackedMavenTokens.pack(tokenList));
     }
 
     /**
@@ -152,10 +161,21 @@ public class Version {
     }
 
     /**
+     * Rebuilds the tokenized version from its packed form, so every call
+     * returns a new list.
      *
-     * @return the tokenized version.
+     * @return the tokenized version, or null if the version is not tokenized.
      */
     public List<String> getTokenList() {
-        return tokenList;
+        return packedTokens == null ? null : packedTokens.toTokenList();
+    }
+
+    /**
+     *
+     * @return the packed tokens of the version, or null if the version is not
+     * tokenized.
+     */
+    public PackedMavenTokens getPackedTokens() {
+        return packedTokens;
     }
 }
@@ -0,0 +1,328 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.parser;
+
+import it.rebirthproject.versioncomparator.metrics.VersionMetricsListener;
+import it.rebirthproject.versioncomparator.model.Version;
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe, bounded cache of parsed versions that wraps any
+ * {@link VersionParser}.
+ *
+ * The cache is split in independently locked segments, chosen by the
+ * version's hash, so concurrent comparators rarely contend for the same lock.
+ * Each segment applies a segmented LRU eviction policy: a version enters a
+ * probation area and is promoted to a protected area only when it is hit
+ * again. A burst of versions seen once can therefore evict only other
+ * probation entries, while the popular versions stay in the protected area.
+ *
+ * Versions that do not match the parser's rules are never cached: every
+ * attempt to parse them throws again.
+ */
+public class CachingVersionParser implements VersionParser {
+
+    /**
+     * The maximum number of segments, a power of two.
+     */
+    private static final int MAX_SEGMENTS = 16;
+
+    /**
+     * The minimum capacity of a segment, so small caches are not split in
+     * segments too small to protect any version.
+     */
+    private static final int MIN_SEGMENT_CAPACITY = 8;
+
+    /**
+     * The percentage of each segment reserved to the protected area.
+     */
+    private static final int PROTECTED_PERCENTAGE = 80;
+
+    private final VersionParser versionParser;
+    private final int maxEntries;
+    private final Segment[] segments;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    /**
+     * The listener of the cache hits and misses, or null if there is none.
+     */
+    private final VersionMetricsListener metricsListener;
+
+    /**
+     * @param versionParser the parser whose results are cached.
+     * @param maxEntries the maximum number of versions kept by the cache.
+     * @throws IllegalArgumentException if maxEntries is not positive.
+     */
+    public CachingVersionParser(VersionParser versionParser, int maxEntries) throws IllegalArgumentException {
+        this(versionParser, maxEntries, null);
+    }
+
+    /**
+     * @param versionParser the parser whose results are cached.
+     * @param maxEntries the maximum number of versions kept by the cache.
+     * @param metricsListener the listener of the cache hits and misses, or
+     * null if there is none.
+     * @throws IllegalArgumentException if maxEntries is not positive.
+     */
+    public CachingVersionParser(VersionParser versionParser, int maxEntries, VersionMetricsListener metricsListener) throws IllegalArgumentException {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Invalid parse cache size: " + maxEntries + ". The size must be greater than zero");
+        }
+
+        this.versionParser = versionParser;
+        this.maxEntries = maxEntries;
+        this.metricsListener = metricsListener;
+        int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, maxEntries / MIN_SEGMENT_CAPACITY)));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            //Spread the remainder on the first segments, so the capacities sum to maxEntries
+            int capacity = maxEntries / segmentCount + (i < maxEntries % segmentCount ? 1 : 0);
+            segments[i] = new Segment(capacity);
+        }
+    }
+
+    @Override
+    public VersionMatchingParserType getParserType() {
+        return versionParser.getParserType();
+    }
+
+    /**
+     * Returns the cached version if present, otherwise parses the version
+     * with the wrapped parser and caches the result.
+     *
+     * @param version the version in string format
+     * @return the parsed version, shared with the other callers that parse an
+     * equal string.
+     * @throws IllegalArgumentException if the string version does not match
+     * the wrapped parser's rules.
+     */
+    @Override
+    public Version parseVersion(String version) throws IllegalArgumentException {
+        if (version == null) {
+            return versionParser.parseVersion(version);
+        }
+
+        Segment segment = segmentFor(version);
+        Version cachedVersion = segment.get(version);
+        if (cachedVersion != null) {
+            hitCount.increment();
+            if (metricsListener != null) {
+                metricsListener.onCacheHit(versionParser.getParserType().name());
+            }
+            return cachedVersion;
+        }
+
+        missCount.increment();
+        if (metricsListener != null) {
+            metricsListener.onCacheMiss(versionParser.getParserType().name());
+        }
+        //The parsing happens outside the segment lock, so a slow parse never blocks the other callers
+        Version parsedVersion = versionParser.parseVersion(version);
+        if (segment.put(version, parsedVersion)) {
+            evictionCount.increment();
+        }
+        return parsedVersion;
+    }
+
+    /**
+     * Same as {@link #parseVersion(String)}, but rejected versions return null
+     * instead of throwing.
+     *
+     * @param version the version in string format
+     * @return the parsed version, or null if the version is null or does not
+     * match the wrapped parser's rules.
+     */
+    @Override
+    public Version tryParseVersion(String version) {
+        if (version == null) {
+            return null;
+        }
+
+        Segment segment = segmentFor(version);
+        Version cachedVersion = segment.get(version);
+        if (cachedVersion != null) {
+            hitCount.increment();
+            if (metricsListener != null) {
+                metricsListener.onCacheHit(versionParser.getParserType().name());
+            }
+            return cachedVersion;
+        }
+
+        missCount.increment();
+        if (metricsListener != null) {
+            metricsListener.onCacheMiss(versionParser.getParserType().name());
+        }
+        Version parsedVersion = versionParser.tryParseVersion(version);
+        if (parsedVersion != null && segment.put(version, parsedVersion)) {
+            evictionCount.increment();
+        }
+        return parsedVersion;
+    }
+
+    /**
+     * Parses a version held by any character sequence. The cache is keyed by
+     * strings, so the sequence is copied into a string first.
+     *
+     * @param version the version to parse.
+     * @return the parsed version.
+     * @throws IllegalArgumentException if the version does not match the
+     * wrapped parser's rules.
+     */
+    @Override
+    public Version parseVersion(CharSequence version) throws IllegalArgumentException {
+        return parseVersion(version == null ? null : version.toString());
+    }
+
+    @Override
+    public Version tryParseVersion(CharSequence version) {
+        return tryParseVersion(version == null ? null : version.toString());
+    }
+
+    /**
+     * Checks a version with the wrapped parser, without using the cache.
+     *
+     * @param version the version to check.
+     * @return the result of the wrapped parser.
+     */
+    @Override
+    public int findInvalidIndex(CharSequence version) {
+        return versionParser.findInvalidIndex(version);
+    }
+
+    /**
+     *
+     * @return the number of parse requests served by the cache.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     *
+     * @return the number of parse requests delegated to the wrapped parser.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     *
+     * @return the number of versions evicted to respect the cache bound.
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     *
+     * @return the maximum number of versions kept by the cache.
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     *
+     * @return the number of versions currently cached.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(String version) {
+        int hash = version.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    /**
+     * A segment of the cache, guarded by its own lock.
+     */
+    private static final class Segment {
+
+        private final int capacity;
+        private final int protectedCapacity;
+        /**
+         * The versions seen once. Both maps are kept in access order, so their
+         * first entry is the least recently used one.
+         */
+        private final LinkedHashMap<String, Version> probationEntries = new LinkedHashMap<>(16, 0.75f, true);
+        /**
+         * The versions hit at least once after entering the cache.
+         */
+        private final LinkedHashMap<String, Version> protectedEntries = new LinkedHashMap<>(16, 0.75f, true);
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+            this.protectedCapacity = capacity * PROTECTED_PERCENTAGE / 100;
+        }
+
+        synchronized Version get(String version) {
+            Version cachedVersion = protectedEntries.get(version);
+            if (cachedVersion != null) {
+                return cachedVersion;
+            }
+
+            cachedVersion = probationEntries.get(version);
+            if (cachedVersion != null && protectedCapacity > 0) {
+                probationEntries.remove(version);
+                protectedEntries.put(version, cachedVersion);
+                if (protectedEntries.size() > protectedCapacity) {
+                    //The least recently used protected version gets a second chance in probation
+                    Map.Entry<String, Version> demotedEntry = removeEldest(protectedEntries);
+                    probationEntries.put(demotedEntry.getKey(), demotedEntry.getValue());
+                }
+            }
+            return cachedVersion;
+        }
+
+        /**
+         * @return true if a version has been evicted to make room.
+         */
+        synchronized boolean put(String version, Version parsedVersion) {
+            //Another thread may have cached the same version while this one was parsing it
+            if (protectedEntries.containsKey(version) || probationEntries.containsKey(version)) {
+                return false;
+            }
+
+            probationEntries.put(version, parsedVersion);
+            if (probationEntries.size() + protectedEntries.size() > capacity) {
+                removeEldest(probationEntries);
+                return true;
+            }
+            return false;
+        }
+
+        synchronized int size() {
+            return probationEntries.size() + protectedEntries.size();
+        }
+
+        private static Map.Entry<String, Version> removeEldest(LinkedHashMap<String, Version> entries) {
+            Iterator<Map.Entry<String, Version>> iterator = entries.entrySet().iterator();
+            Map.Entry<String, Version> eldestEntry = new AbstractMap.SimpleImmutableEntry<>(iterator.next());
+            iterator.remove();
+            return eldestEntry;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.parser;
+
+import it.rebirthproject.versioncomparator.model.Version;
+import it.rebirthproject.versioncomparator.version.VersionReleaseTypes;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A thread-safe interning pool of parsed versions that wraps any
+ * {@link VersionParser}: equal version strings are parsed into a single
+ * shared {@link Version}, so an application holding many references to a few
+ * distinct versions keeps only one parsed copy of each.
+ *
+ * The pool holds its versions through weak references: a version that is no
+ * longer referenced outside the pool can be collected, and its entry is
+ * removed the next time the pool is updated. Unlike
+ * {@link CachingVersionParser} the pool is not bounded, its size follows the
+ * number of distinct versions in use.
+ *
+ * The qualifier and the build metadata of the semantic versions are interned
+ * too: the spellings of the known release types, such as SNAPSHOT or RC, are
+ * replaced by shared constants, see
+ * {@link VersionReleaseTypes#canonicalSpelling(String)}, and the other texts
+ * are shared between all the versions that hold an equal text.
+ *
+ * Versions that do not match the parser's rules are never interned: every
+ * attempt to parse them throws again.
+ */
+public class InterningVersionParser implements VersionParser {
+
+    /**
+     * The number of segments, a power of two.
+     */
+    private static final int SEGMENTS = 16;
+
+    private final VersionParser versionParser;
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    /**
+     * @param versionParser the parser whose results are interned.
+     */
+    public InterningVersionParser(VersionParser versionParser) {
+        this.versionParser = versionParser;
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    @Override
+    public VersionMatchingParserType getParserType() {
+        return versionParser.getParserType();
+    }
+
+    /**
+     * Returns the interned version if present, otherwise parses the version
+     * with the wrapped parser and interns the result.
+     *
+     * @param version the version in string format
+     * @return the parsed version, shared with the other callers that parse an
+     * equal string while it is in use.
+     * @throws IllegalArgumentException if the string version does not match
+     * the wrapped parser's rules.
+     */
+    @Override
+    public Version parseVersion(String version) throws IllegalArgumentException {
+        if (version == null) {
+            return versionParser.parseVersion(version);
+        }
+
+        Segment segment = segmentFor(version);
+        Version internedVersion = segment.getVersion(version);
+        if (internedVersion != null) {
+            return internedVersion;
+        }
+
+        //The parsing happens outside the segment lock, so a slow parse never blocks the other callers
+        return segment.putVersion(version, internStrings(versionParser.parseVersion(version)));
+    }
+
+    /**
+     * Same as {@link #parseVersion(String)}, but rejected versions return null
+     * instead of throwing.
+     *
+     * @param version the version in string format
+     * @return the parsed version, or null if the version is null or does not
+     * match the wrapped parser's rules.
+     */
+    @Override
+    public Version tryParseVersion(String version) {
+        if (version == null) {
+            return null;
+        }
+
+        Segment segment = segmentFor(version);
+        Version internedVersion = segment.getVersion(version);
+        if (internedVersion != null) {
+            return internedVersion;
+        }
+
+        Version parsedVersion = versionParser.tryParseVersion(version);
+        return parsedVersion == null ? null : segment.putVersion(version, internStrings(parsedVersion));
+    }
+
+    /**
+     * Parses a version held by any character sequence. The pool is keyed by
+     * strings, so the sequence is copied into a string first.
+     *
+     * @param version the version to parse.
+     * @return the parsed version.
+     * @throws IllegalArgumentException if the version does not match the
+     * wrapped parser's rules.
+     */
+    @Override
+    public Version parseVersion(CharSequence version) throws IllegalArgumentException {
+        return parseVersion(version == null ? null : version.toString());
+    }
+
+    @Override
+    public Version tryParseVersion(CharSequence version) {
+        return tryParseVersion(version == null ? null : version.toString());
+    }
+
+    /**
+     * Checks a version with the wrapped parser, without using the pool.
+     *
+     * @param version the version to check.
+     * @return the result of the wrapped parser.
+     */
+    @Override
+    public int findInvalidIndex(CharSequence version) {
+        return versionParser.findInvalidIndex(version);
+    }
+
+    /**
+     * Counts the interned versions, after removing the entries of the
+     * versions already collected. The result is only an estimate, since the
+     * garbage collector may clear other versions at any time.
+     *
+     * @return the number of interned versions.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Replaces the qualifier and the build metadata of a semantic version with
+     * their shared instances. The tokens of a Maven version already share the
+     * spellings of the known release types.
+     */
+    private Version internStrings(Version version) {
+        if (version.isIsTokenized()) {
+            return version;
+        }
+
+        String qualifier = internString(version.getQualifier());
+        String buildMetadata = internString(version.getBuildMetadata());
+        if (qualifier == version.getQualifier() && buildMetadata == version.getBuildMetadata()) {
+            return version;
+        }
+        return new Version(version.getMajor(), version.getMinor(), version.getPatch(), qualifier, buildMetadata);
+    }
+
+    private String internString(String text) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+
+        String spelling = VersionReleaseTypes.canonicalSpelling(text);
+        if (spelling != text) {
+            return spelling;
+        }
+        return segmentFor(text).internString(text);
+    }
+
+    private Segment segmentFor(String text) {
+        int hash = text.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    /**
+     * A weak reference to an interned version that remembers its version
+     * string, so its entry can be removed once the version is collected.
+     */
+    private static final class VersionReference extends WeakReference<Version> {
+
+        private final String version;
+
+        VersionReference(String version, Version parsedVersion, ReferenceQueue<Version> queue) {
+            super(parsedVersion, queue);
+            this.version = version;
+        }
+    }
+
+    /**
+     * A segment of the pool, guarded by its own lock.
+     */
+    private static final class Segment {
+
+        private final Map<String, VersionReference> versions = new HashMap<>();
+        private final ReferenceQueue<Version> collectedVersions = new ReferenceQueue<>();
+        /**
+         * The interned texts. The keys are weak, and the values are weak too
+         * since they refer to the keys.
+         */
+        private final WeakHashMap<String, WeakReference<String>> texts = new WeakHashMap<>();
+
+        synchronized Version getVersion(String version) {
+            VersionReference reference = versions.get(version);
+            return reference == null ? null : reference.get();
+        }
+
+        /**
+         * @return the version interned by another thread while this one was
+         * parsing it, otherwise the given version.
+         */
+        synchronized Version putVersion(String version, Version parsedVersion) {
+            removeCollectedVersions();
+            VersionReference reference = versions.get(version);
+            Version internedVersion = reference == null ? null : reference.get();
+            if (internedVersion != null) {
+                return internedVersion;
+            }
+
+            versions.put(version, new VersionReference(version, parsedVersion, collectedVersions));
+            return parsedVersion;
+        }
+
+        synchronized String internString(String text) {
+            WeakReference<String> reference = texts.get(text);
+            String internedText = reference == null ? null : reference.get();
+            if (internedText != null) {
+                return internedText;
+            }
+
+            texts.put(text, new WeakReference<>(text));
+            return text;
+        }
+
+        synchronized int size() {
+            removeCollectedVersions();
+            return versions.size();
+        }
+
+        private void removeCollectedVersions() {
+            Reference<? extends Version> reference;
+            while ((reference = collectedVersions.poll()) != null) {
+                VersionReference versionReference = (VersionReference) reference;
+                //The entry may already hold the reference of a version parsed again after the collection
+                versions.remove(versionReference.version, versionReference);
+            }
+        }
+    }
+}
@@ -15,36 +15,70 @@
  */
 package it.rebirthproject.versioncomparator.parser;
 
-import it.rebirthproject.versioncomparator.version.MavenConstants;
-import it.rebirthproject.versioncomparator.version.MavenCharType;
+import it.rebirthproject.versioncomparator.model.MavenCharType;
+import it.rebirthproject.versioncomparator.model.MavenConstants;
+import it.rebirthproject.versioncomparator.model.Version;
 import it.rebirthproject.versioncomparator.utils.TokenUtils;
-import it.rebirthproject.versioncomparator.version.Version;
 import java.util.ArrayList;
 import java.util.List;
 
 public class MavenRulesVersionParser implements VersionParser {
 
     @Override
-    public Version parseVersion(String version) throws IllegalArgumentException {
-        List<String> tokenList = new ArrayList<>();
-        StringBuilder token = new StringBuilder();
+    public VersionMatchingParserType getParserType() {
+        return VersionMatchingParserType.MAVEN_SPECS_VERSION;
+    }
 
-        if (version == null) {
-            throw new IllegalArgumentException("Invalid Maven version string format: version is \"" + version + "\"");
+    @Override
+    public Version parseVersion(String version) throws IllegalArgumentException {
+        Version parsedVersion = tryParseVersion(version);
+        if (parsedVersion == null) {
+            if (version == null) {
+                throw new IllegalArgumentException("Invalid Maven version string format: version is \"" + version + "\"");
+            }
+            throw new IllegalArgumentException("Invalid Maven version string format: version is blank");
         }
+        return parsedVersion;
+    }
 
-        if (version.trim().isEmpty()) {
-            throw new IllegalArgumentException("Invalid Maven version string format: version is blank");
+    /**
+     * Parses a version without throwing when it does not match the rules, so
+     * rejecting a version costs no exception.
+     *
+     * @param version the string format version
+     * @return A structured version, or null if the version is null or does
+     * not match the parser's rules.
+     */
+    @Override
+    public Version tryParseVersion(String version) {
+        return tryParseVersion((CharSequence) version);
+    }
+
+    /**
+     * Parses a version held by any character sequence, without copying it
+     * into a string.
+     *
+     * @param version the version to parse.
+     * @return A structured version, or null if the version is null or does
+     * not match the parser's rules.
+     */
+    @Override
+    public Version tryParseVersion(CharSequence version) {
+        if (version == null || findInvalidIndex(version) != TokenUtils.NO_INVALID_INDEX) {
+            return null;
         }
 
+        List<String> tokenList = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
         Character c = version.charAt(0);
         MavenCharType previousCharType = getCharType(c);
 
-        //Basically the _ is equivalent to - to maven specifications so we replace it for simplicity
-        String replacedVersion = version.replace(MavenConstants.REPLACEBLE_SEPARATOR, MavenConstants.HYPHEN_SEPARATOR);
-
-        for (int i = 0; i < replacedVersion.length(); i++) {
-            c = replacedVersion.charAt(i);
+        for (int i = 0; i < version.length(); i++) {
+            c = version.charAt(i);
+            //Basically the _ is equivalent to - to maven specifications so we replace it for simplicity
+            if (c.equals(MavenConstants.REPLACEBLE_SEPARATOR)) {
+                c = MavenConstants.HYPHEN_SEPARATOR;
+            }
             MavenCharType currentCharType = getCharType(c);
 
             if (currentCharType == MavenCharType.SEPARATOR) {
@@ -72,6 +106,24 @@ public class MavenRulesVersionParser implements VersionParser {
         return new Version(tokenList);
     }
 
+    /**
+     * The Maven rules accept every version that is not blank.
+     *
+     * @param version the version to check.
+     * @return {@link TokenUtils#NO_INVALID_INDEX} if the version is not
+     * blank, otherwise its length.
+     */
+    @Override
+    public int findInvalidIndex(CharSequence version) {
+        for (int i = 0; i < version.length(); i++) {
+            //The same blank characters as String.trim()
+            if (version.charAt(i) > ' ') {
+                return TokenUtils.NO_INVALID_INDEX;
+            }
+        }
+        return version.length();
+    }
+
     private MavenCharType getCharType(char c) throws IllegalArgumentException {
         if (Character.isDigit(c)) {
             return MavenCharType.DIGIT;
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.parser;
+
+import it.rebirthproject.versioncomparator.metrics.VersionMetricsListener;
+import it.rebirthproject.versioncomparator.model.Version;
+
+/**
+ * A {@link VersionParser} that reports the latency of every parse, and every
+ * rejected version, to a {@link VersionMetricsListener}. It is added only
+ * when a listener is registered, so the parsers without a listener do not
+ * pay for the measures.
+ */
+public class MeteredVersionParser implements VersionParser {
+
+    private final VersionParser versionParser;
+    private final VersionMetricsListener metricsListener;
+    private final String parserType;
+
+    /**
+     * @param versionParser the parser to measure.
+     * @param metricsListener the listener receiving the measures.
+     */
+    public MeteredVersionParser(VersionParser versionParser, VersionMetricsListener metricsListener) {
+        this.versionParser = versionParser;
+        this.metricsListener = metricsListener;
+        this.parserType = versionParser.getParserType().name();
+    }
+
+    @Override
+    public VersionMatchingParserType getParserType() {
+        return versionParser.getParserType();
+    }
+
+    @Override
+    public Version parseVersion(String version) throws IllegalArgumentException {
+        return parseVersion((CharSequence) version);
+    }
+
+    @Override
+    public Version parseVersion(CharSequence version) throws IllegalArgumentException {
+        long start = System.nanoTime();
+        Version parsedVersion;
+        try {
+            parsedVersion = versionParser.parseVersion(version);
+        } catch (IllegalArgumentException ex) {
+            metricsListener.onParseFailure(parserType, System.nanoTime() - start);
+            throw ex;
+        }
+        metricsListener.onParse(parserType, System.nanoTime() - start);
+        return parsedVersion;
+    }
+
+    @Override
+    public Version tryParseVersion(String version) {
+        return tryParseVersion((CharSequence) version);
+    }
+
+    @Override
+    public Version tryParseVersion(CharSequence version) {
+        long start = System.nanoTime();
+        Version parsedVersion = versionParser.tryParseVersion(version);
+        if (parsedVersion == null) {
+            metricsListener.onParseFailure(parserType, System.nanoTime() - start);
+        } else {
+            metricsListener.onParse(parserType, System.nanoTime() - start);
+        }
+        return parsedVersion;
+    }
+
+    /**
+     * Checks a version with the measured parser. The checks are not reported
+     * to the listener.
+     *
+     * @param version the version to check.
+     * @return the result of the measured parser.
+     */
+    @Override
+    public int findInvalidIndex(CharSequence version) {
+        return versionParser.findInvalidIndex(version);
+    }
+}
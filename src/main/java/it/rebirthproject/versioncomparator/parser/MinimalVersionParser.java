@@ -15,20 +15,20 @@
  */
 package it.rebirthproject.versioncomparator.parser;
 
-import it.rebirthproject.versioncomparator.version.Version;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import it.rebirthproject.versioncomparator.model.Version;
+import it.rebirthproject.versioncomparator.utils.TokenUtils;
 
 public class MinimalVersionParser implements VersionParser {
 
     /**
      * Max number of digits for the version's number parts.
      */
-    private static final String MAX_DIGITS = "5";
-    /**
-     * The complete regex that matches the minimal version structure.
-     */
-    private final Pattern pattern = Pattern.compile("^(?<major>0|[1-9]\\d{0," + MAX_DIGITS + "})\\.(?<minor>0|[1-9]\\d{0," + MAX_DIGITS + "})(?:\\.(?<patch>0|[1-9]\\d{0," + MAX_DIGITS + "}))?$");
+    private static final int MAX_DIGITS = 6;
+
+    @Override
+    public VersionMatchingParserType getParserType() {
+        return VersionMatchingParserType.MINIMAL_LENGTH_VERSION;
+    }
 
     /**
      * The implemented method to parse a minimal version
@@ -40,16 +40,78 @@ public class MinimalVersionParser implements VersionParser {
      */
     @Override
     public Version parseVersion(String version) throws IllegalArgumentException {
-        Matcher matcher = pattern.matcher(version);
+        Version parsedVersion = tryParseVersion(version);
+        if (parsedVersion == null) {
+            throw new IllegalArgumentException("Invalid minimal version string format: " + version);
+        }
+        return parsedVersion;
+    }
+
+    /**
+     * Parses a version without throwing when it does not match the rules, so
+     * rejecting a version costs no exception.
+     *
+     * @param version the string format version
+     * @return A structured version, or null if the version is null or does
+     * not match the parser's rules.
+     */
+    @Override
+    public Version tryParseVersion(String version) {
+        return tryParseVersion((CharSequence) version);
+    }
 
-        if (matcher.matches()) {
-            Long major = matcher.group("major") != null ? Long.valueOf(matcher.group("major")) : -1;
-            Long minor = matcher.group("minor") != null ? Long.valueOf(matcher.group("minor")) : -1;
-            Long patch = matcher.group("patch") != null ? Long.valueOf(matcher.group("patch")) : -1;
+    /**
+     * Parses a version held by any character sequence, without copying it
+     * into a string.
+     *
+     * @param version the version to parse.
+     * @return A structured version, or null if the version is null or does
+     * not match the parser's rules.
+     */
+    @Override
+    public Version tryParseVersion(CharSequence version) {
+        if (version == null || findInvalidIndex(version) != TokenUtils.NO_INVALID_INDEX) {
+            return null;
+        }
 
-            return new Version(major, minor, patch);
-        } else {
-            throw new IllegalArgumentException("Invalid minimal version string format: " + version);
+        int length = version.length();
+        int majorEnd = TokenUtils.skipDigits(version, 0, length);
+        int minorEnd = TokenUtils.skipDigits(version, majorEnd + 1, length);
+        long major = TokenUtils.parseNumber(version, 0, majorEnd);
+        long minor = TokenUtils.parseNumber(version, majorEnd + 1, minorEnd);
+        long patch = minorEnd < length ? TokenUtils.parseNumber(version, minorEnd + 1, length) : -1;
+
+        return new Version(major, minor, patch);
+    }
+
+    /**
+     * Scans a version in a single pass, checking that it matches the minimal
+     * grammar {@code X.Y} or {@code X.Y.Z}.
+     *
+     * @param version the version to scan.
+     * @return {@link TokenUtils#NO_INVALID_INDEX} if the whole version matches
+     * the grammar, otherwise the index of the first character that breaks it
+     * (the version's length if the version is truncated).
+     */
+    @Override
+    public int findInvalidIndex(CharSequence version) {
+        int length = version.length();
+        int index = 0;
+        for (int part = 0; part < 3; part++) {
+            if (part > 0) {
+                if (index == length && part == 2) {
+                    return TokenUtils.NO_INVALID_INDEX;
+                }
+                if (index == length || version.charAt(index) != '.') {
+                    return index;
+                }
+                index++;
+            }
+            index = TokenUtils.scanNumericPart(version, index, length, MAX_DIGITS);
+            if (index < 0) {
+                return TokenUtils.toInvalidIndex(index);
+            }
         }
+        return index == length ? TokenUtils.NO_INVALID_INDEX : index;
     }
 }
@@ -15,10 +15,10 @@
  */
 package it.rebirthproject.versioncomparator.parser;
 
-import it.rebirthproject.versioncomparator.version.Version;
+import it.rebirthproject.versioncomparator.model.Version;
+import it.rebirthproject.versioncomparator.utils.AsciiCaseInsensitiveTrie;
+import it.rebirthproject.versioncomparator.utils.TokenUtils;
 import it.rebirthproject.versioncomparator.version.VersionReleaseTypes;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * A parser that checks if a version structure is compiant with a relaxed
@@ -29,11 +29,18 @@ public class RelaxedSemanticVersionParser implements VersionParser {
     /**
      * Max number of digits for the version's number parts.
      */
-    private static final String MAX_DIGITS = "10";
+    private static final int MAX_DIGITS = 11;
     /**
-     * The complete regex that matches the relaxed semantic version structure.
+     * The automaton, built once from {@link VersionReleaseTypes}, that
+     * recognizes the release type words inside a qualifier.
      */
-    private final Pattern pattern = Pattern.compile("(?i)^(?<major>0|[1-9]\\d{0," + MAX_DIGITS + "})\\.(?<minor>0|[1-9]\\d{0," + MAX_DIGITS + "})(?:\\.(?<patch>0|[1-9]\\d{0," + MAX_DIGITS + "}))(?:(?<qualifier>([a-zA-Z.-](?!.*[.-]{2})[a-zA-Z0-9.-]*)))?$");   
+    private static final AsciiCaseInsensitiveTrie RELEASE_TYPES = releaseTypesTrie();
+
+    @Override
+    public VersionMatchingParserType getParserType() {
+        return VersionMatchingParserType.RELAXED_SEMANTIC_VERSION;
+    }
+
     /**
      * The implemented method to parse a relaxed semantic version
      *
@@ -44,19 +51,147 @@ public class RelaxedSemanticVersionParser implements VersionParser {
      */
     @Override
     public Version parseVersion(String version) throws IllegalArgumentException {
-        Matcher matcher = pattern.matcher(version);
-
-        if (matcher.matches()) {
-            Long major = matcher.group("major") != null ? Long.valueOf(matcher.group("major")) : -1;
-            Long minor = matcher.group("minor") != null ? Long.valueOf(matcher.group("minor")) : -1;
-            Long patch = matcher.group("patch") != null ? Long.valueOf(matcher.group("patch")) : -1;
-            String qualifier = matcher.group("qualifier");           
-            if (qualifier != null && !qualifier.trim().isEmpty() && !qualifier.matches(VersionReleaseTypes.getRegexToCheckReleaseTypeUniqueness())) {
+        Version parsedVersion = tryParseVersion(version);
+        if (parsedVersion == null) {
+            //Only failing versions are scanned again, to tell apart a repeated release type from a wrong structure
+            if (version != null && findInvalidIndex(version, false) == TokenUtils.NO_INVALID_INDEX) {
                 throw new IllegalArgumentException("Invalid relaxed semantic version string format: release type is not unique in qualifier" + version);
             }
-            return new Version(major, minor, patch, qualifier);
-        } else {
             throw new IllegalArgumentException("Invalid relaxed semantic version string format: " + version);
         }
+        return parsedVersion;
+    }
+
+    /**
+     * Parses a version without throwing when it does not match the rules, so
+     * rejecting a version costs no exception.
+     *
+     * @param version the string format version
+     * @return A structured version, or null if the version is null or does
+     * not match the parser's rules.
+     */
+    @Override
+    public Version tryParseVersion(String version) {
+        return tryParseVersion((CharSequence) version);
+    }
+
+    /**
+     * Parses a version held by any character sequence, without copying it
+     * into a string.
+     *
+     * @param version the version to parse.
+     * @return A structured version, or null if the version is null or does
+     * not match the parser's rules.
+     */
+    @Override
+    public Version tryParseVersion(CharSequence version) {
+        if (version == null || findInvalidIndex(version, true) != TokenUtils.NO_INVALID_INDEX) {
+            return null;
+        }
+
+        int length = version.length();
+        int majorEnd = TokenUtils.skipDigits(version, 0, length);
+        int minorEnd = TokenUtils.skipDigits(version, majorEnd + 1, length);
+        int patchEnd = TokenUtils.skipDigits(version, minorEnd + 1, length);
+
+        long major = TokenUtils.parseNumber(version, 0, majorEnd);
+        long minor = TokenUtils.parseNumber(version, majorEnd + 1, minorEnd);
+        long patch = TokenUtils.parseNumber(version, minorEnd + 1, patchEnd);
+        String qualifier = patchEnd < length ? version.subSequence(patchEnd, length).toString() : null;
+
+        return new Version(major, minor, patch, qualifier);
+    }
+
+    /**
+     * Scans a version in a single pass, checking that it matches the relaxed
+     * grammar and that its release type is unique.
+     *
+     * @param version the version to scan.
+     * @return {@link TokenUtils#NO_INVALID_INDEX} if the whole version matches
+     * the grammar, otherwise the index of the first character that breaks it.
+     */
+    @Override
+    public int findInvalidIndex(CharSequence version) {
+        return findInvalidIndex(version, true);
+    }
+
+    /**
+     * Scans a version in a single pass, checking that it matches the relaxed
+     * grammar {@code X.Y.Z[QUALIFIER]}. The qualifier starts with a letter or
+     * a separator, goes on with letters, digits and separators, and never
+     * contains two consecutive separators after its first character. The
+     * words of the qualifier are fed to the release types automaton in the
+     * same pass, so a second release type word is detected as soon as it
+     * ends.
+     *
+     * @param version the version to scan.
+     * @param checkReleaseTypeUniqueness true to reject qualifiers containing
+     * more than one release type word.
+     * @return {@link TokenUtils#NO_INVALID_INDEX} if the whole version matches
+     * the grammar, otherwise the index of the first character that breaks it
+     * (the start of the second release type word when the release type is not
+     * unique).
+     */
+    static int findInvalidIndex(CharSequence version, boolean checkReleaseTypeUniqueness) {
+        int length = version.length();
+        int index = 0;
+        for (int part = 0; part < 3; part++) {
+            if (part > 0) {
+                if (index == length || version.charAt(index) != '.') {
+                    return index;
+                }
+                index++;
+            }
+            index = TokenUtils.scanNumericPart(version, index, length, MAX_DIGITS);
+            if (index < 0) {
+                return TokenUtils.toInvalidIndex(index);
+            }
+        }
+
+        int qualifierStart = index;
+        boolean releaseTypeFound = false;
+        boolean previousIsSeparator = false;
+        int wordStart = -1;
+        int state = AsciiCaseInsensitiveTrie.NO_STATE;
+
+        for (int i = qualifierStart; i <= length; i++) {
+            char c = i < length ? version.charAt(i) : '.';
+            boolean isSeparator = TokenUtils.isSeparator(c);
+
+            if (isSeparator) {
+                if (previousIsSeparator && i < length) {
+                    return i;
+                }
+                if (wordStart >= 0 && checkReleaseTypeUniqueness && RELEASE_TYPES.valueOf(state) != AsciiCaseInsensitiveTrie.NO_VALUE) {
+                    if (releaseTypeFound) {
+                        return wordStart;
+                    }
+                    releaseTypeFound = true;
+                }
+                wordStart = -1;
+                //The qualifier's first character is not checked against consecutive separators
+                previousIsSeparator = i > qualifierStart;
+            } else if (TokenUtils.isAsciiLetter(c) || (i > qualifierStart && TokenUtils.isAsciiDigit(c))) {
+                if (wordStart < 0) {
+                    wordStart = i;
+                    state = AsciiCaseInsensitiveTrie.ROOT;
+                }
+                state = RELEASE_TYPES.next(state, c);
+                previousIsSeparator = false;
+            } else {
+                return i;
+            }
+        }
+
+        return TokenUtils.NO_INVALID_INDEX;
+    }
+
+    private static AsciiCaseInsensitiveTrie releaseTypesTrie() {
+        String[] names = VersionReleaseTypes.getValues();
+        int[] ordinals = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            ordinals[i] = i;
+        }
+        return new AsciiCaseInsensitiveTrie(names, ordinals);
     }
 }
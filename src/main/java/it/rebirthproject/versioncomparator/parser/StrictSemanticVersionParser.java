@@ -15,9 +15,8 @@
  */
 package it.rebirthproject.versioncomparator.parser;
 
-import it.rebirthproject.versioncomparator.version.Version;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import it.rebirthproject.versioncomparator.model.Version;
+import it.rebirthproject.versioncomparator.utils.TokenUtils;
 
 /**
  * A parser that checks if a version structure is compiant with the semantic
@@ -31,11 +30,12 @@ public class StrictSemanticVersionParser implements VersionParser {
     /**
      * Max number of digits for the version's number parts.
      */
-    private static final String MAX_DIGITS = "19";
-    /**
-     * The complete regex that matches the semantic version structure.
-     */
-    private final Pattern pattern = Pattern.compile("(?i)^(?<major>0|[1-9]\\d{0," + MAX_DIGITS + "})\\.(?<minor>0|[1-9]\\d{0," + MAX_DIGITS + "})\\.(?<patch>0|[1-9]\\d{0," + MAX_DIGITS + "})(?:-(?<qualifier>(?:0|[1-9]\\d*|\\d*[a-zA-Z-][0-9a-zA-Z-]*)(?:\\.(?:0|[1-9]\\d*|\\d*[a-zA-Z-][0-9a-zA-Z-]*))*))?(?:\\+(?<buildmetadata>[0-9a-zA-Z-]+(?:\\.[0-9a-zA-Z-]+)*))?$");
+    private static final int MAX_DIGITS = 20;
+
+    @Override
+    public VersionMatchingParserType getParserType() {
+        return VersionMatchingParserType.STRICT_SEMANTIC_VERSION_STANDARD;
+    }
 
     /**
      * The implemented method to parse a semantic version
@@ -46,18 +46,137 @@ public class StrictSemanticVersionParser implements VersionParser {
      */       
     @Override
     public Version parseVersion(String version) throws IllegalArgumentException {
-        Matcher matcher = pattern.matcher(version);
+        Version parsedVersion = tryParseVersion(version);
+        if (parsedVersion == null) {
+            throw new IllegalArgumentException("Invalid Strict Semantic version string format: " + version);
+        }
+        return parsedVersion;
+    }
 
-        if (matcher.matches()) {
-            Long major = matcher.group("major") != null ? Long.valueOf(matcher.group("major")) : -1;
-            Long minor = matcher.group("minor") != null ? Long.valueOf(matcher.group("minor")) : -1;
-            Long patch = matcher.group("patch") != null ? Long.valueOf(matcher.group("patch")) : -1;
-            String qualifier = matcher.group("qualifier");
-            String buildMetadata = matcher.group("buildmetadata");
+    /**
+     * Parses a version without throwing when it does not match the rules, so
+     * rejecting a version costs no exception.
+     *
+     * @param version the string format version
+     * @return A structured version, or null if the version is null or does
+     * not match the parser's rules.
+     */
+    @Override
+    public Version tryParseVersion(String version) {
+        return tryParseVersion((CharSequence) version);
+    }
 
-            return new Version(major, minor, patch, qualifier, buildMetadata);
-        } else {
-            throw new IllegalArgumentException("Invalid Strict Semantic version string format: " + version);
+    /**
+     * Parses a version held by any character sequence, without copying it
+     * into a string.
+     *
+     * @param version the version to parse.
+     * @return A structured version, or null if the version is null or does
+     * not match the parser's rules.
+     */
+    @Override
+    public Version tryParseVersion(CharSequence version) {
+        if (version == null || findInvalidIndex(version) != TokenUtils.NO_INVALID_INDEX) {
+            return null;
         }
+
+        int length = version.length();
+        int majorEnd = TokenUtils.skipDigits(version, 0, length);
+        int minorEnd = TokenUtils.skipDigits(version, majorEnd + 1, length);
+        int patchEnd = TokenUtils.skipDigits(version, minorEnd + 1, length);
+        int buildMetadataStart = TokenUtils.indexOf(version, '+', patchEnd);
+        int qualifierEnd = buildMetadataStart < 0 ? length : buildMetadataStart;
+
+        long major = TokenUtils.parseNumber(version, 0, majorEnd);
+        long minor = TokenUtils.parseNumber(version, majorEnd + 1, minorEnd);
+        long patch = TokenUtils.parseNumber(version, minorEnd + 1, patchEnd);
+        String qualifier = patchEnd < qualifierEnd ? version.subSequence(patchEnd + 1, qualifierEnd).toString() : null;
+        String buildMetadata = buildMetadataStart < 0 ? null : version.subSequence(buildMetadataStart + 1, length).toString();
+
+        return new Version(major, minor, patch, qualifier, buildMetadata);
+    }
+
+    /**
+     * Scans a version in a single pass, checking that it matches the semantic
+     * version grammar {@code X.Y.Z[-PRERELEASE][+BUILDMETADATA]}.
+     *
+     * @param version the version to scan.
+     * @return {@link TokenUtils#NO_INVALID_INDEX} if the whole version matches
+     * the grammar, otherwise the index of the first character that breaks it
+     * (the version's length if the version is truncated).
+     */
+    @Override
+    public int findInvalidIndex(CharSequence version) {
+        int length = version.length();
+        int index = 0;
+        for (int part = 0; part < 3; part++) {
+            if (part > 0) {
+                if (index == length || version.charAt(index) != '.') {
+                    return index;
+                }
+                index++;
+            }
+            index = TokenUtils.scanNumericPart(version, index, length, MAX_DIGITS);
+            if (index < 0) {
+                return TokenUtils.toInvalidIndex(index);
+            }
+        }
+
+        if (index < length && version.charAt(index) == '-') {
+            index = scanIdentifiers(version, index + 1, length, true);
+            if (index < 0) {
+                return TokenUtils.toInvalidIndex(index);
+            }
+        }
+
+        if (index < length && version.charAt(index) == '+') {
+            index = scanIdentifiers(version, index + 1, length, false);
+            if (index < 0) {
+                return TokenUtils.toInvalidIndex(index);
+            }
+        }
+
+        return index == length ? TokenUtils.NO_INVALID_INDEX : index;
+    }
+
+    /**
+     * Scans a dot separated list of non empty identifiers made of ASCII
+     * alphanumerics and hyphens.
+     *
+     * @param version the version to scan.
+     * @param start the index of the first identifier.
+     * @param end the index where the version ends.
+     * @param rejectLeadingZeros true if numeric identifiers cannot have leading
+     * zeros, as required for pre-release identifiers.
+     * @return the index following the identifiers, or the index of the first
+     * invalid character encoded as {@code -1 - invalidIndex}.
+     */
+    private static int scanIdentifiers(CharSequence version, int start, int end, boolean rejectLeadingZeros) {
+        int index = start;
+        while (true) {
+            int identifierStart = index;
+            boolean numeric = true;
+            while (index < end && isIdentifierChar(version.charAt(index))) {
+                numeric &= TokenUtils.isAsciiDigit(version.charAt(index));
+                index++;
+            }
+
+            if (index == identifierStart) {
+                return -1 - index;
+            }
+
+            if (rejectLeadingZeros && numeric && index - identifierStart > 1 && version.charAt(identifierStart) == '0') {
+                return -1 - identifierStart;
+            }
+
+            if (index == end || version.charAt(index) != '.') {
+                return index;
+            }
+            index++;
+        }
+    }
+
+    private static boolean isIdentifierChar(char c) {
+        return TokenUtils.isAsciiLetter(c) || TokenUtils.isAsciiDigit(c) || c == '-';
     }
 }
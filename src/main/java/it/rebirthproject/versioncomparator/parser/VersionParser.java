@@ -15,7 +15,8 @@
  */
 package it.rebirthproject.versioncomparator.parser;
 
-import it.rebirthproject.versioncomparator.version.Version;
+import it.rebirthproject.versioncomparator.model.Version;
+import it.rebirthproject.versioncomparator.utils.TokenUtils;
 
 /**
  * The interface for a version parser.
@@ -31,4 +32,84 @@ public interface VersionParser {
      * @throws IllegalArgumentException if the string version does not match parsers' rules. 
      */
     public Version parseVersion(String version) throws IllegalArgumentException;
+
+    /**
+     * Parses a version without throwing when it does not match the parser's
+     * rules, so rejecting a version costs no exception. The default
+     * implementation checks the version with {@link #findInvalidIndex} before
+     * parsing it.
+     *
+     * @param version the version in string format
+     * @return the parsed version, or null if the version is null or does not
+     * match the parser's rules.
+     */
+    public default Version tryParseVersion(String version) {
+        if (version == null || findInvalidIndex(version) != TokenUtils.NO_INVALID_INDEX) {
+            return null;
+        }
+        return parseVersion(version);
+    }
+
+    /**
+     * Parses a version held by any character sequence, such as a reused
+     * {@link StringBuilder} or a view over bytes, with the same rules as
+     * {@link #parseVersion(String)}. The default implementation parses a
+     * string copy of the version; the library's parsers read the sequence
+     * directly.
+     *
+     * @param version the version to parse.
+     * @return the parsed version
+     * @throws IllegalArgumentException if the version does not match parsers'
+     * rules.
+     */
+    public default Version parseVersion(CharSequence version) throws IllegalArgumentException {
+        if (version == null || version instanceof String) {
+            return parseVersion((String) version);
+        }
+
+        Version parsedVersion = tryParseVersion(version);
+        if (parsedVersion == null) {
+            //Only rejected versions are copied, to throw the parser's own message
+            return parseVersion(version.toString());
+        }
+        return parsedVersion;
+    }
+
+    /**
+     * Same as {@link #parseVersion(CharSequence)}, but rejected versions
+     * return null instead of throwing. The default implementation parses a
+     * string copy of the version.
+     *
+     * @param version the version to parse.
+     * @return the parsed version, or null if the version is null or does not
+     * match the parser's rules.
+     */
+    public default Version tryParseVersion(CharSequence version) {
+        return tryParseVersion(version == null ? null : version.toString());
+    }
+
+    /**
+     * Checks if a version matches the parser's rules without building the
+     * parsed version, so no object is created for valid versions. The default
+     * implementation parses a string copy of the version.
+     *
+     * @param version the version to check.
+     * @return {@link TokenUtils#NO_INVALID_INDEX} if the version matches the
+     * parser's rules, otherwise the index of the first character that breaks
+     * them (the version's length if the version is truncated).
+     */
+    public default int findInvalidIndex(CharSequence version) {
+        try {
+            parseVersion(version.toString());
+            return TokenUtils.NO_INVALID_INDEX;
+        } catch (IllegalArgumentException ex) {
+            return 0;
+        }
+    }
+
+    /**
+     * 
+     * @return the type of rules the parser applies.
+     */
+    public VersionMatchingParserType getParserType();
 }
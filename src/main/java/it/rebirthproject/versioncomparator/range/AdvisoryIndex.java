@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.range;
+
+import it.rebirthproject.versioncomparator.comparator.ComparableVersion;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * An index of the advisories affecting the versions of artifacts, for
+ * example security advisories, built with an {@link AdvisoryIndexBuilder}.
+ *
+ * The bounds of the affected ranges of each artifact are parsed once, with
+ * the Maven rules, and sorted when the index is built. Finding the
+ * advisories affecting a version parses the version once and then needs a
+ * logarithmic number of comparisons in the number of bounds of its
+ * artifact, whatever the number of advisories. An index is immutable and
+ * can be shared between threads.
+ *
+ * @param <A> the type of the advisories.
+ */
+public final class AdvisoryIndex<A> {
+
+    private final Map<String, ArtifactAdvisories<A>> advisoriesByArtifact;
+
+    AdvisoryIndex(Map<String, ArtifactAdvisories<A>> advisoriesByArtifact) {
+        this.advisoriesByArtifact = advisoriesByArtifact;
+    }
+
+    /**
+     * Finds the advisories affecting a version of an artifact. The version
+     * is not parsed when the artifact has no advisories.
+     *
+     * @param artifact the artifact.
+     * @param version the string formatted version.
+     * @return the advisories affecting the version, in the order they were
+     * added, as an unmodifiable list.
+     * @throws IllegalArgumentException if the version does not match the
+     * Maven rules.
+     */
+    public List<A> find(String artifact, String version) throws IllegalArgumentException {
+        ArtifactAdvisories<A> artifactAdvisories = advisoriesByArtifact.get(artifact);
+        if (artifactAdvisories == null) {
+            return Collections.emptyList();
+        }
+        return artifactAdvisories.find(MavenVersionRange.MAVEN_VERSION_COMPARATOR.parse(version));
+    }
+
+    /**
+     * Finds the advisories affecting a version of an artifact.
+     *
+     * @param artifact the artifact.
+     * @param version the version, parsed with the Maven rules.
+     * @return the advisories affecting the version, in the order they were
+     * added, as an unmodifiable list.
+     * @throws IllegalArgumentException if the version was not parsed with the
+     * Maven rules.
+     */
+    public List<A> find(String artifact, ComparableVersion version) throws IllegalArgumentException {
+        ArtifactAdvisories<A> artifactAdvisories = advisoriesByArtifact.get(artifact);
+        if (artifactAdvisories == null) {
+            return Collections.emptyList();
+        }
+        return artifactAdvisories.find(version);
+    }
+
+    /**
+     * Finds the advisories affecting a whole inventory. The versions are
+     * parsed once and sorted artifact by artifact, then the versions of each
+     * artifact are matched in a single pass over its sorted bounds, so
+     * large inventories need fewer comparisons than a search for each item.
+     *
+     * @param <T> the type of the inventory items.
+     * @param inventory the items to check, in any order.
+     * @param artifactOf returns the artifact of an item.
+     * @param versionOf returns the string formatted version of an item.
+     * @return the advisories of the affected items, in the inventory's order.
+     * The items without advisories are not in the map.
+     * @throws IllegalArgumentException if the version of an item whose
+     * artifact has advisories does not match the Maven rules.
+     */
+    public <T> Map<T, List<A>> findAll(Collection<? extends T> inventory, Function<? super T, String> artifactOf, Function<? super T, String> versionOf) throws IllegalArgumentException {
+        List<T> items = new ArrayList<>(inventory);
+        Map<ArtifactAdvisories<A>, List<ParsedItem>> itemsByArtifact = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+            ArtifactAdvisories<A> artifactAdvisories = advisoriesByArtifact.get(artifactOf.apply(item));
+            if (artifactAdvisories != null) {
+                ComparableVersion version = MavenVersionRange.MAVEN_VERSION_COMPARATOR.parse(versionOf.apply(item));
+                itemsByArtifact.computeIfAbsent(artifactAdvisories, key -> new ArrayList<>()).add(new ParsedItem(i, version));
+            }
+        }
+
+        List<List<A>> advisoriesByPosition = new ArrayList<>(Collections.nCopies(items.size(), Collections.emptyList()));
+        for (Map.Entry<ArtifactAdvisories<A>, List<ParsedItem>> entry : itemsByArtifact.entrySet()) {
+            List<ParsedItem> parsedItems = entry.getValue();
+            parsedItems.sort((item1, item2) -> item1.version.compareTo(item2.version));
+
+            List<ComparableVersion> sortedVersions = new ArrayList<>(parsedItems.size());
+            for (ParsedItem parsedItem : parsedItems) {
+                sortedVersions.add(parsedItem.version);
+            }
+            List<List<A>> advisories = new ArrayList<>(parsedItems.size());
+            entry.getKey().findSorted(sortedVersions, advisories);
+            for (int i = 0; i < parsedItems.size(); i++) {
+                advisoriesByPosition.set(parsedItems.get(i).position, advisories.get(i));
+            }
+        }
+
+        Map<T, List<A>> affectedItems = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (!advisoriesByPosition.get(i).isEmpty()) {
+                affectedItems.put(items.get(i), advisoriesByPosition.get(i));
+            }
+        }
+        return affectedItems;
+    }
+
+    private static final class ParsedItem {
+
+        /**
+         * The position of the item in the inventory.
+         */
+        private final int position;
+        private final ComparableVersion version;
+
+        private ParsedItem(int position, ComparableVersion version) {
+            this.position = position;
+            this.version = version;
+        }
+    }
+}
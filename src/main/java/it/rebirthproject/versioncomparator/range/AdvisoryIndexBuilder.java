@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.range;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The builder of an {@link AdvisoryIndex}, which collects the Maven version
+ * ranges affected by each advisory, artifact by artifact.
+ *
+ * @param <A> the type of the advisories.
+ */
+public class AdvisoryIndexBuilder<A> {
+
+    /**
+     * The ranges of every advisory, by artifact and then by advisory in the
+     * order they were first added.
+     */
+    private final Map<String, Map<A, List<MavenVersionRange>>> rangesByArtifact = new HashMap<>();
+
+    /**
+     * Adds a range of versions of an artifact affected by an advisory.
+     *
+     * @param artifact the artifact, for example its Maven coordinates.
+     * @param range the affected Maven version range, such as
+     * {@code [1.0,1.2.3)}.
+     * @param advisory the advisory.
+     * @return this builder.
+     * @throws IllegalArgumentException if an argument is null or the range
+     * is not valid.
+     */
+    public AdvisoryIndexBuilder<A> addAffectedRange(String artifact, String range, A advisory) throws IllegalArgumentException {
+        return addAffectedRange(artifact, MavenVersionRange.parse(range), advisory);
+    }
+
+    /**
+     * Adds a range of versions of an artifact affected by an advisory. An
+     * advisory can be added many times, with different ranges.
+     *
+     * @param artifact the artifact, for example its Maven coordinates.
+     * @param range the affected Maven version range. A soft requirement such
+     * as {@code 1.0} contains every version, as in Maven.
+     * @param advisory the advisory.
+     * @return this builder.
+     * @throws IllegalArgumentException if an argument is null.
+     */
+    public AdvisoryIndexBuilder<A> addAffectedRange(String artifact, MavenVersionRange range, A advisory) throws IllegalArgumentException {
+        if (artifact == null || range == null || advisory == null) {
+            throw new IllegalArgumentException("Artifact, range and advisory cannot be null");
+        }
+        rangesByArtifact.computeIfAbsent(artifact, key -> new LinkedHashMap<>())
+                .computeIfAbsent(advisory, key -> new ArrayList<>())
+                .add(range);
+        return this;
+    }
+
+    /**
+     * Builds the index of the ranges added so far.
+     *
+     * @return the advisory index.
+     */
+    public AdvisoryIndex<A> build() {
+        Map<String, ArtifactAdvisories<A>> advisoriesByArtifact = new HashMap<>();
+        for (Map.Entry<String, Map<A, List<MavenVersionRange>>> entry : rangesByArtifact.entrySet()) {
+            advisoriesByArtifact.put(entry.getKey(), ArtifactAdvisories.of(entry.getValue()));
+        }
+        return new AdvisoryIndex<>(advisoriesByArtifact);
+    }
+}
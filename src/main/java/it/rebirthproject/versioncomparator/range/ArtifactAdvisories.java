@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.range;
+
+import it.rebirthproject.versioncomparator.comparator.ComparableVersion;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * The advisories affecting the versions of a single artifact, stored as a
+ * sorted array of the distinct bounds of their ranges.
+ *
+ * The bounds split the versions into elementary regions: the versions
+ * between two consecutive bounds, and each bound itself. Region
+ * {@code 2 * i} holds the versions lesser than bound {@code i} and greater
+ * than the previous one, region {@code 2 * i + 1} the versions equal to
+ * bound {@code i}. Every restriction covers a run of consecutive regions,
+ * which is stored in a segment tree over the regions: the run is split into
+ * the few nodes that cover it exactly, so building the index takes
+ * O(restrictions * log(regions)) time and space, however much the ranges
+ * overlap. Finding the advisories of a version is a binary search among the
+ * bounds, followed by a walk from the region's leaf to the root.
+ *
+ * @param <A> the type of the advisories.
+ */
+final class ArtifactAdvisories<A> {
+
+    private final ComparableVersion[] bounds;
+    /**
+     * The advisories, in the order they were added. They are stored in the
+     * tree by their index in this list.
+     */
+    private final List<A> advisories;
+    /**
+     * The indexes of the advisories covering all the regions of each node of
+     * the segment tree. Node 1 is the root, the children of node {@code i}
+     * are {@code 2 * i} and {@code 2 * i + 1}, and region {@code r} is the
+     * leaf {@code regionCount + r}.
+     */
+    private final int[][] nodes;
+
+    private ArtifactAdvisories(ComparableVersion[] bounds, List<A> advisories, int[][] nodes) {
+        this.bounds = bounds;
+        this.advisories = advisories;
+        this.nodes = nodes;
+    }
+
+    static <A> ArtifactAdvisories<A> of(Map<A, List<MavenVersionRange>> rangesByAdvisory) {
+        ComparableVersion[] bounds = sortedDistinctBounds(rangesByAdvisory);
+        int regionCount = 2 * bounds.length + 1;
+
+        //The nodes are counted first, so each of them gets an array of the right size
+        int[] nodeSizes = new int[2 * regionCount];
+        forEachRestriction(rangesByAdvisory, bounds, (advisory, first, last) -> forEachCoveringNode(regionCount, first, last, node -> nodeSizes[node]++));
+        int[][] nodes = new int[2 * regionCount][];
+        for (int node = 0; node < nodes.length; node++) {
+            nodes[node] = new int[nodeSizes[node]];
+            nodeSizes[node] = 0;
+        }
+        forEachRestriction(rangesByAdvisory, bounds, (advisory, first, last) -> forEachCoveringNode(regionCount, first, last, node -> nodes[node][nodeSizes[node]++] = advisory));
+
+        return new ArtifactAdvisories<>(bounds, new ArrayList<>(rangesByAdvisory.keySet()), nodes);
+    }
+
+    /**
+     *
+     * @param version a version parsed with the Maven rules.
+     * @return the advisories affecting the version.
+     */
+    List<A> find(ComparableVersion version) {
+        int low = 0;
+        int high = bounds.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (bounds[middle].compareTo(version) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return advisoriesOf(regionOf(version, low));
+    }
+
+    /**
+     * Finds the advisories of versions sorted in ascending order, with a
+     * single pass over the versions and the bounds together. Consecutive
+     * versions of the same region share their list.
+     *
+     * @param sortedVersions versions parsed with the Maven rules, in
+     * ascending order.
+     * @param advisories the list receiving the advisories of each version,
+     * in the versions' order.
+     */
+    void findSorted(List<ComparableVersion> sortedVersions, List<List<A>> advisories) {
+        int bound = 0;
+        int previousRegion = -1;
+        List<A> previousAdvisories = null;
+        for (ComparableVersion version : sortedVersions) {
+            while (bound < bounds.length && bounds[bound].compareTo(version) < 0) {
+                bound++;
+            }
+            int region = regionOf(version, bound);
+            if (region != previousRegion) {
+                previousRegion = region;
+                previousAdvisories = advisoriesOf(region);
+            }
+            advisories.add(previousAdvisories);
+        }
+    }
+
+    /**
+     * @return the region of a version, given the index of the first bound
+     * that is not lesser than the version.
+     */
+    private int regionOf(ComparableVersion version, int bound) {
+        return bound < bounds.length && bounds[bound].compareTo(version) == 0 ? 2 * bound + 1 : 2 * bound;
+    }
+
+    /**
+     * Collects the advisories stored in the nodes from the region's leaf to
+     * the root. An advisory with several restrictions covering the region
+     * can be found in more than one node, so the indexes are sorted, which
+     * also restores the order the advisories were added in, and the repeated
+     * ones are skipped.
+     *
+     * @return the advisories affecting the versions of the region.
+     */
+    private List<A> advisoriesOf(int region) {
+        int leaf = region + nodes.length / 2;
+        int count = 0;
+        for (int node = leaf; node > 0; node >>>= 1) {
+            count += nodes[node].length;
+        }
+        if (count == 0) {
+            return Collections.emptyList();
+        }
+
+        int[] indexes = new int[count];
+        count = 0;
+        for (int node = leaf; node > 0; node >>>= 1) {
+            System.arraycopy(nodes[node], 0, indexes, count, nodes[node].length);
+            count += nodes[node].length;
+        }
+        Arrays.sort(indexes);
+
+        List<A> regionAdvisories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || indexes[i] != indexes[i - 1]) {
+                regionAdvisories.add(advisories.get(indexes[i]));
+            }
+        }
+        return Collections.unmodifiableList(regionAdvisories);
+    }
+
+    /**
+     * Calls the action for every restriction, with the index of its advisory
+     * and the first and last regions it covers.
+     */
+    private static <A> void forEachRestriction(Map<A, List<MavenVersionRange>> rangesByAdvisory, ComparableVersion[] bounds, RestrictionAction action) {
+        int advisory = 0;
+        for (List<MavenVersionRange> ranges : rangesByAdvisory.values()) {
+            for (MavenVersionRange range : ranges) {
+                for (VersionRestriction restriction : range.getRestrictions()) {
+                    int first = firstRegionOf(bounds, restriction);
+                    int last = lastRegionOf(bounds, restriction);
+                    if (first <= last) {
+                        action.accept(advisory, first, last);
+                    }
+                }
+            }
+            advisory++;
+        }
+    }
+
+    /**
+     * Calls the action for the nodes of the segment tree that cover exactly
+     * the regions from first to last, at most two for each level of the
+     * tree.
+     */
+    private static void forEachCoveringNode(int regionCount, int first, int last, IntConsumer action) {
+        for (int low = first + regionCount, high = last + regionCount + 1; low < high; low >>>= 1, high >>>= 1) {
+            if ((low & 1) == 1) {
+                action.accept(low++);
+            }
+            if ((high & 1) == 1) {
+                action.accept(--high);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RestrictionAction {
+
+        void accept(int advisory, int firstRegion, int lastRegion);
+    }
+
+    private static <A> ComparableVersion[] sortedDistinctBounds(Map<A, List<MavenVersionRange>> rangesByAdvisory) {
+        List<ComparableVersion> bounds = new ArrayList<>();
+        for (List<MavenVersionRange> ranges : rangesByAdvisory.values()) {
+            for (MavenVersionRange range : ranges) {
+                for (VersionRestriction restriction : range.getRestrictions()) {
+                    if (restriction.lowerBound != null) {
+                        bounds.add(restriction.lowerBound);
+                    }
+                    if (restriction.upperBound != null) {
+                        bounds.add(restriction.upperBound);
+                    }
+                }
+            }
+        }
+        Collections.sort(bounds);
+
+        List<ComparableVersion> distinctBounds = new ArrayList<>(bounds.size());
+        for (ComparableVersion bound : bounds) {
+            if (distinctBounds.isEmpty() || distinctBounds.get(distinctBounds.size() - 1).compareTo(bound) != 0) {
+                distinctBounds.add(bound);
+            }
+        }
+        return distinctBounds.toArray(new ComparableVersion[0]);
+    }
+
+    private static int firstRegionOf(ComparableVersion[] bounds, VersionRestriction restriction) {
+        if (restriction.lowerBound == null) {
+            return 0;
+        }
+        int bound = Arrays.binarySearch(bounds, restriction.lowerBound);
+        return restriction.lowerBoundInclusive ? 2 * bound + 1 : 2 * bound + 2;
+    }
+
+    private static int lastRegionOf(ComparableVersion[] bounds, VersionRestriction restriction) {
+        if (restriction.upperBound == null) {
+            return 2 * bounds.length;
+        }
+        int bound = Arrays.binarySearch(bounds, restriction.upperBound);
+        return restriction.upperBoundInclusive ? 2 * bound + 1 : 2 * bound;
+    }
+}
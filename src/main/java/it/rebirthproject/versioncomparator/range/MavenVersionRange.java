@@ -0,0 +1,286 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.range;
+
+import it.rebirthproject.versioncomparator.comparator.ComparableVersion;
+import it.rebirthproject.versioncomparator.comparator.VersionComparator;
+import it.rebirthproject.versioncomparator.comparator.VersionComparatorBuilder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A Maven version range, such as {@code [1.0,2.0)}, {@code (,1.5]} or
+ * {@code [1.2,1.3),[1.5,)}, following the syntax of Maven's dependency
+ * version requirements.
+ *
+ * The bounds are parsed once with the Maven rules when the range is
+ * compiled, so checking a candidate only parses the candidate. The
+ * restrictions of a range are ordered and do not overlap, so the restriction
+ * that may contain a version is found by binary search. A plain version such
+ * as {@code 1.0} is a soft requirement: it is the recommended version and
+ * the range contains every version.
+ */
+public final class MavenVersionRange {
+
+    static final VersionComparator MAVEN_VERSION_COMPARATOR = new VersionComparatorBuilder().useMavenRulesVersionParser().build();
+
+    /**
+     * The range as it was given to {@link #parse(String)}.
+     */
+    private final String spec;
+    /**
+     * The recommended version of a soft requirement, or null.
+     */
+    private final ComparableVersion recommendedVersion;
+    /**
+     * The ordered, non overlapping restrictions of the range.
+     */
+    private final List<VersionRestriction> restrictions;
+
+    private MavenVersionRange(String spec, ComparableVersion recommendedVersion, List<VersionRestriction> restrictions) {
+        this.spec = spec;
+        this.recommendedVersion = recommendedVersion;
+        this.restrictions = restrictions;
+    }
+
+    /**
+     * Compiles a Maven version range.
+     *
+     * @param spec the range.
+     * @return the compiled range.
+     * @throws IllegalArgumentException if the range is not valid.
+     */
+    public static MavenVersionRange parse(String spec) throws IllegalArgumentException {
+        if (spec == null || spec.trim().isEmpty()) {
+            throw new IllegalArgumentException("Invalid Maven version range: range is \"" + spec + "\"");
+        }
+
+        List<VersionRestriction> restrictions = new ArrayList<>();
+        ComparableVersion upperBound = null;
+        String process = spec.trim();
+        while (process.startsWith("[") || process.startsWith("(")) {
+            int index = endOfRestriction(process);
+            if (index < 0) {
+                throw new IllegalArgumentException("Invalid Maven version range, unbounded range: " + spec);
+            }
+
+            VersionRestriction restriction = parseRestriction(spec, process.substring(0, index + 1));
+            if (!restrictions.isEmpty() && (upperBound == null || restriction.lowerBound == null || restriction.lowerBound.compareTo(upperBound) < 0)) {
+                throw new IllegalArgumentException("Invalid Maven version range, ranges overlap: " + spec);
+            }
+            restrictions.add(restriction);
+            upperBound = restriction.upperBound;
+
+            process = process.substring(index + 1).trim();
+            if (process.startsWith(",")) {
+                process = process.substring(1).trim();
+            }
+        }
+
+        if (process.isEmpty()) {
+            return new MavenVersionRange(spec, null, Collections.unmodifiableList(restrictions));
+        }
+        if (!restrictions.isEmpty()) {
+            throw new IllegalArgumentException("Invalid Maven version range, only fully-qualified sets are allowed with multiple sets: " + spec);
+        }
+        return new MavenVersionRange(spec, MAVEN_VERSION_COMPARATOR.parse(process), Collections.singletonList(VersionRestriction.EVERYTHING));
+    }
+
+    /**
+     * Checks if the range contains a version.
+     *
+     * @param version the string formatted version.
+     * @return true if the version is inside one of the range's restrictions.
+     * @throws IllegalArgumentException if the version does not match the
+     * Maven rules.
+     */
+    public boolean contains(String version) throws IllegalArgumentException {
+        return contains(MAVEN_VERSION_COMPARATOR.parse(version));
+    }
+
+    /**
+     * Checks if the range contains a version parsed with the Maven rules.
+     *
+     * @param version the parsed version.
+     * @return true if the version is inside one of the range's restrictions.
+     * @throws IllegalArgumentException if the version was not parsed with the
+     * Maven rules.
+     */
+    public boolean contains(ComparableVersion version) throws IllegalArgumentException {
+        int low = 0;
+        int high = restrictions.size() - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (restrictions.get(middle).isBelowUpperBound(version)) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low < restrictions.size() && restrictions.get(low).contains(version);
+    }
+
+    /**
+     * Selects the versions contained in the range, parsing each of them once.
+     *
+     * @param candidates the string formatted versions, in any order.
+     * @return the contained versions, in the candidates' order.
+     * @throws IllegalArgumentException if a version does not match the Maven
+     * rules.
+     */
+    public List<String> filter(Collection<String> candidates) throws IllegalArgumentException {
+        List<String> contained = new ArrayList<>();
+        for (String candidate : candidates) {
+            if (contains(candidate)) {
+                contained.add(candidate);
+            }
+        }
+        return contained;
+    }
+
+    /**
+     * Selects the versions contained in the range from a list sorted with the
+     * Maven rules. Each restriction bound is located by binary search, so
+     * only a logarithmic number of candidates is parsed.
+     *
+     * @param sortedCandidates the string formatted versions, sorted in
+     * ascending order with the Maven rules.
+     * @return the contained versions, in ascending order.
+     * @throws IllegalArgumentException if a visited version does not match
+     * the Maven rules.
+     */
+    public List<String> filterSorted(List<String> sortedCandidates) throws IllegalArgumentException {
+        return filterSorted(sortedCandidates, MAVEN_VERSION_COMPARATOR::parse);
+    }
+
+    /**
+     * Selects the versions contained in the range from a list of versions
+     * parsed with the Maven rules and sorted in ascending order. Each
+     * restriction bound is located by binary search.
+     *
+     * @param sortedCandidates the parsed versions, in ascending order.
+     * @return the contained versions, in ascending order.
+     * @throws IllegalArgumentException if the versions were not parsed with
+     * the Maven rules.
+     */
+    public List<ComparableVersion> filterSortedVersions(List<ComparableVersion> sortedCandidates) throws IllegalArgumentException {
+        return filterSorted(sortedCandidates, Function.identity());
+    }
+
+    /**
+     *
+     * @return the recommended version of a soft requirement such as
+     * {@code 1.0}, or an empty optional for ranges.
+     */
+    public Optional<ComparableVersion> getRecommendedVersion() {
+        return Optional.ofNullable(recommendedVersion);
+    }
+
+    /**
+     *
+     * @return the ordered, non overlapping restrictions of the range.
+     */
+    List<VersionRestriction> getRestrictions() {
+        return restrictions;
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+
+    private <T> List<T> filterSorted(List<T> sortedCandidates, Function<? super T, ComparableVersion> toVersion) {
+        List<T> contained = new ArrayList<>();
+        int from = 0;
+        for (VersionRestriction restriction : restrictions) {
+            //Touching inclusive bounds may share a version, which is selected once
+            int start = firstMatching(sortedCandidates, toVersion, restriction::isAboveLowerBound, from);
+            int end = firstMatching(sortedCandidates, toVersion, version -> !restriction.isBelowUpperBound(version), start);
+            contained.addAll(sortedCandidates.subList(start, end));
+            from = end;
+        }
+        return contained;
+    }
+
+    /**
+     * @return the index of the first candidate, from the given index, for
+     * which the predicate is true, given that it is false for the candidates
+     * before it and true for the ones after.
+     */
+    private static <T> int firstMatching(List<T> sortedCandidates, Function<? super T, ComparableVersion> toVersion, VersionPredicate predicate, int from) {
+        int low = from;
+        int high = sortedCandidates.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (predicate.test(toVersion.apply(sortedCandidates.get(middle)))) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the end of the first restriction of a range, as Maven does.
+     */
+    private static int endOfRestriction(String process) {
+        int exclusiveEnd = process.indexOf(')');
+        int inclusiveEnd = process.indexOf(']');
+        if (inclusiveEnd < 0 || (exclusiveEnd >= 0 && exclusiveEnd < inclusiveEnd)) {
+            return exclusiveEnd;
+        }
+        return inclusiveEnd;
+    }
+
+    private static VersionRestriction parseRestriction(String spec, String restriction) throws IllegalArgumentException {
+        boolean lowerBoundInclusive = restriction.startsWith("[");
+        boolean upperBoundInclusive = restriction.endsWith("]");
+        String process = restriction.substring(1, restriction.length() - 1).trim();
+
+        int index = process.indexOf(',');
+        if (index < 0) {
+            if (!lowerBoundInclusive || !upperBoundInclusive) {
+                throw new IllegalArgumentException("Invalid Maven version range, single version must be surrounded by []: " + spec);
+            }
+            ComparableVersion version = MAVEN_VERSION_COMPARATOR.parse(process);
+            return new VersionRestriction(version, true, version, true);
+        }
+
+        String lowerBound = process.substring(0, index).trim();
+        String upperBound = process.substring(index + 1).trim();
+        if (upperBound.contains(",")) {
+            throw new IllegalArgumentException("Invalid Maven version range: " + spec);
+        }
+
+        ComparableVersion lowerVersion = lowerBound.isEmpty() ? null : MAVEN_VERSION_COMPARATOR.parse(lowerBound);
+        ComparableVersion upperVersion = upperBound.isEmpty() ? null : MAVEN_VERSION_COMPARATOR.parse(upperBound);
+        if (lowerVersion != null && upperVersion != null && upperVersion.compareTo(lowerVersion) < 0) {
+            throw new IllegalArgumentException("Invalid Maven version range, range defies version ordering: " + spec);
+        }
+        return new VersionRestriction(lowerVersion, lowerBoundInclusive, upperVersion, upperBoundInclusive);
+    }
+
+    @FunctionalInterface
+    private interface VersionPredicate {
+
+        boolean test(ComparableVersion version);
+    }
+}
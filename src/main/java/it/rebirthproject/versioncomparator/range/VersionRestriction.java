@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.range;
+
+import it.rebirthproject.versioncomparator.comparator.ComparableVersion;
+
+/**
+ * A single interval of versions, whose missing bounds are unbounded.
+ */
+final class VersionRestriction {
+
+    static final VersionRestriction EVERYTHING = new VersionRestriction(null, false, null, false);
+
+    final ComparableVersion lowerBound;
+    final boolean lowerBoundInclusive;
+    final ComparableVersion upperBound;
+    final boolean upperBoundInclusive;
+
+    VersionRestriction(ComparableVersion lowerBound, boolean lowerBoundInclusive, ComparableVersion upperBound, boolean upperBoundInclusive) {
+        this.lowerBound = lowerBound;
+        this.lowerBoundInclusive = lowerBoundInclusive;
+        this.upperBound = upperBound;
+        this.upperBoundInclusive = upperBoundInclusive;
+    }
+
+    /**
+     * @return true if the version is greater than the lower bound, or equal
+     * to an inclusive one.
+     */
+    boolean isAboveLowerBound(ComparableVersion version) {
+        if (lowerBound == null) {
+            return true;
+        }
+        int comparison = lowerBound.compareTo(version);
+        return comparison < 0 || (comparison == 0 && lowerBoundInclusive);
+    }
+
+    /**
+     * @return true if the version is lesser than the upper bound, or equal to
+     * an inclusive one.
+     */
+    boolean isBelowUpperBound(ComparableVersion version) {
+        if (upperBound == null) {
+            return true;
+        }
+        int comparison = upperBound.compareTo(version);
+        return comparison > 0 || (comparison == 0 && upperBoundInclusive);
+    }
+
+    boolean contains(ComparableVersion version) {
+        return isAboveLowerBound(version) && isBelowUpperBound(version);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.sort;
+
+/**
+ * The counters of a sort run by an {@link ExternalVersionSorter}.
+ */
+public final class ExternalSortStatistics {
+
+    private final long lineCount;
+    private final long invalidLineCount;
+    private final long writtenLineCount;
+    private final int runCount;
+
+    ExternalSortStatistics(long lineCount, long invalidLineCount, long writtenLineCount, int runCount) {
+        this.lineCount = lineCount;
+        this.invalidLineCount = invalidLineCount;
+        this.writtenLineCount = writtenLineCount;
+        this.runCount = runCount;
+    }
+
+    /**
+     *
+     * @return the number of non empty lines read.
+     */
+    public long getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     *
+     * @return the number of lines skipped because their version is not valid
+     * or, when the lines have a key, because they have no key separator.
+     */
+    public long getInvalidLineCount() {
+        return invalidLineCount;
+    }
+
+    /**
+     *
+     * @return the number of lines written to the output.
+     */
+    public long getWrittenLineCount() {
+        return writtenLineCount;
+    }
+
+    /**
+     *
+     * @return the number of sorted runs spilled to temporary files, zero when
+     * the whole input was sorted in memory.
+     */
+    public int getRunCount() {
+        return runCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ExternalSortStatistics{lineCount=" + lineCount + ", invalidLineCount=" + invalidLineCount
+                + ", writtenLineCount=" + writtenLineCount + ", runCount=" + runCount + "}";
+    }
+}
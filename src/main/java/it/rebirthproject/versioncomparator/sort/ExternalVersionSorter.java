@@ -0,0 +1,372 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.sort;
+
+import it.rebirthproject.versioncomparator.comparator.VersionComparator;
+import it.rebirthproject.versioncomparator.comparator.VersionKeys;
+import it.rebirthproject.versioncomparator.comparator.VersionParseResult;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts files of versions, one on each line, that do not fit in memory.
+ *
+ * The lines are read in chunks of bounded memory. Each line is parsed once
+ * into the order-preserving key of its version, see
+ * {@link VersionComparator#toKey(String)}, then every chunk is sorted and
+ * written to a temporary file, or run, in a compact binary form. The runs
+ * are finally merged, a bounded number at a time, comparing only the keys.
+ * The sort is stable: lines whose versions compare as equal keep their input
+ * order. Lines with an invalid version are skipped and counted. Instances
+ * are created by {@link ExternalVersionSorterBuilder} and can be used by
+ * several threads at once.
+ */
+public final class ExternalVersionSorter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final VersionComparator versionComparator;
+    /**
+     * The separator between the key and the version, or null when the lines
+     * hold only a version.
+     */
+    private final Character keySeparator;
+    private final boolean duplicatesRemoved;
+    private final boolean maxVersionPerKeyKept;
+    private final long chunkSize;
+    private final int mergeWidth;
+    /**
+     * The directory of the runs, or null for the system one.
+     */
+    private final Path temporaryDirectory;
+
+    ExternalVersionSorter(VersionComparator versionComparator, Character keySeparator, boolean duplicatesRemoved, boolean maxVersionPerKeyKept,
+            long chunkSize, int mergeWidth, Path temporaryDirectory) {
+        this.versionComparator = versionComparator;
+        this.keySeparator = keySeparator;
+        this.duplicatesRemoved = duplicatesRemoved;
+        this.maxVersionPerKeyKept = maxVersionPerKeyKept;
+        this.chunkSize = chunkSize;
+        this.mergeWidth = mergeWidth;
+        this.temporaryDirectory = temporaryDirectory;
+    }
+
+    /**
+     * Sorts a file into another one. Both files are encoded in UTF-8.
+     *
+     * @param input the file to sort.
+     * @param output the sorted file, created or replaced.
+     * @return the counters of the sort.
+     * @throws IOException if a file cannot be read or written.
+     */
+    public ExternalSortStatistics sort(Path input, Path output) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(input); OutputStream outputStream = Files.newOutputStream(output)) {
+            return sort(inputStream, outputStream);
+        }
+    }
+
+    /**
+     * Sorts the lines of a stream into another stream. Both streams are
+     * encoded in UTF-8 and are left open.
+     *
+     * @param input the lines to sort.
+     * @param output the stream receiving the sorted lines.
+     * @return the counters of the sort.
+     * @throws IOException if a stream or a temporary file cannot be read or
+     * written.
+     */
+    public ExternalSortStatistics sort(InputStream input, OutputStream output) throws IOException {
+        List<Path> temporaryFiles = new ArrayList<>();
+        try {
+            List<Path> runs = new ArrayList<>();
+            BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), BUFFER_SIZE);
+            List<SortRecord> chunk = new ArrayList<>();
+            long chunkBytes = 0;
+            long lineCount = 0;
+            long invalidLineCount = 0;
+            int runCount = 0;
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                lineCount++;
+                SortRecord record = toRecord(line);
+                if (record == null) {
+                    invalidLineCount++;
+                    continue;
+                }
+                chunk.add(record);
+                chunkBytes += record.estimatedSize();
+                if (chunkBytes >= chunkSize) {
+                    runs.add(writeRun(chunk, temporaryFiles));
+                    runCount++;
+                    chunk.clear();
+                    chunkBytes = 0;
+                }
+            }
+
+            OutputStream bufferedOutput = new BufferedOutputStream(output, BUFFER_SIZE);
+            RecordFilter filter = new RecordFilter(record -> {
+                bufferedOutput.write(record.line);
+                bufferedOutput.write('\n');
+            });
+            if (runs.isEmpty()) {
+                chunk.sort(SortRecord::compare);
+                for (SortRecord record : chunk) {
+                    filter.accept(record);
+                }
+            } else {
+                if (!chunk.isEmpty()) {
+                    runs.add(writeRun(chunk, temporaryFiles));
+                    runCount++;
+                    chunk.clear();
+                }
+                while (runs.size() > mergeWidth) {
+                    runs = mergeRuns(runs, temporaryFiles);
+                }
+                merge(runs, filter);
+            }
+            filter.finish();
+            bufferedOutput.flush();
+            return new ExternalSortStatistics(lineCount, invalidLineCount, filter.written, runCount);
+        } finally {
+            for (Path temporaryFile : temporaryFiles) {
+                Files.deleteIfExists(temporaryFile);
+            }
+        }
+    }
+
+    /**
+     * @return the record of a line, or null if the line is not valid.
+     */
+    private SortRecord toRecord(String line) {
+        int versionStart = 0;
+        int keyLength = 0;
+        if (keySeparator != null) {
+            int separatorIndex = line.lastIndexOf(keySeparator);
+            if (separatorIndex < 0) {
+                return null;
+            }
+            versionStart = separatorIndex + 1;
+            keyLength = utf8Length(line, separatorIndex);
+        }
+
+        //Invalid lines are rejected without an exception, they can be a large part of dirty inputs
+        VersionParseResult parseResult = versionComparator.tryParse(line.substring(versionStart));
+        if (!parseResult.isValid()) {
+            return null;
+        }
+        return new SortRecord(line.getBytes(StandardCharsets.UTF_8), keyLength, parseResult.getVersion().toKey());
+    }
+
+    /**
+     * Sorts a chunk and writes it to a new run. The filter is already applied
+     * to the chunk, which keeps the same lines it would keep in the final
+     * merge, so fewer lines are written.
+     */
+    private Path writeRun(List<SortRecord> chunk, List<Path> temporaryFiles) throws IOException {
+        chunk.sort(SortRecord::compare);
+        Path run = createRun(temporaryFiles);
+        try (DataOutputStream runOutput = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run), BUFFER_SIZE))) {
+            RecordFilter filter = new RecordFilter(record -> record.writeTo(runOutput));
+            for (SortRecord record : chunk) {
+                filter.accept(record);
+            }
+            filter.finish();
+        }
+        return run;
+    }
+
+    /**
+     * Merges every group of consecutive runs into a single run, so the runs
+     * stay in input order and the sort stays stable.
+     */
+    private List<Path> mergeRuns(List<Path> runs, List<Path> temporaryFiles) throws IOException {
+        List<Path> mergedRuns = new ArrayList<>();
+        for (int start = 0; start < runs.size(); start += mergeWidth) {
+            List<Path> group = runs.subList(start, Math.min(start + mergeWidth, runs.size()));
+            Path mergedRun = createRun(temporaryFiles);
+            mergedRuns.add(mergedRun);
+            try (DataOutputStream runOutput = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(mergedRun), BUFFER_SIZE))) {
+                RecordFilter filter = new RecordFilter(record -> record.writeTo(runOutput));
+                merge(group, filter);
+                filter.finish();
+            }
+        }
+        for (Path run : runs) {
+            Files.deleteIfExists(run);
+        }
+        return mergedRuns;
+    }
+
+    /**
+     * Merges runs with a heap of their current records, ties broken by run
+     * order.
+     */
+    private void merge(List<Path> runs, RecordFilter filter) throws IOException {
+        List<RunCursor> cursors = new ArrayList<>();
+        PriorityQueue<RunCursor> heap = new PriorityQueue<>(runs.size(), (cursor1, cursor2) -> {
+            int recordComparison = SortRecord.compare(cursor1.record, cursor2.record);
+            return recordComparison != 0 ? recordComparison : Integer.compare(cursor1.runIndex, cursor2.runIndex);
+        });
+        try {
+            for (int i = 0; i < runs.size(); i++) {
+                RunCursor cursor = new RunCursor(i, new DataInputStream(new BufferedInputStream(Files.newInputStream(runs.get(i)), BUFFER_SIZE)));
+                cursors.add(cursor);
+                if (cursor.advance()) {
+                    heap.add(cursor);
+                }
+            }
+            while (!heap.isEmpty()) {
+                RunCursor cursor = heap.poll();
+                filter.accept(cursor.record);
+                if (cursor.advance()) {
+                    heap.add(cursor);
+                }
+            }
+        } finally {
+            for (RunCursor cursor : cursors) {
+                cursor.input.close();
+            }
+        }
+    }
+
+    /**
+     * Creates an empty run, recorded with the temporary files to delete.
+     */
+    private Path createRun(List<Path> temporaryFiles) throws IOException {
+        Path run = temporaryDirectory == null
+                ? Files.createTempFile("version-sort", ".run")
+                : Files.createTempFile(temporaryDirectory, "version-sort", ".run");
+        temporaryFiles.add(run);
+        return run;
+    }
+
+    /**
+     * @return the number of bytes of the first characters of a string once
+     * encoded in UTF-8, as {@link String#getBytes} encodes them.
+     */
+    private static int utf8Length(String text, int end) {
+        int length = 0;
+        for (int i = 0; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                //A lone surrogate is replaced by '?'
+                length++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    @FunctionalInterface
+    private interface RecordConsumer {
+
+        void accept(SortRecord record) throws IOException;
+    }
+
+    /**
+     * Applies the duplicate removal or the selection of the greatest version
+     * of every key to sorted records.
+     */
+    private final class RecordFilter {
+
+        private final RecordConsumer consumer;
+        /**
+         * The last record written, or the greatest one of the current key
+         * while selecting the greatest versions.
+         */
+        private SortRecord previous;
+        private long written;
+
+        private RecordFilter(RecordConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        private void accept(SortRecord record) throws IOException {
+            if (maxVersionPerKeyKept) {
+                if (previous == null) {
+                    previous = record;
+                } else if (SortRecord.compareKeys(previous, record) != 0) {
+                    write(previous);
+                    previous = record;
+                } else if (VersionKeys.compare(record.versionKey, previous.versionKey) > 0) {
+                    previous = record;
+                }
+            } else if (!duplicatesRemoved || previous == null || SortRecord.compare(previous, record) != 0) {
+                write(record);
+                previous = record;
+            }
+        }
+
+        private void finish() throws IOException {
+            if (maxVersionPerKeyKept && previous != null) {
+                write(previous);
+                previous = null;
+            }
+        }
+
+        private void write(SortRecord record) throws IOException {
+            consumer.accept(record);
+            written++;
+        }
+    }
+
+    private static final class RunCursor {
+
+        private final int runIndex;
+        private final DataInputStream input;
+        private SortRecord record;
+
+        private RunCursor(int runIndex, DataInputStream input) {
+            this.runIndex = runIndex;
+            this.input = input;
+        }
+
+        /**
+         * Reads the next record of the run.
+         *
+         * @return false at the end of the run.
+         */
+        private boolean advance() throws IOException {
+            record = SortRecord.readFrom(input);
+            return record != null;
+        }
+    }
+}
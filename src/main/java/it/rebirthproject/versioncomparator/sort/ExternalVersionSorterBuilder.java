@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.sort;
+
+import it.rebirthproject.versioncomparator.comparator.VersionComparator;
+import java.nio.file.Path;
+
+/**
+ * A builder which can be used to create an {@link ExternalVersionSorter}.
+ */
+public final class ExternalVersionSorterBuilder {
+
+    /**
+     * The default memory used by the lines of an in-memory chunk: 64 MB.
+     */
+    public static final long DEFAULT_CHUNK_SIZE = 64L * 1024 * 1024;
+    /**
+     * The default maximum number of runs merged at once.
+     */
+    public static final int DEFAULT_MERGE_WIDTH = 64;
+
+    private final VersionComparator versionComparator;
+    private Character keySeparator = null;
+    private boolean duplicatesRemoved = false;
+    private boolean maxVersionPerKeyKept = false;
+    private long chunkSize = DEFAULT_CHUNK_SIZE;
+    private int mergeWidth = DEFAULT_MERGE_WIDTH;
+    private Path temporaryDirectory = null;
+
+    /**
+     * @param versionComparator the comparator that parses and orders the
+     * versions.
+     * @throws IllegalArgumentException if the comparator is null.
+     */
+    public ExternalVersionSorterBuilder(VersionComparator versionComparator) throws IllegalArgumentException {
+        if (versionComparator == null) {
+            throw new IllegalArgumentException("The version comparator cannot be null");
+        }
+        this.versionComparator = versionComparator;
+    }
+
+    /**
+     * Reads every line as a key followed by a version, split at the last
+     * separator, as in {@code groupId:artifactId:version} with the separator
+     * {@code :}. Lines are sorted by key, then by version.
+     *
+     * @param separator the character that ends the key.
+     * @return The {@link ExternalVersionSorterBuilder} instance configured
+     * with the key separator.
+     */
+    public ExternalVersionSorterBuilder withKeySeparator(char separator) {
+        this.keySeparator = separator;
+        return this;
+    }
+
+    /**
+     * Writes only the first of the lines with the same key and versions
+     * comparing as equal. Lines are matched by the versions' keys, see
+     * {@link VersionComparator#toKey(String)}, so the few versions that
+     * compare as equal but have different keys are all written.
+     *
+     * @return The {@link ExternalVersionSorterBuilder} instance configured to
+     * remove the duplicates.
+     */
+    public ExternalVersionSorterBuilder removeDuplicates() {
+        this.duplicatesRemoved = true;
+        return this;
+    }
+
+    /**
+     * Writes only the line with the greatest version of every key, the first
+     * one when several versions compare as equal. Without a key separator,
+     * only the greatest version of the whole input is written.
+     *
+     * @return The {@link ExternalVersionSorterBuilder} instance configured to
+     * keep the greatest version of every key.
+     */
+    public ExternalVersionSorterBuilder keepOnlyMaxVersionPerKey() {
+        this.maxVersionPerKeyKept = true;
+        return this;
+    }
+
+    /**
+     * Sets the memory used by the lines sorted at once. A larger chunk means
+     * fewer runs written to temporary files.
+     *
+     * @param bytes the estimated memory of a chunk.
+     * @return The {@link ExternalVersionSorterBuilder} instance configured
+     * with the chunk size.
+     * @throws IllegalArgumentException if the size is not positive.
+     */
+    public ExternalVersionSorterBuilder withChunkSize(long bytes) throws IllegalArgumentException {
+        if (bytes <= 0) {
+            throw new IllegalArgumentException("Invalid chunk size: " + bytes + ". The size must be greater than zero");
+        }
+        this.chunkSize = bytes;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of runs merged at once, which is the number of
+     * temporary files open at the same time. When there are more runs, they
+     * are merged in several passes.
+     *
+     * @param runs the maximum number of runs merged at once.
+     * @return The {@link ExternalVersionSorterBuilder} instance configured
+     * with the merge width.
+     * @throws IllegalArgumentException if the width is lower than two.
+     */
+    public ExternalVersionSorterBuilder withMergeWidth(int runs) throws IllegalArgumentException {
+        if (runs < 2) {
+            throw new IllegalArgumentException("Invalid merge width: " + runs + ". At least two runs must be merged at once");
+        }
+        this.mergeWidth = runs;
+        return this;
+    }
+
+    /**
+     * Sets the directory of the temporary files, the default one of the
+     * system otherwise.
+     *
+     * @param directory the directory of the temporary files.
+     * @return The {@link ExternalVersionSorterBuilder} instance configured
+     * with the temporary directory.
+     */
+    public ExternalVersionSorterBuilder withTemporaryDirectory(Path directory) {
+        this.temporaryDirectory = directory;
+        return this;
+    }
+
+    /**
+     *
+     * @return an {@link ExternalVersionSorter} instance.
+     */
+    public ExternalVersionSorter build() {
+        return new ExternalVersionSorter(versionComparator, keySeparator, duplicatesRemoved, maxVersionPerKeyKept, chunkSize, mergeWidth, temporaryDirectory);
+    }
+}
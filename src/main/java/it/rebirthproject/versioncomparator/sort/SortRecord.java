@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.sort;
+
+import it.rebirthproject.versioncomparator.comparator.VersionKeys;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * A line being sorted, in the compact form written to the sorted runs: the
+ * UTF-8 bytes of the line, the length of its grouping key and the
+ * order-preserving key of its version. Records are ordered by grouping key,
+ * compared as unsigned bytes, then by version key, so a record is never
+ * parsed again once created.
+ */
+final class SortRecord {
+
+    /**
+     * An estimate of the memory used by a record besides its arrays.
+     */
+    private static final int OVERHEAD_BYTES = 64;
+
+    final byte[] line;
+    /**
+     * The number of bytes of the line that form the grouping key, zero when
+     * the lines are not grouped.
+     */
+    final int keyLength;
+    final byte[] versionKey;
+
+    SortRecord(byte[] line, int keyLength, byte[] versionKey) {
+        this.line = line;
+        this.keyLength = keyLength;
+        this.versionKey = versionKey;
+    }
+
+    static int compare(SortRecord record1, SortRecord record2) {
+        int keyComparison = compareKeys(record1, record2);
+        return keyComparison != 0 ? keyComparison : VersionKeys.compare(record1.versionKey, record2.versionKey);
+    }
+
+    static int compareKeys(SortRecord record1, SortRecord record2) {
+        int length = Math.min(record1.keyLength, record2.keyLength);
+        for (int i = 0; i < length; i++) {
+            int byteComparison = Integer.compare(record1.line[i] & 0xFF, record2.line[i] & 0xFF);
+            if (byteComparison != 0) {
+                return byteComparison;
+            }
+        }
+        return Integer.compare(record1.keyLength, record2.keyLength);
+    }
+
+    /**
+     *
+     * @return an estimate of the heap memory used by the record.
+     */
+    long estimatedSize() {
+        return line.length + versionKey.length + OVERHEAD_BYTES;
+    }
+
+    void writeTo(DataOutputStream output) throws IOException {
+        output.writeInt(line.length);
+        output.write(line);
+        output.writeInt(keyLength);
+        output.writeInt(versionKey.length);
+        output.write(versionKey);
+    }
+
+    /**
+     * Reads a record written by {@link #writeTo(DataOutputStream)}.
+     *
+     * @return the record, or null at the end of the input.
+     */
+    static SortRecord readFrom(DataInputStream input) throws IOException {
+        int lineLength;
+        try {
+            lineLength = input.readInt();
+        } catch (EOFException ex) {
+            return null;
+        }
+        byte[] line = new byte[lineLength];
+        input.readFully(line);
+        int keyLength = input.readInt();
+        byte[] versionKey = new byte[input.readInt()];
+        input.readFully(versionKey);
+        return new SortRecord(line, keyLength, versionKey);
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.sort;
+
+import it.rebirthproject.versioncomparator.comparator.VersionComparatorBuilder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * The command-line entry point of the {@link ExternalVersionSorter}.
+ *
+ * <pre>
+ * java -cp version-comparator.jar it.rebirthproject.versioncomparator.sort.VersionSortCommand [options] INPUT OUTPUT
+ * </pre>
+ *
+ * INPUT and OUTPUT are files, or {@code -} for the standard input and
+ * output. The counters of the sort are printed on the standard error.
+ */
+public final class VersionSortCommand {
+
+    static final int EXIT_SUCCESS = 0;
+    static final int EXIT_IO_ERROR = 1;
+    static final int EXIT_USAGE_ERROR = 2;
+
+    private static final String STANDARD_STREAM = "-";
+    private static final long MEGABYTE = 1024L * 1024;
+
+    private static final String USAGE = "Usage: VersionSortCommand [options] INPUT OUTPUT\n"
+            + "Sorts a file with a version on each line. INPUT and OUTPUT can be - for the standard streams.\n"
+            + "Options:\n"
+            + "  --mode minimal|strict|relaxed|maven  the version rules, relaxed by default\n"
+            + "  --key-separator C                    lines are KEY C VERSION, split at the last C\n"
+            + "  --unique                             remove the lines with the same key and an equal version\n"
+            + "  --max-per-key                        keep only the greatest version of every key\n"
+            + "  --chunk-size-mb N                    the memory of the lines sorted at once, 64 by default\n"
+            + "  --temp-dir DIR                       the directory of the temporary files";
+
+    private VersionSortCommand() {
+    }
+
+    /**
+     * Runs the command on the standard streams and exits with its status.
+     *
+     * @param args the command-line arguments.
+     */
+    public static void main(String[] args) {
+        System.exit(run(args, System.in, System.out, System.err));
+    }
+
+    /**
+     * Runs the command.
+     *
+     * @param args the command-line arguments.
+     * @param standardInput the stream read when the input is {@code -}.
+     * @param standardOutput the stream written when the output is {@code -}.
+     * @param standardError the stream receiving the counters and the errors.
+     * @return the exit status of the command.
+     */
+    static int run(String[] args, InputStream standardInput, OutputStream standardOutput, PrintStream standardError) {
+        VersionComparatorBuilder comparatorBuilder = new VersionComparatorBuilder();
+        Character keySeparator = null;
+        boolean unique = false;
+        boolean maxPerKey = false;
+        long chunkSize = ExternalVersionSorterBuilder.DEFAULT_CHUNK_SIZE;
+        Path temporaryDirectory = null;
+
+        int index = 0;
+        try {
+            for (; index < args.length && args[index].startsWith("--"); index++) {
+                switch (args[index]) {
+                    case "--mode":
+                        configureMode(comparatorBuilder, valueOf(args, ++index));
+                        break;
+                    case "--key-separator":
+                        String separator = valueOf(args, ++index);
+                        if (separator.length() != 1) {
+                            throw new IllegalArgumentException("The key separator must be a single character: " + separator);
+                        }
+                        keySeparator = separator.charAt(0);
+                        break;
+                    case "--unique":
+                        unique = true;
+                        break;
+                    case "--max-per-key":
+                        maxPerKey = true;
+                        break;
+                    case "--chunk-size-mb":
+                        chunkSize = Long.parseLong(valueOf(args, ++index)) * MEGABYTE;
+                        break;
+                    case "--temp-dir":
+                        temporaryDirectory = Paths.get(valueOf(args, ++index));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option: " + args[index]);
+                }
+            }
+            if (args.length - index != 2) {
+                throw new IllegalArgumentException("Expected INPUT and OUTPUT");
+            }
+        } catch (IllegalArgumentException ex) {
+            standardError.println(ex.getMessage());
+            standardError.println(USAGE);
+            return EXIT_USAGE_ERROR;
+        }
+
+        ExternalVersionSorterBuilder sorterBuilder = new ExternalVersionSorterBuilder(comparatorBuilder.build());
+        if (keySeparator != null) {
+            sorterBuilder.withKeySeparator(keySeparator);
+        }
+        if (unique) {
+            sorterBuilder.removeDuplicates();
+        }
+        if (maxPerKey) {
+            sorterBuilder.keepOnlyMaxVersionPerKey();
+        }
+        if (temporaryDirectory != null) {
+            sorterBuilder.withTemporaryDirectory(temporaryDirectory);
+        }
+        ExternalVersionSorter sorter;
+        try {
+            sorter = sorterBuilder.withChunkSize(chunkSize).build();
+        } catch (IllegalArgumentException ex) {
+            standardError.println(ex.getMessage());
+            return EXIT_USAGE_ERROR;
+        }
+
+        String input = args[index];
+        try {
+            ExternalSortStatistics statistics = sort(sorter, input, args[index + 1], standardInput, standardOutput);
+            standardError.println("Read " + statistics.getLineCount() + " lines, skipped " + statistics.getInvalidLineCount()
+                    + " invalid lines, wrote " + statistics.getWrittenLineCount() + " lines using " + statistics.getRunCount() + " runs");
+            return EXIT_SUCCESS;
+        } catch (IOException ex) {
+            standardError.println("Cannot sort " + input + ": " + ex);
+            return EXIT_IO_ERROR;
+        }
+    }
+
+    /**
+     * Sorts the input into the output, closing only the files it opens.
+     */
+    private static ExternalSortStatistics sort(ExternalVersionSorter sorter, String input, String output, InputStream standardInput, OutputStream standardOutput) throws IOException {
+        if (STANDARD_STREAM.equals(input)) {
+            return sortInto(sorter, standardInput, output, standardOutput);
+        }
+        try (InputStream inputStream = Files.newInputStream(Paths.get(input))) {
+            return sortInto(sorter, inputStream, output, standardOutput);
+        }
+    }
+
+    private static ExternalSortStatistics sortInto(ExternalVersionSorter sorter, InputStream inputStream, String output, OutputStream standardOutput) throws IOException {
+        if (STANDARD_STREAM.equals(output)) {
+            ExternalSortStatistics statistics = sorter.sort(inputStream, standardOutput);
+            standardOutput.flush();
+            return statistics;
+        }
+        try (OutputStream outputStream = Files.newOutputStream(Paths.get(output))) {
+            return sorter.sort(inputStream, outputStream);
+        }
+    }
+
+    private static String valueOf(String[] args, int index) throws IllegalArgumentException {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value of option " + args[index - 1]);
+        }
+        return args[index];
+    }
+
+    private static void configureMode(VersionComparatorBuilder comparatorBuilder, String mode) throws IllegalArgumentException {
+        switch (mode) {
+            case "minimal":
+                comparatorBuilder.useMinimalVersionParser();
+                break;
+            case "strict":
+                comparatorBuilder.useStrictSemanticVersionParser();
+                break;
+            case "maven":
+                comparatorBuilder.useMavenRulesVersionParser();
+                break;
+            case "relaxed":
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown mode: " + mode);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.utils;
+
+import java.util.Arrays;
+
+/**
+ * An immutable trie, precomputed once, that recognizes a fixed set of words
+ * made of ASCII letters, digits and underscores, ignoring the letters' case.
+ *
+ * The trie is a deterministic automaton stored in a flat transition table, so
+ * scanners can feed it one character at a time while they walk a version and
+ * no allocation happens during a lookup. As in
+ * {@link String#compareToIgnoreCase(String)}, the few non ASCII characters
+ * whose case conversion is an ASCII letter, such as the dotless i or the
+ * Kelvin sign, match that letter.
+ */
+public final class AsciiCaseInsensitiveTrie {
+
+    /**
+     * The state from which every word starts.
+     */
+    public static final int ROOT = 0;
+    /**
+     * The state reached when the characters read so far are not the prefix of
+     * any word.
+     */
+    public static final int NO_STATE = -1;
+    /**
+     * The value of a state that does not complete a word.
+     */
+    public static final int NO_VALUE = -1;
+
+    /**
+     * 26 case-folded letters, 10 digits and the underscore.
+     */
+    private static final int ALPHABET_SIZE = 37;
+
+    /**
+     * The transition table: the next state of a state s for the alphabet
+     * column c is stored at index s * ALPHABET_SIZE + c.
+     */
+    private final int[] transitions;
+    /**
+     * The value of each state, or {@link #NO_VALUE}.
+     */
+    private final int[] values;
+
+    /**
+     * Builds the trie. When the same word (ignoring the case) is given more
+     * than once, the first value wins.
+     *
+     * @param words the words to recognize.
+     * @param wordValues the non-negative value associated to each word.
+     * @throws IllegalArgumentException if a word contains a character outside
+     * the trie alphabet or a value is negative.
+     */
+    public AsciiCaseInsensitiveTrie(String[] words, int[] wordValues) throws IllegalArgumentException {
+        if (words.length != wordValues.length) {
+            throw new IllegalArgumentException("Every word needs exactly one value");
+        }
+
+        int maxStates = 1;
+        for (String word : words) {
+            maxStates += word.length();
+        }
+
+        int[] table = new int[maxStates * ALPHABET_SIZE];
+        Arrays.fill(table, NO_STATE);
+        int[] stateValues = new int[maxStates];
+        Arrays.fill(stateValues, NO_VALUE);
+        int states = 1;
+
+        for (int w = 0; w < words.length; w++) {
+            if (wordValues[w] < 0) {
+                throw new IllegalArgumentException("Invalid negative value for word: " + words[w]);
+            }
+            int state = ROOT;
+            for (int i = 0; i < words[w].length(); i++) {
+                int column = column(words[w].charAt(i));
+                if (column < 0) {
+                    throw new IllegalArgumentException("Invalid character in word: " + words[w]);
+                }
+                int index = state * ALPHABET_SIZE + column;
+                if (table[index] == NO_STATE) {
+                    table[index] = states++;
+                }
+                state = table[index];
+            }
+            if (stateValues[state] == NO_VALUE) {
+                stateValues[state] = wordValues[w];
+            }
+        }
+
+        this.transitions = Arrays.copyOf(table, states * ALPHABET_SIZE);
+        this.values = Arrays.copyOf(stateValues, states);
+    }
+
+    /**
+     * Feeds a character to the automaton.
+     *
+     * @param state the current state.
+     * @param c the next character.
+     * @return the next state, or {@link #NO_STATE} if no word continues with
+     * the character.
+     */
+    public int next(int state, char c) {
+        if (state == NO_STATE) {
+            return NO_STATE;
+        }
+        int column = column(c);
+        return column < 0 ? NO_STATE : transitions[state * ALPHABET_SIZE + column];
+    }
+
+    /**
+     * @param state a state returned by {@link #next(int, char)}.
+     * @return the value of the word completed by the state, or
+     * {@link #NO_VALUE} if the state does not complete a word.
+     */
+    public int valueOf(int state) {
+        return state == NO_STATE ? NO_VALUE : values[state];
+    }
+
+    /**
+     * Looks up a whole word.
+     *
+     * @param text the text containing the word.
+     * @param start the index of the word's first character.
+     * @param end the index following the word's last character.
+     * @return the value of the word, or {@link #NO_VALUE} if the word is not
+     * recognized.
+     */
+    public int get(CharSequence text, int start, int end) {
+        int state = ROOT;
+        for (int i = start; i < end && state != NO_STATE; i++) {
+            state = next(state, text.charAt(i));
+        }
+        return valueOf(state);
+    }
+
+    private static int column(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        } else if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        } else if (c >= '0' && c <= '9') {
+            return 26 + c - '0';
+        } else if (c == '_') {
+            return 36;
+        } else if (c >= 0x80) {
+            char folded = Character.toLowerCase(Character.toUpperCase(c));
+            return folded >= 'a' && folded <= 'z' ? folded - 'a' : -1;
+        } else {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A reusable view of a slice of bytes, held by an array or a buffer, as a
+ * {@link CharSequence}, so the parsers can read a version encoded in ASCII
+ * without copying it into a {@link String}. Every byte is read as a single
+ * character: a slice holding other UTF-8 characters must be decoded with
+ * {@link #toString()} before being parsed, see {@link #isAscii()}.
+ */
+public final class ByteSlice implements CharSequence {
+
+    private byte[] array;
+    private ByteBuffer buffer;
+    private int start;
+    private int end;
+
+    /**
+     * Moves the view to a slice of an array.
+     *
+     * @param array the array holding the slice.
+     * @param start the index of the first byte of the slice.
+     * @param end the index following the last byte of the slice.
+     * @return this view.
+     * @throws IndexOutOfBoundsException if the slice is not inside the array.
+     */
+    public ByteSlice reset(byte[] array, int start, int end) throws IndexOutOfBoundsException {
+        if (start < 0 || end > array.length || start > end) {
+            throw new IndexOutOfBoundsException("Invalid slice " + start + ", " + end + " of an array of length " + array.length);
+        }
+        this.array = array;
+        this.buffer = null;
+        this.start = start;
+        this.end = end;
+        return this;
+    }
+
+    /**
+     * Moves the view to a slice of a buffer. The bytes are read with absolute
+     * gets, so the buffer's position is not changed.
+     *
+     * @param buffer the buffer holding the slice.
+     * @param start the index of the first byte of the slice.
+     * @param end the index following the last byte of the slice.
+     * @return this view.
+     * @throws IndexOutOfBoundsException if the slice is not inside the buffer.
+     */
+    public ByteSlice reset(ByteBuffer buffer, int start, int end) throws IndexOutOfBoundsException {
+        if (start < 0 || end > buffer.limit() || start > end) {
+            throw new IndexOutOfBoundsException("Invalid slice " + start + ", " + end + " of a buffer of limit " + buffer.limit());
+        }
+        this.array = null;
+        this.buffer = buffer;
+        this.start = start;
+        this.end = end;
+        return this;
+    }
+
+    /**
+     *
+     * @return true if every byte of the slice is an ASCII character, so the
+     * view reads the same characters as the decoded string.
+     */
+    public boolean isAscii() {
+        for (int i = start; i < end; i++) {
+            if (byteAt(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    /**
+     * Reads a character, valid only for slices made of ASCII bytes.
+     */
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= end - start) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of slice of length " + (end - start));
+        }
+        return (char) (byteAt(start + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        if (from < 0 || to > end - start || from > to) {
+            throw new IndexOutOfBoundsException("Invalid range " + from + ", " + to + " for slice of length " + (end - start));
+        }
+        ByteSlice slice = new ByteSlice();
+        return array != null ? slice.reset(array, start + from, start + to) : slice.reset(buffer, start + from, start + to);
+    }
+
+    /**
+     * Decodes the slice from UTF-8.
+     *
+     * @return a new string holding the slice.
+     */
+    @Override
+    public String toString() {
+        if (array != null) {
+            return new String(array, start, end - start, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private byte byteAt(int index) {
+        return array != null ? array[index] : buffer.get(index);
+    }
+}
@@ -15,24 +15,163 @@
  */
 package it.rebirthproject.versioncomparator.utils;
 
-import it.rebirthproject.versioncomparator.version.MavenConstants;
+import it.rebirthproject.versioncomparator.model.MavenConstants;
 import it.rebirthproject.versioncomparator.version.VersionReleaseTypes;
 
 public class TokenUtils {    
 
+    /**
+     * The value returned by the version scanners when the whole version
+     * matches the parser's grammar.
+     */
+    public static final int NO_INVALID_INDEX = -1;
+
     public static boolean isSeparator(char c) {
         return c == MavenConstants.HYPHEN_SEPARATOR || c == MavenConstants.FULLSTOP_SEPARATOR;
     }
 
+    /**
+     * Checks if a token is made only of ASCII digits, the same language as
+     * {@link MavenConstants#IS_NUMBER_REGEX}, without running the regex engine.
+     *
+     * @param token The token to check.
+     * @return true if the token is a non-empty sequence of ASCII digits.
+     */
     public static boolean isNumber(String token) {
-        return token.matches(MavenConstants.IS_NUMBER_REGEX);
+        int length = token.length();
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isAsciiDigit(token.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
+    /**
+     * Checks if a Maven token is a "null" value, trimmed from the end of the
+     * versions: a zero, whatever its number of digits, the empty token and
+     * the release qualifiers.
+     *
+     * @param token the token to check.
+     * @return true if the token is a null value.
+     */
     public static boolean isNullValue(String token) {
-        return token.equals(MavenConstants.ZERO)
+        return isZero(token)
                 || token.equals(VersionReleaseTypes.EMPTY.getValue())
                 || token.toUpperCase().equals(VersionReleaseTypes.GA.getValue())
                 || token.toUpperCase().equals(VersionReleaseTypes.FINAL.getValue())
                 || token.toUpperCase().equals(VersionReleaseTypes.RELEASE.getValue());
     }
+
+    private static boolean isZero(String token) {
+        if (token.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < token.length(); i++) {
+            if (token.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    public static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Scans a version's number part starting at the given index. A valid
+     * number part is made of ASCII digits, has no leading zeros (except for 0
+     * itself), has at most maxDigits digits and fits in a long.
+     *
+     * @param version the version to scan.
+     * @param start the index where the number part starts.
+     * @param end the index where the version ends.
+     * @param maxDigits the maximum number of digits allowed.
+     * @return the index following the number part if it is valid, otherwise
+     * the index of the first invalid character encoded as
+     * {@code -1 - invalidIndex}, so that the result is always negative.
+     */
+    public static int scanNumericPart(CharSequence version, int start, int end, int maxDigits) {
+        long value = 0;
+        int index = start;
+        while (index < end && isAsciiDigit(version.charAt(index))) {
+            if (index - start == maxDigits || (index == start + 1 && version.charAt(start) == '0')) {
+                return -1 - index;
+            }
+            int digit = version.charAt(index) - '0';
+            if (value > (Long.MAX_VALUE - digit) / 10) {
+                return -1 - start;
+            }
+            value = value * 10 + digit;
+            index++;
+        }
+        return index == start ? -1 - start : index;
+    }
+
+    /**
+     * Decodes the invalid index returned by
+     * {@link #scanNumericPart(CharSequence, int, int, int)}.
+     *
+     * @param scanResult the negative scan result.
+     * @return the index of the first invalid character.
+     */
+    public static int toInvalidIndex(int scanResult) {
+        return -1 - scanResult;
+    }
+
+    /**
+     * @param version the version to scan.
+     * @param start the index where to start.
+     * @param end the index where the version ends.
+     * @return the index of the first non digit character from start, or end.
+     */
+    public static int skipDigits(CharSequence version, int start, int end) {
+        int index = start;
+        while (index < end && isAsciiDigit(version.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * @param version the version to scan.
+     * @param c the character to find.
+     * @param start the index where to start.
+     * @return the index of the first occurrence of the character from start,
+     * or -1 if the character is not found.
+     */
+    public static int indexOf(CharSequence version, char c, int start) {
+        for (int i = start; i < version.length(); i++) {
+            if (version.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Converts a run of ASCII digits, already validated by
+     * {@link #scanNumericPart(CharSequence, int, int, int)}, into a long
+     * without creating intermediate strings or boxed values.
+     *
+     * @param version the version containing the digits.
+     * @param start the index of the first digit.
+     * @param end the index following the last digit.
+     * @return the numeric value.
+     */
+    public static long parseNumber(CharSequence version, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (version.charAt(i) - '0');
+        }
+        return value;
+    }
 }
@@ -15,7 +15,12 @@
  */
 package it.rebirthproject.versioncomparator.version;
 
+import it.rebirthproject.versioncomparator.utils.AsciiCaseInsensitiveTrie;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * An enum containing all known version's release types.
@@ -38,6 +43,28 @@ public enum VersionReleaseTypes {
     RELEASE("RELEASE", 7, 6),
     SP("SP", 7, 7);
 
+    /**
+     * The release types in declaration order, cached to avoid cloning the
+     * array returned by {@code values()} on every lookup.
+     */
+    private static final VersionReleaseTypes[] VALUES = values();
+
+    /**
+     * The names and values of the release types, mapped to their ordinal.
+     */
+    private static final AsciiCaseInsensitiveTrie SPELLING_LOOKUP = buildSpellingLookup();
+
+    /**
+     * The regex used to check the release type uniqueness, built once.
+     */
+    private static final String REGEX_TO_CHECK_RELEASE_TYPE_UNIQUENESS = buildRegexToCheckReleaseTypeUniqueness();
+
+    /**
+     * The lower and upper case spellings of the release types, mapped to a
+     * single shared instance.
+     */
+    private static final Map<String, String> SPELLINGS = buildSpellings();
+
     /**
      * The String value representing the version release type
      */
@@ -100,13 +127,35 @@ public enum VersionReleaseTypes {
      * @return The enum type given the string value.
      */
     public static VersionReleaseTypes getValueOfReleaseTypes(String value) {
-        VersionReleaseTypes[] lista = VersionReleaseTypes.values();
-        for (VersionReleaseTypes valoreReleaseType : lista) {
-            if (valoreReleaseType.value.compareToIgnoreCase(value) == 0 || valoreReleaseType.name().compareToIgnoreCase(value) == 0) {
-                return valoreReleaseType;
-            }
-        }
-        return null;
+        return getValueOfReleaseTypes(value, 0, value.length());
+    }
+
+    /**
+     * Finds the release type whose value or name is a part of a text,
+     * ignoring the case, in a time that depends only on the part's length.
+     *
+     * @param text the text containing the release type.
+     * @param start the index of the first character.
+     * @param end the index following the last character.
+     * @return The enum type given the string value, or null if the part is
+     * not a release type.
+     */
+    public static VersionReleaseTypes getValueOfReleaseTypes(CharSequence text, int start, int end) {
+        int ordinal = SPELLING_LOOKUP.get(text, start, end);
+        return ordinal == AsciiCaseInsensitiveTrie.NO_VALUE ? null : VALUES[ordinal];
+    }
+
+    /**
+     * Returns the shared instance of a release type spelling, so the versions
+     * holding the same qualifier do not keep a copy each.
+     *
+     * @param word a qualifier or a qualifier token.
+     * @return the shared instance equal to the word if the word is the lower
+     * or upper case spelling of a release type, otherwise the word itself.
+     */
+    public static String canonicalSpelling(String word) {
+        String spelling = SPELLINGS.get(word);
+        return spelling != null ? spelling : word;
     }
 
     /**
@@ -125,6 +174,37 @@ public enum VersionReleaseTypes {
      * @return the complete regex in string format.
      */
     public static String getRegexToCheckReleaseTypeUniqueness() {
+        return REGEX_TO_CHECK_RELEASE_TYPE_UNIQUENESS;
+    }
+
+    /**
+     * Every release type is looked up by its value and by its name, the first
+     * declared type winning, so "BETA" is {@link #BETA} and not {@link #B}.
+     */
+    private static AsciiCaseInsensitiveTrie buildSpellingLookup() {
+        String[] words = new String[VALUES.length * 2];
+        int[] ordinals = new int[words.length];
+        for (VersionReleaseTypes releaseType : VALUES) {
+            words[releaseType.ordinal() * 2] = releaseType.value;
+            words[releaseType.ordinal() * 2 + 1] = releaseType.name();
+            ordinals[releaseType.ordinal() * 2] = releaseType.ordinal();
+            ordinals[releaseType.ordinal() * 2 + 1] = releaseType.ordinal();
+        }
+        return new AsciiCaseInsensitiveTrie(words, ordinals);
+    }
+
+    private static Map<String, String> buildSpellings() {
+        Map<String, String> spellings = new HashMap<>();
+        for (VersionReleaseTypes releaseType : VALUES) {
+            for (String word : new String[]{releaseType.name(), releaseType.value}) {
+                spellings.put(word.toUpperCase(Locale.ROOT), word.toUpperCase(Locale.ROOT));
+                spellings.put(word.toLowerCase(Locale.ROOT), word.toLowerCase(Locale.ROOT));
+            }
+        }
+        return Collections.unmodifiableMap(spellings);
+    }
+
+    private static String buildRegexToCheckReleaseTypeUniqueness() {
         String qualifiers = String.join("|", getValues());
         //(?i) means case insensitive match
         //The Release Type is not mandatory but if is present then must be unique.
@@ -19,4 +19,8 @@
  */
 module it.rebirthproject.versioncomparator {
     exports it.rebirthproject.versioncomparator.comparator;
+    exports it.rebirthproject.versioncomparator.metrics;
+    exports it.rebirthproject.versioncomparator.range;
+    exports it.rebirthproject.versioncomparator.sort;
+    exports it.rebirthproject.versioncomparator.version;
 }
\ No newline at end of file
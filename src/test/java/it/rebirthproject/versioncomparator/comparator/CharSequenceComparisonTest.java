@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class CharSequenceComparisonTest {
+
+    private static final VersionComparator MAVEN_COMPARATOR = new VersionComparatorBuilder().useMavenRulesVersionParser().build();
+    private static final VersionComparator RELAXED_COMPARATOR = new VersionComparatorBuilder().build();
+
+    private static ByteBuffer sliceOf(String version) {
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+        buffer.put("[".getBytes(StandardCharsets.UTF_8));
+        int start = buffer.position();
+        buffer.put(version.getBytes(StandardCharsets.UTF_8));
+        int end = buffer.position();
+        buffer.put("]".getBytes(StandardCharsets.UTF_8));
+        buffer.position(start);
+        buffer.limit(end);
+        return buffer;
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1.0, 1.0-SNAPSHOT",
+        "1.0-rc1, 1.0-beta2",
+        "1.0-été, 1.0-ete",
+        "1.0-ß, 1.0-ss",
+        "2_0, 2-1",
+        "1.0.0, 1"
+    })
+    public void should_CompareLikeStrings_When_VersionsAreCharSequencesOrBytes(String version1, String version2) {
+        int expected = MAVEN_COMPARATOR.compare(version1, version2);
+        byte[] bytes1 = ("xx" + version1).getBytes(StandardCharsets.UTF_8);
+        byte[] bytes2 = (version2 + "yyy").getBytes(StandardCharsets.UTF_8);
+        int length2 = version2.getBytes(StandardCharsets.UTF_8).length;
+
+        assertEquals(expected, MAVEN_COMPARATOR.compare(new StringBuilder(version1), new StringBuilder(version2)));
+        assertEquals(expected, MAVEN_COMPARATOR.compareUtf8(bytes1, 2, bytes1.length - 2, bytes2, 0, length2));
+        ByteBuffer buffer1 = sliceOf(version1);
+        ByteBuffer buffer2 = sliceOf(version2);
+        assertEquals(expected, MAVEN_COMPARATOR.compareUtf8(buffer1, buffer2));
+        assertEquals(1, buffer1.position());
+        assertEquals(1, buffer2.position());
+    }
+
+    @Test
+    public void should_ThrowException_When_SliceIsNotValid() {
+        byte[] bytes = "1.0.0 1.0".getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(1, RELAXED_COMPARATOR.compareUtf8(bytes, 0, 5, "0.9.9".getBytes(StandardCharsets.US_ASCII), 0, 5));
+        assertThrows(IllegalArgumentException.class, () -> RELAXED_COMPARATOR.compareUtf8(bytes, 0, 9, bytes, 0, 5));
+        assertThrows(IllegalArgumentException.class, () -> RELAXED_COMPARATOR.compareUtf8(null, 0, 0, bytes, 0, 5));
+        assertThrows(IllegalArgumentException.class, () -> RELAXED_COMPARATOR.compareUtf8(null, sliceOf("1.0.0")));
+        assertThrows(IllegalArgumentException.class, () -> RELAXED_COMPARATOR.compare(new StringBuilder("1.0"), new StringBuilder("1.0.0")));
+        assertThrows(IndexOutOfBoundsException.class, () -> RELAXED_COMPARATOR.compareUtf8(bytes, 5, 10, bytes, 0, 5));
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import it.rebirthproject.versioncomparator.version.VersionReleaseTypes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class ComparableVersionTest {
+
+    @ParameterizedTest
+    @MethodSource("comparatorsProvider")
+    public void should_CompareLikeComparator_When_VersionsAreParsedOnce(VersionComparator comparator, List<String> versions) {
+        for (String first : versions) {
+            for (String second : versions) {
+                ComparableVersion firstVersion = comparator.parse(first);
+                ComparableVersion secondVersion = comparator.parse(second);
+                int expected = Integer.signum(comparator.compare(first, second));
+
+                assertEquals(expected, Integer.signum(firstVersion.compareTo(secondVersion)), "Mismatch for versions [" + first + ", " + second + "]");
+                assertEquals(expected == 0, firstVersion.equals(secondVersion), "Mismatch for versions [" + first + ", " + second + "]");
+                if (expected == 0) {
+                    assertEquals(firstVersion.hashCode(), secondVersion.hashCode(), "Mismatch for versions [" + first + ", " + second + "]");
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("comparatorsProvider")
+    public void should_SortLikeComparator_When_VersionsAreParsedOnce(VersionComparator comparator, List<String> versions) {
+        List<String> expected = new ArrayList<>(versions);
+        Collections.reverse(expected);
+        expected.sort(comparator);
+
+        List<ComparableVersion> parsedVersions = new ArrayList<>();
+        for (int i = versions.size() - 1; i >= 0; i--) {
+            parsedVersions.add(comparator.parse(versions.get(i)));
+        }
+        Collections.sort(parsedVersions);
+
+        assertEquals(expected, parsedVersions.stream().map(ComparableVersion::getOriginalVersion).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void should_CompareVersions_When_ParsedByDifferentComparatorsOfTheSameMode() {
+        ComparableVersion firstVersion = new VersionComparatorBuilder().build().parse("1.0.0-RC");
+        ComparableVersion secondVersion = new VersionComparatorBuilder().build().parse("1.0.0");
+
+        assertEquals(-1, Integer.signum(firstVersion.compareTo(secondVersion)));
+        assertNotEquals(firstVersion, secondVersion);
+    }
+
+    @Test
+    public void should_Throw_When_VersionsAreParsedByDifferentModes() {
+        ComparableVersion relaxedVersion = new VersionComparatorBuilder().build().parse("1.0.0");
+        ComparableVersion mavenVersion = new VersionComparatorBuilder().useMavenRulesVersionParser().build().parse("1.0.0");
+
+        assertThrows(IllegalArgumentException.class, () -> relaxedVersion.compareTo(mavenVersion));
+        assertNotEquals(relaxedVersion, mavenVersion);
+    }
+
+    @Test
+    public void should_Throw_When_VersionIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionComparatorBuilder().useMinimalVersionParser().build().parse("1.0.0-RC"));
+    }
+
+    private static Stream<Arguments> comparatorsProvider() {
+        return Stream.of(
+                Arguments.of(new VersionComparatorBuilder().useMinimalVersionParser().build(), Arrays.asList("1.2", "1.2.0", "1.2.1", "0.9.9", "10.0", "2.0.1")),
+                Arguments.of(new VersionComparatorBuilder().useStrictSemanticVersionParser().build(), Arrays.asList("1.0.0-alpha", "1.0.0-alpha.1", "1.0.0-alpha.beta", "1.0.0-beta.2", "1.0.0-beta.11", "1.0.0-rc.1", "1.0.0", "1.0.0+build.1", "2.0.0")),
+                Arguments.of(new VersionComparatorBuilder().build(), Arrays.asList("1.0.0-SNAPSHOT", "1.0.0-ALPHA", "1.0.0-BETA", "1.0.0-RC", "1.0.0", "1.0.0-FINAL", "1.0.1", "2.0.0-M2")),
+                Arguments.of(new VersionComparatorBuilder().useMavenRulesVersionParser().build(), Arrays.asList("1-alpha", "1-beta", "1-rc", "1-SNAPSHOT", "1", "1.0", "1-sp", "1.1", "1-1.foo-bar1baz-.1", "2.0.0.RELEASE", "01.0"))
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "MINIMAL, 1.2.3, EMPTY",
+        "STRICT, 1.0.0, EMPTY",
+        "STRICT, 1.0.0-alpha.1, ALPHA",
+        "STRICT, 1.0.0-rc.1+build.5, RC",
+        "STRICT, 1.0.0-x.7.z.92, ",
+        "RELAXED, 1.2.3.FINAL, FINAL",
+        "RELAXED, 1.2.3SNAPSHOT, SNAPSHOT",
+        "RELAXED, 10.20.30-DEV-SNAPSHOT, SNAPSHOT",
+        "RELAXED, 1.2.3-rc, RC",
+        "RELAXED, 1.2.3-DEV, ",
+        "MAVEN, 1.0, EMPTY",
+        "MAVEN, 1.0-rc1, RC",
+        "MAVEN, 1.0-rc1-SNAPSHOT, SNAPSHOT",
+        "MAVEN, 1.0-cr-2, CR",
+        "MAVEN, 1.0.Final, EMPTY",
+        "MAVEN, 1.0-sp1, SP",
+        "MAVEN, 1-a1, A",
+        "MAVEN, 1-a, ",
+        "MAVEN, 31.1-jre, ",
+        "MAVEN, 2.0-jre-beta, BETA"
+    })
+    public void should_FindReleaseType_When_QualifierNamesIt(String mode, String version, String expectedReleaseType) {
+        VersionComparatorBuilder builder = new VersionComparatorBuilder();
+        switch (mode) {
+            case "MINIMAL":
+                builder.useMinimalVersionParser();
+                break;
+            case "STRICT":
+                builder.useStrictSemanticVersionParser();
+                break;
+            case "MAVEN":
+                builder.useMavenRulesVersionParser();
+                break;
+            default:
+                break;
+        }
+
+        Optional<VersionReleaseTypes> releaseType = builder.build().parse(version).getReleaseType();
+
+        assertEquals(Optional.ofNullable(expectedReleaseType).map(VersionReleaseTypes::valueOf), releaseType, "Mismatch for " + version);
+    }
+}
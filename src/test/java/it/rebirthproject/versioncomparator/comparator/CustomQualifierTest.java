@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class CustomQualifierTest {
+
+    private static VersionComparatorBuilder builderWithCustomQualifiers() {
+        return new VersionComparatorBuilder()
+                .withQualifier("nightly", 1, 4)
+                .withQualifier("preview", 4, 2)
+                .withQualifier("hotfix", 7, 7);
+    }
+
+    private static void assertComparison(VersionComparator comparator, String version1, String version2, int expectedResult) {
+        assertEquals(expectedResult, comparator.compare(version1, version2));
+        assertEquals(-expectedResult, comparator.compare(version2, version1));
+        assertEquals(expectedResult, Integer.signum(VersionKeys.compare(comparator.toKey(version1), comparator.toKey(version2))));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1.0.0-preview, 1.0.0-beta, 1",
+        "1.0.0-hotfix, 1.0.0-rc, 1",
+        "1.0.0-nightly, 1.0.0-alpha, -1",
+        "1.0.0-NIGHTLY, 1.0.0-Nightly, 0",
+        "1.0.0-preview, 1.0.0-nightly, 1",
+        "1.0.0-hotfix, 1.0.0, -1"
+    })
+    public void should_OrderCustomQualifiersByPriority_When_RulesAreRelaxedSemantic(String version1, String version2, int expectedResult) {
+        assertComparison(builderWithCustomQualifiers().build(), version1, version2, expectedResult);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1.0-preview, 1.0-beta, 1",
+        "1.0-preview, 1.0-rc, -1",
+        "1.0-hotfix, 1.0, 1",
+        "1.0-nightly, 1.0, -1",
+        "1.0-nightly, 1.0-SNAPSHOT, 0",
+        "1.0-a, 1.0-nightly, 1"
+    })
+    public void should_OrderCustomQualifiersByPriority_When_RulesAreMaven(String version1, String version2, int expectedResult) {
+        assertComparison(builderWithCustomQualifiers().useMavenRulesVersionParser().build(), version1, version2, expectedResult);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1.0.0-preview, 1.0.0-beta, -1",
+        "1.0.0-preview, 1.0.0-nightly, 1"
+    })
+    public void should_CompareTextOfQualifiers_When_QualifiersAreNotRegistered(String version1, String version2, int expectedResult) {
+        assertEquals(expectedResult, new VersionComparatorBuilder().build().compare(version1, version2));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "'', 0, 0",
+        "1nightly, 0, 0",
+        "night-ly, 0, 0",
+        "pre_view, 1, 1",
+        "nightly2, 1, 1",
+        "rc, 0, 0",
+        "Beta, 0, 0",
+        "NIGHTLY, 0, 0",
+        "weekly, -1, 0",
+        "weekly, 0, 16"
+    })
+    public void should_ThrowException_When_CustomQualifierIsNotValid(String name, int semanticPriority, int mavenPriority) {
+        VersionComparatorBuilder builder = new VersionComparatorBuilder().withQualifier("nightly", 1, 4);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.withQualifier(name, semanticPriority, mavenPriority));
+    }
+
+    @Test
+    public void should_ThrowException_When_VersionsHaveDifferentCustomQualifiers() {
+        ComparableVersion nightly = new VersionComparatorBuilder().withQualifier("nightly", 9, 9).build().parse("1.0.0-nightly");
+        ComparableVersion finalVersion = new VersionComparatorBuilder().build().parse("1.0.0-final");
+        ComparableVersion otherNightly = new VersionComparatorBuilder().withQualifier("NIGHTLY", 9, 9).build().parse("1.0.0-nightly");
+
+        assertThrows(IllegalArgumentException.class, () -> nightly.compareTo(finalVersion));
+        assertThrows(IllegalArgumentException.class, () -> finalVersion.compareTo(nightly));
+        assertThrows(IllegalArgumentException.class, () -> nightly.compareTo(new VersionComparatorBuilder().withQualifier("nightly", 9, 8).build().parse("1.0.0")));
+        assertNotEquals(finalVersion, new VersionComparatorBuilder().withQualifier("nightly", 9, 9).build().parse("1.0.0-final"));
+        assertEquals(0, nightly.compareTo(otherNightly));
+        assertEquals(nightly, otherNightly);
+    }
+
+    @Test
+    public void should_ThrowException_When_CustomQualifierIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionComparatorBuilder().withQualifier(null, 0, 0));
+    }
+}
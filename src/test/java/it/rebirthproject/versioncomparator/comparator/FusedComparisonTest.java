@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class FusedComparisonTest {
+
+    private static final VersionComparator MINIMAL_COMPARATOR = new VersionComparatorBuilder().useMinimalVersionParser().build();
+    private static final VersionComparator STRICT_COMPARATOR = new VersionComparatorBuilder().useStrictSemanticVersionParser().build();
+    private static final VersionComparator RELAXED_COMPARATOR = new VersionComparatorBuilder().build();
+    private static final VersionComparator CACHED_RELAXED_COMPARATOR = new VersionComparatorBuilder().withParseCache(16).build();
+
+    private static int compareParsed(VersionComparator comparator, String version1, String version2) {
+        return comparator.parse(version1).compareTo(comparator.parse(version2));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1.0.0, 1.0.1",
+        "1.10.0, 1.9.0",
+        "2.0.0, 10.0.0",
+        "1.0.0, 1.0.0-alpha",
+        "1.0.0-alpha, 1.0.0-beta",
+        "1.0.1-alpha, 1.0.0",
+        "1.2.3, 1.2.3"
+    })
+    public void should_CompareLikeParsedVersions_When_SemanticVersionsAreValid(String version1, String version2) {
+        assertEquals(compareParsed(STRICT_COMPARATOR, version1, version2), STRICT_COMPARATOR.compare(version1, version2));
+        assertEquals(compareParsed(STRICT_COMPARATOR, version2, version1), STRICT_COMPARATOR.compare(version2, version1));
+        assertEquals(compareParsed(RELAXED_COMPARATOR, version1, version2), RELAXED_COMPARATOR.compare(version1, version2));
+        assertEquals(compareParsed(RELAXED_COMPARATOR, version2, version1), RELAXED_COMPARATOR.tryCompare(version2, version1));
+        assertEquals(CACHED_RELAXED_COMPARATOR.compare(version1, version2), RELAXED_COMPARATOR.compare(version1, version2));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1.0.0+build.2, 1.0.0+build.10",
+        "1.0.1+build.2, 1.0.0+build.10",
+        "9223372036854775807.0.0, 9223372036854775806.0.0"
+    })
+    public void should_CompareLikeParsedVersions_When_StrictVersionsAreValid(String version1, String version2) {
+        assertEquals(compareParsed(STRICT_COMPARATOR, version1, version2), STRICT_COMPARATOR.compare(version1, version2));
+        assertEquals(compareParsed(STRICT_COMPARATOR, version2, version1), STRICT_COMPARATOR.tryCompare(version2, version1));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1.0, 1.0.0",
+        "1.0.1, 1.1",
+        "2.0, 1.9.9",
+        "1.2.3, 1.2.3",
+        "1.2, 1.2.0"
+    })
+    public void should_CompareLikeParsedVersions_When_MinimalVersionsAreValid(String version1, String version2) {
+        assertEquals(compareParsed(MINIMAL_COMPARATOR, version1, version2), MINIMAL_COMPARATOR.compare(version1, version2));
+        assertEquals(compareParsed(MINIMAL_COMPARATOR, version2, version1), MINIMAL_COMPARATOR.tryCompare(version2, version1));
+    }
+
+    @Test
+    public void should_ThrowException_When_NumbersDifferButAVersionIsNotValid() {
+        assertThrows(IllegalArgumentException.class, () -> STRICT_COMPARATOR.compare("2.0.0", "1.0.0-"));
+        assertThrows(IllegalArgumentException.class, () -> STRICT_COMPARATOR.compare("2.0.0-a..b", "1.0.0"));
+        assertThrows(IllegalArgumentException.class, () -> MINIMAL_COMPARATOR.compare("2.0", "1.0.0.0"));
+        assertThrows(IllegalArgumentException.class, () -> RELAXED_COMPARATOR.compare(null, "1.0.0"));
+        assertEquals(VersionComparator.INVALID_FIRST_VERSION, RELAXED_COMPARATOR.tryCompare("2.0", "1.0.0"));
+        assertEquals(VersionComparator.INVALID_SECOND_VERSION, RELAXED_COMPARATOR.tryCompare("2.0.0", "1.0.0+x"));
+    }
+
+    @Test
+    public void should_ThrowParserMessage_When_NumbersAreEqualAndAVersionIsNotValid() {
+        IllegalArgumentException expected = assertThrows(IllegalArgumentException.class, () -> STRICT_COMPARATOR.parse("1.0.0-"));
+
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> STRICT_COMPARATOR.compare("1.0.0-alpha", "1.0.0-"));
+
+        assertEquals(expected.getMessage(), thrown.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> STRICT_COMPARATOR.compare("99999999999999999999.0.0", "1.0.0"));
+        assertEquals(VersionComparator.INVALID_FIRST_VERSION, RELAXED_COMPARATOR.tryCompare("1.0.0+x", "1.0.0"));
+        assertEquals(VersionComparator.INVALID_SECOND_VERSION, MINIMAL_COMPARATOR.tryCompare("1.0", "1.0.x"));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import it.rebirthproject.versioncomparator.version.VersionReleaseTypes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class LatestVersionResolverTest {
+
+    private static final VersionComparator MAVEN_COMPARATOR = new VersionComparatorBuilder().useMavenRulesVersionParser().build();
+
+    private static final List<String> MAVEN_VERSIONS = Arrays.asList("1.0", "2.0-SNAPSHOT", "1.1", "1.2-b1", "1.1.Final", "1.2-jre", "1.3-RC1",
+            "1.3-cr2", "1.0-sp1", "1.2-alpha-2");
+
+    @ParameterizedTest
+    @CsvSource({
+        "ANY, 2.0-SNAPSHOT",
+        "WITHOUT_PRE_RELEASES, 1.2-jre",
+        "EXCLUDING_SNAPSHOT, 1.3-cr2",
+        "EXCLUDING_CR, 2.0-SNAPSHOT",
+        "ONLY_RELEASES, 1.1",
+        "ONLY_BETA, 1.2-b1"
+    })
+    public void should_FindLatestAcceptedVersion_When_FilterIsGiven(String filterName, String expectedVersion) {
+        LatestVersionResolver resolver = new LatestVersionResolver(MAVEN_COMPARATOR, filterOf(filterName));
+
+        assertEquals(expectedVersion, resolver.findLatest(MAVEN_VERSIONS).get().getOriginalVersion());
+        assertEquals(expectedVersion, resolver.findLatest(MAVEN_VERSIONS.iterator()).get().getOriginalVersion());
+        assertEquals(expectedVersion, resolver.findLatest(MAVEN_VERSIONS.stream()).get().getOriginalVersion());
+    }
+
+    @Test
+    public void should_FindLatestLikeSorting_When_VersionsAreMany() {
+        VersionComparator comparator = new VersionComparatorBuilder().build();
+        List<String> versions = new ArrayList<>();
+        Random random = new Random(7);
+        String[] qualifiers = {"", "-SNAPSHOT", "-alpha", ".BETA", "-RC", "-FINAL", "-STABLE"};
+        for (int i = 0; i < 10_000; i++) {
+            versions.add(random.nextInt(20) + "." + random.nextInt(20) + "." + random.nextInt(20) + qualifiers[random.nextInt(qualifiers.length)]);
+        }
+        String expected = Collections.max(versions, comparator);
+
+        LatestVersionResolver resolver = new LatestVersionResolver(comparator);
+
+        assertEquals(expected, resolver.findLatest(versions).get().getOriginalVersion());
+        assertEquals(expected, resolver.findLatest(versions.parallelStream()).get().getOriginalVersion());
+    }
+
+    @Test
+    public void should_KeepFirstVersion_When_VersionsAreEqual() {
+        LatestVersionResolver resolver = new LatestVersionResolver(MAVEN_COMPARATOR);
+        List<String> versions = Arrays.asList("0.9", "1", "1.0", "1.0.0");
+
+        assertEquals("1", resolver.findLatest(versions).get().getOriginalVersion());
+        assertEquals("1", resolver.findLatest(versions.stream()).get().getOriginalVersion());
+    }
+
+    @Test
+    public void should_FindNothing_When_NoVersionIsAccepted() {
+        LatestVersionResolver resolver = new LatestVersionResolver(MAVEN_COMPARATOR, ReleaseTypeFilter.withoutPreReleases());
+
+        assertFalse(resolver.findLatest(Arrays.asList("1.0-SNAPSHOT", "1.0-a1", "1.0-M2")).isPresent());
+        assertFalse(resolver.findLatest(Stream.empty()).isPresent());
+    }
+
+    @Test
+    public void should_ThrowException_When_ArgumentIsNotValid() {
+        assertThrows(IllegalArgumentException.class, () -> new LatestVersionResolver(null));
+        assertThrows(IllegalArgumentException.class, () -> new LatestVersionResolver(MAVEN_COMPARATOR, null));
+        assertThrows(IllegalArgumentException.class, () -> ReleaseTypeFilter.excluding(VersionReleaseTypes.SNAPSHOT, null));
+        assertThrows(IllegalArgumentException.class, () -> new LatestVersionResolver(MAVEN_COMPARATOR).findLatest(Arrays.asList("1.0", " ")));
+    }
+
+    @Test
+    public void should_ReturnSharedFilters_When_FiltersArePredefined() {
+        assertSame(ReleaseTypeFilter.any(), ReleaseTypeFilter.any());
+        assertSame(ReleaseTypeFilter.withoutPreReleases(), ReleaseTypeFilter.withoutPreReleases());
+    }
+
+    private static ReleaseTypeFilter filterOf(String filterName) {
+        switch (filterName) {
+            case "WITHOUT_PRE_RELEASES":
+                return ReleaseTypeFilter.withoutPreReleases();
+            case "EXCLUDING_SNAPSHOT":
+                return ReleaseTypeFilter.excluding(VersionReleaseTypes.SNAPSHOT);
+            case "EXCLUDING_CR":
+                return ReleaseTypeFilter.excluding(VersionReleaseTypes.CR);
+            case "ONLY_RELEASES":
+                return ReleaseTypeFilter.only(VersionReleaseTypes.EMPTY, VersionReleaseTypes.GA, VersionReleaseTypes.FINAL, VersionReleaseTypes.RELEASE);
+            case "ONLY_BETA":
+                return ReleaseTypeFilter.only(VersionReleaseTypes.BETA);
+            default:
+                return ReleaseTypeFilter.any();
+        }
+    }
+}
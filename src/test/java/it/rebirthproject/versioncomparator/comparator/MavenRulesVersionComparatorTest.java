@@ -17,7 +17,6 @@
 package it.rebirthproject.versioncomparator.comparator;
 
 import it.rebirthproject.versioncomparator.parser.MavenRulesVersionParser;
-import it.rebirthproject.versioncomparator.utils.MavenRulesVersionPadder;
 import java.util.Locale;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -27,7 +26,7 @@ import org.junit.jupiter.params.provider.CsvSource;
 // Based on examples provided by https://docs.oracle.com/middleware/1212/core/MAVEN/maven_version.htm#MAVEN400
 public class MavenRulesVersionComparatorTest {
 
-    private static final MavenRulesVersionComparator mavenVersionComparator = new MavenRulesVersionComparator(new MavenRulesVersionParser(), new MavenRulesVersionPadder());
+    private static final MavenRulesVersionComparator mavenVersionComparator = new MavenRulesVersionComparator(new MavenRulesVersionParser());
 
     @ParameterizedTest
     @CsvSource({
@@ -465,6 +464,38 @@ public class MavenRulesVersionComparatorTest {
         }
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "1-cep-foo-2-zap, 1.2-rc, -1",
+        "1.2-rc, 1-cep-foo-2-zap, 1",
+        "1-cep-foo-2-zap, 2, -1",
+        "2, 1-cep-foo-2-zap, 1",
+        "1-a1, 1-a, 1",
+        "1, 1-a1, 1",
+        "1, 1.a1, 1",
+        "1.1, 1-1, 1",
+        "1-1, 1.1.1, -1",
+        "1, 1-b, -1"
+    })
+    public void should_PadShorterVersion_When_TokenListsHaveDifferentLengths(String firstVersion, String secondVersion, int expectedComparison) {
+        assertComparison(firstVersion, secondVersion, expectedComparison);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1-00, 1, 0",
+        "1.000, 1.0, 0",
+        "1-000-1, 1-1, 0",
+        "1.00.1, 1.0.1, 0",
+        "2.0.00-b, 2_b_release, 0",
+        "2_b_release, 2.0.00-b, 0",
+        "[0+1], 0-00, 1",
+        "0-00, [0+1], -1"
+    })
+    public void should_TrimTrailingZeros_When_ZerosHaveSeveralDigits(String firstVersion, String secondVersion, int expectedComparison) {
+        assertComparison(firstVersion, secondVersion, expectedComparison);
+    }
+
     private void assertComparison(String firstVersion, String secondVersion, int expectedComparison) {
         int actualComparison = Integer.signum(mavenVersionComparator.compare(firstVersion, secondVersion));
         assertEquals(expectedComparison, actualComparison, "Mismatch for versions [" + firstVersion + ", " + secondVersion + "]");
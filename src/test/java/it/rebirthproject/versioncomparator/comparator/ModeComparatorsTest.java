@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class ModeComparatorsTest {
+
+    @Test
+    public void should_BuildTheComparatorOfTheMode_When_ModeIsChosen() {
+        assertEquals(MinimalVersionComparator.class, new VersionComparatorBuilder().useMinimalVersionParser().build().getClass());
+        assertEquals(StrictSemanticVersionComparator.class, new VersionComparatorBuilder().useStrictSemanticVersionParser().build().getClass());
+        assertEquals(RelaxedSemanticVersionComparator.class, new VersionComparatorBuilder().build().getClass());
+        assertEquals(MavenRulesVersionComparator.class, new VersionComparatorBuilder().useMavenRulesVersionParser().build().getClass());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1.0.0, 1.0.0-alpha, 1, -1",
+        "1.0.0-alpha.1, 1.0.0-alpha.beta, -1, 1",
+        "1.0.0-alpha.10, 1.0.0-alpha.9, 1, -1",
+        "1.0.0-rc.1, 1.0.0-beta.11, 1, -1",
+        "1.0.0-alpha, 1.0.0-alpha.1, -1, 1",
+        "1.0.0+build.1, 1.0.0+build.2, 0, 0",
+        "1.0.0-FINAL, 1.0.0, 1, -1"
+    })
+    public void should_CompareWithTheModeRules_When_ModeIsStrictSemantic(String version1, String version2, int expectedResult, int expectedReverseResult) {
+        VersionComparator comparator = new VersionComparatorBuilder().useStrictSemanticVersionParser().build();
+
+        assertEquals(expectedResult, comparator.compare(version1, version2));
+        assertEquals(expectedReverseResult, comparator.compare(version2, version1));
+    }
+
+    /**
+     * Unknown and known qualifiers are not ordered consistently by the
+     * relaxed semantic rules, so the reverse comparison is not always the
+     * opposite one.
+     */
+    @ParameterizedTest
+    @CsvSource({
+        "1.0.0, 1.0.0-alpha, 1, -1",
+        "1.0.0-RC, 1.0.0-SNAPSHOT, 1, -1",
+        "1.0.0-STABLE, 1.0.0, 1, -1",
+        "1.0.0-custom, 1.0.0-beta, -1, -1",
+        "1.0.0-custom, 1.0.0-final, 1, 1",
+        "1.0.0-alpha, 1.0.0-ALPHA, 0, 0"
+    })
+    public void should_CompareWithTheModeRules_When_ModeIsRelaxedSemantic(String version1, String version2, int expectedResult, int expectedReverseResult) {
+        VersionComparator comparator = new VersionComparatorBuilder().build();
+
+        assertEquals(expectedResult, comparator.compare(version1, version2));
+        assertEquals(expectedReverseResult, comparator.compare(version2, version1));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1.0, 1.0.0, -1, 1",
+        "1.0.1, 1.0.1, 0, 0",
+        "2.1, 2.0.9, 1, -1"
+    })
+    public void should_CompareWithTheModeRules_When_ModeIsMinimal(String version1, String version2, int expectedResult, int expectedReverseResult) {
+        VersionComparator comparator = new VersionComparatorBuilder().useMinimalVersionParser().withParseCache(8).build();
+
+        assertEquals(expectedResult, comparator.compare(version1, version2));
+        assertEquals(expectedReverseResult, comparator.compare(version2, version1));
+    }
+}
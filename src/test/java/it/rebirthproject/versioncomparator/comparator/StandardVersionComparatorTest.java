@@ -16,9 +16,6 @@
  */
 package it.rebirthproject.versioncomparator.comparator;
 
-import it.rebirthproject.versioncomparator.parser.MinimalVersionParser;
-import it.rebirthproject.versioncomparator.parser.RelaxedSemanticVersionParser;
-import it.rebirthproject.versioncomparator.parser.StrictSemanticVersionParser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -34,7 +31,7 @@ public class StandardVersionComparatorTest {
         "1.0.0, 1.2.0, -1"                
     })
     public void compareMinimalVersionTest(String version1, String version2, int expectedComparisonResult) {
-        int actualComparisonResult = new StandardVersionComparator(new MinimalVersionParser()).compare(version1, version2);
+        int actualComparisonResult = new VersionComparatorBuilder().useMinimalVersionParser().build().compare(version1, version2);
         assertEquals(expectedComparisonResult, actualComparisonResult);
     }
     
@@ -62,7 +59,7 @@ public class StandardVersionComparatorTest {
         "1.0.0-bar, 1.0.0-foo, -1"
     })
     public void compareRelaxedSemanticVersionTest(String version1, String version2, int expectedComparisonResult) {
-        int actualComparisonResult = new StandardVersionComparator(new RelaxedSemanticVersionParser()).compare(version1, version2);
+        int actualComparisonResult = new VersionComparatorBuilder().build().compare(version1, version2);
         assertEquals(expectedComparisonResult, actualComparisonResult);
     }
     
@@ -92,7 +89,7 @@ public class StandardVersionComparatorTest {
         "1.0.0-alpha.2, 1.0.0-alpha.10, -1"
     })
     public void compareStrictSemanticVersionTest(String version1, String version2, int expectedComparisonResult) {
-        int actualComparisonResult = new StandardVersionComparator(new StrictSemanticVersionParser()).compare(version1, version2);
+        int actualComparisonResult = new VersionComparatorBuilder().useStrictSemanticVersionParser().build().compare(version1, version2);
         assertEquals(expectedComparisonResult, actualComparisonResult);
     }
 }
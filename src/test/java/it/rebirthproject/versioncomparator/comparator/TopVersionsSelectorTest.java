@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class TopVersionsSelectorTest {
+
+    private static Stream<Arguments> comparatorsProvider() {
+        return Stream.of(
+                Arguments.of(new VersionComparatorBuilder().useMinimalVersionParser().build(), ""),
+                Arguments.of(new VersionComparatorBuilder().useStrictSemanticVersionParser().build(), "-rc.1"),
+                Arguments.of(new VersionComparatorBuilder().build(), "-SNAPSHOT"),
+                Arguments.of(new VersionComparatorBuilder().useMavenRulesVersionParser().build(), "-beta-2")
+        );
+    }
+
+    private static List<String> randomVersions(String qualifier, long seed) {
+        Random random = new Random(seed);
+        List<String> versions = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            versions.add(random.nextInt(10) + "." + random.nextInt(10) + "." + random.nextInt(10) + (random.nextBoolean() ? qualifier : ""));
+        }
+        return versions;
+    }
+
+    private static List<String> sortedDistinct(VersionComparator comparator, List<String> versions, boolean newest) {
+        return versions.stream().map(comparator::parse).distinct()
+                .sorted(newest ? Comparator.reverseOrder() : Comparator.naturalOrder())
+                .map(ComparableVersion::getOriginalVersion).collect(Collectors.toList());
+    }
+
+    private static List<String> originalVersions(TopVersionsSelector selector) {
+        return selector.getVersions().stream().map(ComparableVersion::getOriginalVersion).collect(Collectors.toList());
+    }
+
+    @ParameterizedTest
+    @MethodSource("comparatorsProvider")
+    public void should_SelectLikeSorting_When_VersionsAreDistinct(VersionComparator comparator, String qualifier) {
+        List<String> versions = sortedDistinct(comparator, randomVersions(qualifier, 11), true);
+        Collections.shuffle(versions, new Random(3));
+
+        List<String> newest = originalVersions(TopVersionsSelector.newest(comparator, 5).addAll(versions));
+        List<String> oldest = originalVersions(TopVersionsSelector.oldest(comparator, 5).addAll(versions));
+
+        assertEquals(sortedDistinct(comparator, versions, true).subList(0, 5), newest);
+        assertEquals(sortedDistinct(comparator, versions, false).subList(0, 5), oldest);
+    }
+
+    @ParameterizedTest
+    @MethodSource("comparatorsProvider")
+    public void should_SelectLikeSingleSelector_When_SplitInputsAreMerged(VersionComparator comparator, String qualifier) {
+        List<String> versions = sortedDistinct(comparator, randomVersions(qualifier, 17), true);
+        Collections.shuffle(versions, new Random(5));
+        int half = versions.size() / 2;
+
+        TopVersionsSelector first = TopVersionsSelector.newest(comparator, 7).addAll(versions.subList(0, half));
+        TopVersionsSelector second = TopVersionsSelector.newest(comparator, 7).addAll(versions.subList(half, versions.size()));
+
+        assertEquals(originalVersions(TopVersionsSelector.newest(comparator, 7).addAll(versions)), originalVersions(first.merge(second)));
+    }
+
+    @Test
+    public void should_PreferFirstVersions_When_VersionsAreEqual() {
+        VersionComparator comparator = new VersionComparatorBuilder().useMavenRulesVersionParser().build();
+
+        TopVersionsSelector selector = TopVersionsSelector.newest(comparator, 2).addAll(Arrays.asList("0.9", "1", "1.0", "0.5", "1.0.0"));
+
+        assertEquals(Arrays.asList("1", "1.0"), originalVersions(selector));
+    }
+
+    @Test
+    public void should_SelectAllVersions_When_FewerThanLimit() {
+        VersionComparator comparator = new VersionComparatorBuilder().build();
+
+        TopVersionsSelector selector = TopVersionsSelector.oldest(comparator, 10).addAll(Arrays.asList("2.0.0", "1.0.0-RC", "1.0.0"));
+
+        assertEquals(Arrays.asList("1.0.0-RC", "1.0.0", "2.0.0"), originalVersions(selector));
+    }
+
+    @Test
+    public void should_ThrowException_When_ArgumentIsNotValid() {
+        VersionComparator comparator = new VersionComparatorBuilder().build();
+
+        assertThrows(IllegalArgumentException.class, () -> TopVersionsSelector.newest(null, 5));
+        assertThrows(IllegalArgumentException.class, () -> TopVersionsSelector.newest(comparator, 0));
+        assertThrows(IllegalArgumentException.class, () -> TopVersionsSelector.newest(comparator, 5).add("1.0"));
+        assertThrows(IllegalArgumentException.class, () -> TopVersionsSelector.newest(comparator, 5).merge(TopVersionsSelector.oldest(comparator, 5)));
+        assertThrows(IllegalArgumentException.class, () -> TopVersionsSelector.newest(comparator, 5).merge(TopVersionsSelector.newest(comparator, 4)));
+    }
+}
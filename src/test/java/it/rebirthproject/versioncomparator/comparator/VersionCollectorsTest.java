@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class VersionCollectorsTest {
+
+    private static final VersionComparator RELAXED_COMPARATOR = new VersionComparatorBuilder().build();
+    private static final VersionComparator MAVEN_COMPARATOR = new VersionComparatorBuilder().useMavenRulesVersionParser().build();
+
+    private static final List<String> VERSIONS = Arrays.asList("1.2.0", "2.0.0-RC", "1.10.0", "1.2.0-SNAPSHOT", "2.0.0", "1.2.1", "0.9.0-beta", "1.10.0");
+
+    /**
+     * @return many versions, so that parallel streams are really split.
+     */
+    private static List<String> manyVersions() {
+        List<String> versions = new ArrayList<>();
+        IntStream.range(0, 5000).forEach(i -> versions.add((i % 7) + "." + (i % 13) + "." + (i % 5) + (i % 3 == 0 ? "-RC" : "")));
+        return versions;
+    }
+
+    @Test
+    public void should_CollectNewestAndOldest_When_VersionsAreValid() {
+        assertEquals(Optional.of("2.0.0"), VERSIONS.stream().collect(VersionCollectors.maxVersion(RELAXED_COMPARATOR)));
+        assertEquals(Optional.of("0.9.0-beta"), VERSIONS.stream().collect(VersionCollectors.minVersion(RELAXED_COMPARATOR)));
+        assertEquals(Optional.empty(), Collections.<String>emptyList().stream().collect(VersionCollectors.maxVersion(RELAXED_COMPARATOR)));
+    }
+
+    @Test
+    public void should_CollectFirstOfEqualVersions_When_VersionsCompareAsEqual() {
+        List<String> versions = Arrays.asList("1", "1.0", "1.0.0", "0.9");
+
+        assertEquals(Optional.of("1"), versions.stream().collect(VersionCollectors.maxVersion(MAVEN_COMPARATOR)));
+        assertEquals(Optional.of("1"), versions.parallelStream().collect(VersionCollectors.maxVersion(MAVEN_COMPARATOR)));
+        assertEquals(Long.valueOf(2), versions.stream().collect(VersionCollectors.countingDistinct(MAVEN_COMPARATOR)));
+    }
+
+    @Test
+    public void should_CollectSortedVersions_When_VersionsAreValid() {
+        List<String> expectedVersions = new ArrayList<>(VERSIONS);
+        expectedVersions.sort(RELAXED_COMPARATOR::compare);
+
+        assertEquals(expectedVersions, VERSIONS.stream().collect(VersionCollectors.toSortedList(RELAXED_COMPARATOR)));
+        assertEquals(Arrays.asList("0.9.0-beta", "1.2.0-SNAPSHOT", "1.2.0", "1.2.1", "1.10.0", "1.10.0", "2.0.0-RC", "2.0.0"), expectedVersions);
+    }
+
+    @Test
+    public void should_CollectSameResults_When_StreamIsParallel() {
+        List<String> versions = manyVersions();
+        List<String> sortedVersions = new ArrayList<>(versions);
+        sortedVersions.sort(RELAXED_COMPARATOR::compare);
+
+        assertEquals(sortedVersions, versions.parallelStream().collect(VersionCollectors.toSortedList(RELAXED_COMPARATOR)));
+        assertEquals(Optional.of(sortedVersions.get(sortedVersions.size() - 1)), versions.parallelStream().collect(VersionCollectors.maxVersion(RELAXED_COMPARATOR)));
+        assertEquals(Optional.of(sortedVersions.get(0)), versions.parallelStream().collect(VersionCollectors.minVersion(RELAXED_COMPARATOR)));
+        assertEquals(versions.stream().collect(VersionCollectors.groupingByMajorMinor(RELAXED_COMPARATOR)),
+                versions.parallelStream().collect(VersionCollectors.groupingByMajorMinor(RELAXED_COMPARATOR)));
+        assertEquals(versions.stream().collect(VersionCollectors.partitioningByPreRelease(RELAXED_COMPARATOR)),
+                versions.parallelStream().collect(VersionCollectors.partitioningByPreRelease(RELAXED_COMPARATOR)));
+        assertEquals(Long.valueOf(7 * 13 * 5 * 2), versions.parallelStream().collect(VersionCollectors.countingDistinct(RELAXED_COMPARATOR)));
+    }
+
+    @Test
+    public void should_GroupVersionsByReleaseLine_When_VersionsAreValid() {
+        Map<String, List<String>> expectedMajors = new HashMap<>();
+        expectedMajors.put("0", Arrays.asList("0.9.0-beta"));
+        expectedMajors.put("1", Arrays.asList("1.2.0", "1.10.0", "1.2.0-SNAPSHOT", "1.2.1", "1.10.0"));
+        expectedMajors.put("2", Arrays.asList("2.0.0-RC", "2.0.0"));
+        Map<String, List<String>> expectedLines = new HashMap<>();
+        expectedLines.put("0.9", Arrays.asList("0.9.0-beta"));
+        expectedLines.put("1.2", Arrays.asList("1.2.0", "1.2.0-SNAPSHOT", "1.2.1"));
+        expectedLines.put("1.10", Arrays.asList("1.10.0", "1.10.0"));
+        expectedLines.put("2.0", Arrays.asList("2.0.0-RC", "2.0.0"));
+
+        assertEquals(expectedMajors, VERSIONS.stream().collect(VersionCollectors.groupingByMajor(RELAXED_COMPARATOR)));
+        assertEquals(expectedLines, VERSIONS.stream().collect(VersionCollectors.groupingByMajorMinor(RELAXED_COMPARATOR)));
+    }
+
+    @Test
+    public void should_CollectNewestOfEachReleaseLine_When_DownstreamCollectorIsGiven() {
+        Map<String, String> newestVersions = VERSIONS.stream()
+                .collect(VersionCollectors.groupingByMajor(RELAXED_COMPARATOR,
+                        Collectors.collectingAndThen(Collectors.maxBy(Comparator.<ComparableVersion>naturalOrder()), version -> version.get().getOriginalVersion())));
+
+        Map<String, String> expectedVersions = new HashMap<>();
+        expectedVersions.put("0", "0.9.0-beta");
+        expectedVersions.put("1", "1.10.0");
+        expectedVersions.put("2", "2.0.0");
+        assertEquals(expectedVersions, newestVersions);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1, 1, 1.0",
+        "1.02, 1, 1.2",
+        "1-2, 1, 1.0",
+        "1.0-rc1, 1, 1.0",
+        "1.2.3, 1, 1.2",
+        "rc1, 0, 0.0",
+        "00099999999999999999999.5, 99999999999999999999, 99999999999999999999.5"
+    })
+    public void should_FindMavenReleaseLine_When_VersionIsValid(String version, String expectedMajor, String expectedMajorMinor) {
+        assertEquals(Collections.singleton(expectedMajor),
+                Collections.singletonList(version).stream().collect(VersionCollectors.groupingByMajor(MAVEN_COMPARATOR)).keySet());
+        assertEquals(Collections.singleton(expectedMajorMinor),
+                Collections.singletonList(version).stream().collect(VersionCollectors.groupingByMajorMinor(MAVEN_COMPARATOR)).keySet());
+    }
+
+    @Test
+    public void should_PartitionPreReleases_When_VersionsAreValid() {
+        Map<Boolean, List<String>> partitions = VERSIONS.stream().collect(VersionCollectors.partitioningByPreRelease(RELAXED_COMPARATOR));
+
+        assertEquals(Arrays.asList("2.0.0-RC", "1.2.0-SNAPSHOT", "0.9.0-beta"), partitions.get(true));
+        assertEquals(Arrays.asList("1.2.0", "1.10.0", "2.0.0", "1.2.1", "1.10.0"), partitions.get(false));
+        assertEquals(Long.valueOf(7), VERSIONS.stream().collect(VersionCollectors.countingDistinct(RELAXED_COMPARATOR)));
+    }
+
+    @Test
+    public void should_ThrowException_When_ArgumentsOrVersionsAreNotValid() {
+        assertThrows(IllegalArgumentException.class, () -> VersionCollectors.maxVersion(null));
+        assertThrows(IllegalArgumentException.class, () -> VersionCollectors.groupingByMajor(RELAXED_COMPARATOR, null));
+        assertThrows(IllegalArgumentException.class, () -> Arrays.asList("1.0.0", "1.0").stream().collect(VersionCollectors.toSortedList(RELAXED_COMPARATOR)));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+public class VersionComparatorDefaultsTest {
+
+    /**
+     * A comparator written outside the library, implementing only
+     * {@link VersionComparator#compare(String, String)}: it accepts versions
+     * made of digits and dots and compares them by length.
+     */
+    private static final VersionComparator LAMBDA_COMPARATOR = (version1, version2) -> {
+        if (version1 == null || !version1.matches("[0-9.]+")) {
+            throw new IllegalArgumentException("Invalid version " + version1);
+        }
+        if (version2 == null || !version2.matches("[0-9.]+")) {
+            throw new IllegalArgumentException("Invalid version " + version2);
+        }
+        return version1.length() - version2.length();
+    };
+
+    @Test
+    public void should_DelegateToCompare_When_ComparatorImplementsOnlyCompare() {
+        byte[] bytes = "x1.0.0x1.0".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(1, Integer.signum(LAMBDA_COMPARATOR.compare(new StringBuilder("1.0.0"), new StringBuilder("1.0"))));
+        assertEquals(1, Integer.signum(LAMBDA_COMPARATOR.compareUtf8(bytes, 1, 5, bytes, 7, 3)));
+        assertEquals(-1, Integer.signum(LAMBDA_COMPARATOR.compareUtf8(ByteBuffer.wrap(bytes, 7, 3), ByteBuffer.wrap(bytes, 1, 5))));
+        assertEquals(1, LAMBDA_COMPARATOR.tryCompare("1.0.0", "1.0"));
+        assertEquals(0, LAMBDA_COMPARATOR.tryCompare("1.0", "2.0"));
+        assertEquals(VersionComparator.INVALID_FIRST_VERSION, LAMBDA_COMPARATOR.tryCompare("x", "1.0"));
+        assertEquals(VersionComparator.INVALID_FIRST_VERSION, LAMBDA_COMPARATOR.tryCompare(null, "x"));
+        assertEquals(VersionComparator.INVALID_SECOND_VERSION, LAMBDA_COMPARATOR.tryCompare("1.0", "x"));
+        assertEquals(Optional.empty(), LAMBDA_COMPARATOR.getParseCacheStatistics());
+    }
+
+    @Test
+    public void should_ThrowException_When_ComparatorImplementsOnlyCompare() {
+        assertThrows(IllegalArgumentException.class, () -> LAMBDA_COMPARATOR.compare(new StringBuilder("x"), "1.0"));
+        assertThrows(IllegalArgumentException.class, () -> LAMBDA_COMPARATOR.compareUtf8(null, ByteBuffer.allocate(0)));
+        assertThrows(UnsupportedOperationException.class, () -> LAMBDA_COMPARATOR.parse("1.0"));
+        assertThrows(UnsupportedOperationException.class, () -> LAMBDA_COMPARATOR.tryParse("1.0"));
+        assertThrows(UnsupportedOperationException.class, () -> LAMBDA_COMPARATOR.writeKey("1.0", ByteBuffer.allocate(16)));
+    }
+
+    @Test
+    public void should_WriteKeyFromToKey_When_OnlyToKeyIsImplemented() {
+        VersionComparator comparator = new VersionComparator() {
+            @Override
+            public int compare(String version1, String version2) {
+                return version1.compareTo(version2);
+            }
+
+            @Override
+            public byte[] toKey(String version) {
+                return version.getBytes(StandardCharsets.UTF_8);
+            }
+        };
+        ByteBuffer target = ByteBuffer.allocate(3);
+
+        comparator.writeKey("1.0", target);
+
+        assertArrayEquals("1.0".getBytes(StandardCharsets.UTF_8), target.array());
+    }
+}
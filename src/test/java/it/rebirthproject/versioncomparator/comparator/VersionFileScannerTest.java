@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class VersionFileScannerTest {
+
+    private static final String CONTENT = "1.0.0\r\n2.0.0-RC\n\nnot-a-version\n1.2\n10.20.30-DEV-SNAPSHOT\n1.0.0-ÄLPHA\n3.0.0";
+
+    /**
+     * Collects the lines given to the handler as "number:line" and
+     * "number!line@invalidIndex".
+     */
+    private static final class CollectingHandler implements VersionLineHandler {
+
+        private final List<String> lines = new ArrayList<>();
+
+        @Override
+        public void onVersion(long lineNumber, CharSequence version) {
+            lines.add(lineNumber + ":" + version);
+        }
+
+        @Override
+        public void onInvalidVersion(long lineNumber, CharSequence line, int invalidIndex) {
+            lines.add(lineNumber + "!" + line + "@" + invalidIndex);
+        }
+    }
+
+    private static List<String> scan(VersionFileScanner scanner, String content) throws IOException {
+        Path file = Files.createTempFile("versions", ".txt");
+        try {
+            Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+            CollectingHandler handler = new CollectingHandler();
+            long validVersions = scanner.scan(file, handler);
+            assertEquals(handler.lines.stream().filter(line -> line.contains(":")).count(), validVersions);
+            return handler.lines;
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {Integer.MAX_VALUE, 40, 25, 22})
+    public void should_CheckEveryLine_When_FileIsMappedInRegions(int regionSize) throws IOException {
+        VersionFileScanner scanner = new VersionFileScanner(new VersionComparatorBuilder().build(), regionSize);
+
+        List<String> lines = scan(scanner, CONTENT);
+
+        assertEquals(Arrays.asList("1:1.0.0", "2:2.0.0-RC", "4!not-a-version@0", "5!1.2@3", "6:10.20.30-DEV-SNAPSHOT", "7!1.0.0-ÄLPHA@6", "8:3.0.0"), lines);
+    }
+
+    @Test
+    public void should_UseComparatorRules_When_ScanningMavenVersions() throws IOException {
+        VersionFileScanner scanner = new VersionFileScanner(new VersionComparatorBuilder().useMavenRulesVersionParser().withParseCache(10).build());
+
+        List<String> lines = scan(scanner, "1.0-ÄLPHA\n  \nnot-a-version\n");
+
+        assertEquals(Arrays.asList("1:1.0-ÄLPHA", "2!  @2", "3:not-a-version"), lines);
+    }
+
+    @Test
+    public void should_GiveDecodedLines_When_LinesHoldNonAsciiCharacters() throws IOException {
+        VersionFileScanner scanner = new VersionFileScanner(new VersionComparatorBuilder().useMavenRulesVersionParser().build());
+        List<String> characters = new ArrayList<>();
+
+        Path file = Files.createTempFile("versions", ".txt");
+        try {
+            Files.write(file, "1.0-é\n1.0-ÄLPHA\n".getBytes(StandardCharsets.UTF_8));
+            scanner.scan(file, (lineNumber, version) -> characters.add(lineNumber + ":" + version.length() + ":" + version.charAt(version.length() - 1)));
+        } finally {
+            Files.delete(file);
+        }
+
+        assertEquals(Arrays.asList("1:5:é", "2:9:A"), characters);
+    }
+
+    @Test
+    public void should_ReportCharIndex_When_InvalidLineHoldsNonAsciiCharacters() throws IOException {
+        VersionFileScanner scanner = new VersionFileScanner(new VersionComparatorBuilder().build());
+        List<Character> invalidCharacters = new ArrayList<>();
+
+        Path file = Files.createTempFile("versions", ".txt");
+        try {
+            Files.write(file, "1.0.0-ÄLPHA\n1.0.0-é.RC\n".getBytes(StandardCharsets.UTF_8));
+            scanner.scan(file, new VersionLineHandler() {
+                @Override
+                public void onVersion(long lineNumber, CharSequence version) {
+                }
+
+                @Override
+                public void onInvalidVersion(long lineNumber, CharSequence line, int invalidIndex) {
+                    invalidCharacters.add(line.charAt(invalidIndex));
+                }
+            });
+        } finally {
+            Files.delete(file);
+        }
+
+        assertEquals(Arrays.asList('Ä', 'é'), invalidCharacters);
+    }
+
+    @Test
+    public void should_ThrowException_When_LineIsLongerThanRegion() throws IOException {
+        VersionFileScanner scanner = new VersionFileScanner(new VersionComparatorBuilder().build(), 8);
+
+        assertThrows(IOException.class, () -> scan(scanner, "1.0.0\n10.20.30-SNAPSHOT\n"));
+    }
+
+    @Test
+    public void should_ThrowException_When_ComparatorIsNotBuiltByBuilder() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionFileScanner(null));
+    }
+}
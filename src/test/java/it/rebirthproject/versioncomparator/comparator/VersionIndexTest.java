@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class VersionIndexTest {
+
+    private static final VersionComparator MAVEN_COMPARATOR = new VersionComparatorBuilder().useMavenRulesVersionParser().build();
+
+    private static final VersionIndex MAVEN_INDEX = new VersionIndex(MAVEN_COMPARATOR, Arrays.asList("2.0", "1.0", "1.1-SNAPSHOT", "1.1", "1", "1.2-rc1",
+            "1.2", "3.0-alpha-1"));
+
+    private static String originalVersion(Optional<ComparableVersion> version) {
+        return version.map(ComparableVersion::getOriginalVersion).orElse(null);
+    }
+
+    private static List<String> originalVersions(List<ComparableVersion> versions) {
+        return versions.stream().map(ComparableVersion::getOriginalVersion).collect(Collectors.toList());
+    }
+
+    @Test
+    public void should_SortAndDeduplicate_When_IndexIsBuilt() {
+        assertEquals(Arrays.asList("1.0", "1.1-SNAPSHOT", "1.1", "1.2-rc1", "1.2", "2.0", "3.0-alpha-1"), originalVersions(MAVEN_INDEX.getVersions()));
+        assertEquals(7, MAVEN_INDEX.size());
+    }
+
+    @Test
+    public void should_StoreEqualVersionsOnce_When_ZerosAreSpelledDifferently() {
+        VersionIndex index = new VersionIndex(MAVEN_COMPARATOR, Arrays.asList("1", "1.00", "1-00", "2", "01.000", "final-00", "final"));
+
+        assertEquals(Arrays.asList("1", "2", "final-00"), originalVersions(index.getVersions()));
+        assertEquals(3, index.size());
+        assertEquals(0, index.rank("1.00"));
+        assertEquals(1, index.rank("2-000"));
+        assertEquals(2, index.rank("FINAL"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1.1, 1.1, 1.1-SNAPSHOT, 1.1, 1.2-rc1, 2",
+        "1.1.5, 1.1, 1.1, 1.2-rc1, 1.2-rc1, 3",
+        "0.1, , , 1.0, 1.0, 0",
+        "1, 1.0, , 1.0, 1.1-SNAPSHOT, 0",
+        "3.0, 3.0-alpha-1, 3.0-alpha-1, , , 7"
+    })
+    public void should_NavigateLikeTreeSet_When_QueryingVersions(String version, String floor, String lower, String ceiling, String higher, int rank) {
+        assertEquals(floor, originalVersion(MAVEN_INDEX.floor(version)));
+        assertEquals(lower, originalVersion(MAVEN_INDEX.lower(version)));
+        assertEquals(ceiling, originalVersion(MAVEN_INDEX.ceiling(version)));
+        assertEquals(higher, originalVersion(MAVEN_INDEX.higher(version)));
+        assertEquals(rank, MAVEN_INDEX.rank(version));
+    }
+
+    @Test
+    public void should_SelectRange_When_BoundsAreGiven() {
+        assertEquals(Arrays.asList("1.1-SNAPSHOT", "1.1", "1.2-rc1"), originalVersions(MAVEN_INDEX.subRange("1.0.1", "1.2")));
+        assertEquals(Arrays.asList("1.1", "1.2-rc1", "1.2"), originalVersions(MAVEN_INDEX.subRange("1.1-SNAPSHOT", false, "1.2", true)));
+        assertEquals(Collections.emptyList(), MAVEN_INDEX.subRange("2.0", "1.0"));
+        assertEquals(Collections.emptyList(), MAVEN_INDEX.subRange("1.1", false, "1.1", true));
+        assertTrue(MAVEN_INDEX.contains("1.0.0"));
+        assertFalse(MAVEN_INDEX.contains("1.3"));
+    }
+
+    @Test
+    public void should_AnswerLikeTreeSet_When_VersionsAreRandom() {
+        VersionComparator comparator = new VersionComparatorBuilder().useStrictSemanticVersionParser().build();
+        Random random = new Random(23);
+        String[] qualifiers = {"", "-alpha", "-alpha.1", "-beta.2", "-rc.1"};
+        List<String> versions = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            versions.add(random.nextInt(6) + "." + random.nextInt(6) + "." + random.nextInt(6) + qualifiers[random.nextInt(qualifiers.length)]);
+        }
+        VersionIndex index = new VersionIndex(comparator, versions.subList(0, 1_000));
+        TreeSet<ComparableVersion> treeSet = new TreeSet<>();
+        for (String version : versions.subList(0, 1_000)) {
+            treeSet.add(comparator.parse(version));
+        }
+
+        for (String query : versions.subList(1_000, 2_000)) {
+            ComparableVersion version = comparator.parse(query);
+            assertEquals(Optional.ofNullable(treeSet.floor(version)), index.floor(query));
+            assertEquals(Optional.ofNullable(treeSet.lower(version)), index.lower(query));
+            assertEquals(Optional.ofNullable(treeSet.ceiling(version)), index.ceiling(query));
+            assertEquals(Optional.ofNullable(treeSet.higher(version)), index.higher(query));
+            assertEquals(treeSet.headSet(version).size(), index.rank(query));
+        }
+        assertEquals(new ArrayList<>(treeSet), index.getVersions());
+    }
+
+    @Test
+    public void should_ThrowException_When_VersionIsNotValid() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionIndex(null, Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> new VersionIndex(MAVEN_COMPARATOR, Arrays.asList("1.0", " ")));
+        assertThrows(IllegalArgumentException.class, () -> MAVEN_INDEX.floor(""));
+    }
+}
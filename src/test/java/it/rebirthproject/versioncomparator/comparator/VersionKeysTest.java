@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class VersionKeysTest {
+
+    @ParameterizedTest
+    @MethodSource("sortedVersionsProvider")
+    public void should_OrderKeysLikeComparator_When_VersionsAreEncoded(VersionComparator comparator, List<String> versions) {
+        for (String first : versions) {
+            for (String second : versions) {
+                int expected = Integer.signum(comparator.compare(first, second));
+                int actual = Integer.signum(VersionKeys.compare(comparator.toKey(first), comparator.toKey(second)));
+
+                assertEquals(expected, actual, "Mismatch for versions [" + first + ", " + second + "]");
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1, 1.00",
+        "1, 1-00",
+        "01, 1-00",
+        "00.00, 00",
+        "final-00, final",
+        "1.0, 1.000.0-000",
+        "1-rc-00, 1-rc",
+        "1-nightly, 1"
+    })
+    public void should_WriteSameKey_When_MavenVersionsCompareAsEqual(String version1, String version2) {
+        VersionComparator comparator = new VersionComparatorBuilder().useMavenRulesVersionParser().withQualifier("nightly", 0, 5).build();
+
+        assertEquals(0, comparator.compare(version1, version2));
+        assertArrayEquals(comparator.toKey(version1), comparator.toKey(version2));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "false, 1.0.0-release, 1.0.0-final",
+        "false, 1.0.0-GA, 1.0.0-FINAL",
+        "true, 10cr.milestone, 10cr_sp",
+        "true, 1-alpha.beta, 1-alpha-rc"
+    })
+    public void should_WriteDifferentKeys_When_EqualVersionsAreNotTransitive(boolean maven, String lowerKeyVersion, String greaterKeyVersion) {
+        VersionComparatorBuilder builder = new VersionComparatorBuilder();
+        VersionComparator comparator = maven ? builder.useMavenRulesVersionParser().build() : builder.build();
+
+        assertEquals(0, comparator.compare(lowerKeyVersion, greaterKeyVersion));
+        assertEquals(-1, Integer.signum(VersionKeys.compare(comparator.toKey(lowerKeyVersion), comparator.toKey(greaterKeyVersion))));
+    }
+
+    @Test
+    public void should_WriteSameKey_When_EncodingIntoBuffer() {
+        VersionComparator comparator = new VersionComparatorBuilder().useMavenRulesVersionParser().build();
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        comparator.writeKey("1.2-beta-12345678901234567890", buffer);
+        byte[] key = Arrays.copyOf(buffer.array(), buffer.position());
+
+        assertArrayEquals(comparator.toKey("1.2-beta-12345678901234567890"), key);
+        assertArrayEquals(comparator.parse("1.2-beta-12345678901234567890").toKey(), key);
+    }
+
+    @Test
+    public void should_CompareKeysAsUnsignedBytes_When_KeysDiffer() {
+        assertEquals(-1, VersionKeys.compare(new byte[]{0x01}, new byte[]{(byte) 0x80}));
+        assertEquals(-1, VersionKeys.compare(new byte[]{0x01}, new byte[]{0x01, 0x00}));
+        assertEquals(0, VersionKeys.compare(new byte[]{0x01, 0x02}, new byte[]{0x01, 0x02}));
+        assertEquals(1, VersionKeys.compare(new byte[]{(byte) 0xFF}, new byte[]{0x7F, 0x7F}));
+    }
+
+    private static Stream<Arguments> sortedVersionsProvider() {
+        return Stream.of(
+                Arguments.of(new VersionComparatorBuilder().useMinimalVersionParser().build(),
+                        Arrays.asList("0.1", "0.1.0", "0.1.1", "0.2", "1.0", "1.0.5", "10.0.0", "999999.999999.999999")),
+                Arguments.of(new VersionComparatorBuilder().useStrictSemanticVersionParser().build(),
+                        Arrays.asList("1.0.0-alpha", "1.0.0-alpha.1", "1.0.0-alpha.beta", "1.0.0-beta", "1.0.0-beta.2", "1.0.0-beta.11",
+                                "1.0.0-rc.1", "1.0.0", "1.0.0+build.5", "2.0.0", "9223372036854775807.0.0")),
+                Arguments.of(new VersionComparatorBuilder().useStrictSemanticVersionParser().build(),
+                        Arrays.asList("1.0.0", "1.0.0-final", "1.0.0-stable", "1.0.1-alpha")),
+                Arguments.of(new VersionComparatorBuilder().build(),
+                        Arrays.asList("1.0.0-SNAPSHOT", "1.0.0-alpha", "1.0.0.ALPHA", "1.0.0.BETA", "1.0.0-RC", "1.0.0", "1.0.0-STABLE", "1.0.0-FINAL", "1.0.1", "1.10.0")),
+                Arguments.of(new VersionComparatorBuilder().build(),
+                        Arrays.asList("1.0.0-bar", "1.0.0.foo", "1.0.0-FOO", "1.0.0", "1.0.0-stable-1", "1.0.0-stable-2")),
+                Arguments.of(new VersionComparatorBuilder().useMavenRulesVersionParser().build(),
+                        Arrays.asList("1-alpha", "1-a1", "1-beta", "1-milestone", "1-rc", "1-SNAPSHOT", "1", "1.0", "1-ga", "1-sp", "1-foo", "1-FOO",
+                                "1-1", "1.0.1", "1.00.1", "1.1", "1.1.1", "1.1.1-sp", "2", "12345678901234567890", "012345678901234567891"))
+        );
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class VersionParseResultTest {
+
+    private static final List<String> CANDIDATES = Arrays.asList("1.0", "1.0.0", "1.0.0-SNAPSHOT", "1.0.0-rc.1+build.5", "1.0.0-alpha-beta", "01.0.0",
+            "1.0.0-", "1.0.0.0", "1.a", "1.0-jre", "2.0.0.Final", "", " ", "1..0", "1.0.0+", "10.20.30-RC", "1.0.0_beta", "v1.0");
+
+    private static Stream<VersionComparator> comparatorsProvider() {
+        return Stream.of(
+                new VersionComparatorBuilder().useMinimalVersionParser().build(),
+                new VersionComparatorBuilder().useStrictSemanticVersionParser().build(),
+                new VersionComparatorBuilder().build(),
+                new VersionComparatorBuilder().useMavenRulesVersionParser().build()
+        );
+    }
+
+    private static Stream<Arguments> invalidVersionsProvider() {
+        VersionComparator minimal = new VersionComparatorBuilder().useMinimalVersionParser().build();
+        VersionComparator strict = new VersionComparatorBuilder().useStrictSemanticVersionParser().build();
+        VersionComparator relaxed = new VersionComparatorBuilder().build();
+        return Stream.of(
+                Arguments.of(minimal, "1.a", VersionParseError.UNEXPECTED_CHARACTER, 2),
+                Arguments.of(minimal, "1.0.0.0", VersionParseError.UNEXPECTED_CHARACTER, 5),
+                Arguments.of(minimal, "1.", VersionParseError.UNEXPECTED_END, 2),
+                Arguments.of(minimal, "", VersionParseError.BLANK_VERSION, 0),
+                Arguments.of(strict, "1.0", VersionParseError.UNEXPECTED_END, 3),
+                Arguments.of(strict, "01.0.0", VersionParseError.UNEXPECTED_CHARACTER, 1),
+                Arguments.of(strict, "1.0.0-", VersionParseError.UNEXPECTED_END, 6),
+                Arguments.of(relaxed, "1.0.0-alpha-beta", VersionParseError.UNEXPECTED_CHARACTER, 12),
+                Arguments.of(relaxed, "v1.0.0", VersionParseError.UNEXPECTED_CHARACTER, 0)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidVersionsProvider")
+    public void should_ReturnErrorAndPosition_When_VersionIsNotValid(VersionComparator comparator, String version, VersionParseError expectedError, int expectedIndex) {
+        VersionParseResult result = comparator.tryParse(version);
+
+        assertFalse(result.isValid());
+        assertFalse(result.toOptional().isPresent());
+        assertEquals(expectedError, result.getError());
+        assertEquals(expectedIndex, result.getErrorIndex());
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, result::getVersion);
+        assertEquals(result.toString(), exception.getMessage());
+    }
+
+    @Test
+    public void should_ReturnBlankVersionError_When_VersionIsBlank() {
+        VersionParseResult result = new VersionComparatorBuilder().useMavenRulesVersionParser().build().tryParse(" \t ");
+
+        assertEquals(VersionParseError.BLANK_VERSION, result.getError());
+        assertEquals(3, result.getErrorIndex());
+        assertEquals(VersionParseError.UNEXPECTED_CHARACTER, new VersionComparatorBuilder().useStrictSemanticVersionParser().build().tryParse(" \t ").getError());
+    }
+
+    @ParameterizedTest
+    @MethodSource("comparatorsProvider")
+    public void should_ReturnNullVersionError_When_VersionIsNull(VersionComparator comparator) {
+
+        VersionParseResult result = comparator.tryParse(null);
+
+        assertEquals(VersionParseError.NULL_VERSION, result.getError());
+        assertNull(result.getOriginalVersion());
+        assertEquals(VersionComparator.INVALID_FIRST_VERSION, comparator.tryCompare(null, "1.0.0"));
+        assertEquals(VersionComparator.INVALID_SECOND_VERSION, comparator.tryCompare("1.0.0", null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("comparatorsProvider")
+    public void should_AgreeWithThrowingMethods_When_VersionsAreParsedAndCompared(VersionComparator comparator) {
+
+        for (String version1 : CANDIDATES) {
+            VersionParseResult result = comparator.tryParse(version1);
+            boolean valid = isValid(comparator, version1);
+            assertEquals(valid, result.isValid(), version1);
+            if (valid) {
+                assertEquals(0, comparator.parse(version1).compareTo(result.getVersion()));
+                assertNull(result.getError());
+                assertEquals(-1, result.getErrorIndex());
+            }
+
+            for (String version2 : CANDIDATES) {
+                int expected;
+                if (!valid) {
+                    expected = VersionComparator.INVALID_FIRST_VERSION;
+                } else if (!isValid(comparator, version2)) {
+                    expected = VersionComparator.INVALID_SECOND_VERSION;
+                } else {
+                    expected = comparator.compare(version1, version2);
+                }
+                assertEquals(expected, comparator.tryCompare(version1, version2), version1 + " " + version2);
+            }
+        }
+    }
+
+    @Test
+    public void should_UseCacheAndInterning_When_VersionsAreTriedToParse() {
+        VersionComparator comparator = new VersionComparatorBuilder().withInterning().withParseCache(10).build();
+
+        assertTrue(comparator.tryParse("1.0.0").isValid());
+        assertTrue(comparator.tryParse("1.0.0").isValid());
+        assertFalse(comparator.tryParse("1.0").isValid());
+        assertFalse(comparator.tryParse("1.0").isValid());
+
+        ParseCacheStatistics statistics = comparator.getParseCacheStatistics().get();
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(1, statistics.getSize());
+    }
+
+    private static boolean isValid(VersionComparator comparator, String version) {
+        try {
+            comparator.parse(version);
+            return true;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class VersionSorterTest {
+
+    @Test
+    public void should_SortLikeComparator_When_ManyVersionsAreSorted() {
+        VersionComparator comparator = new VersionComparatorBuilder().build();
+        List<String> versions = new ArrayList<>();
+        Random random = new Random(42);
+        String[] qualifiers = {"", "-SNAPSHOT", "-alpha", ".BETA", "-RC", "-FINAL", "-STABLE"};
+        for (int i = 0; i < 20_000; i++) {
+            versions.add(random.nextInt(5) + "." + random.nextInt(5) + "." + random.nextInt(5) + qualifiers[random.nextInt(qualifiers.length)]);
+        }
+        List<String> expected = new ArrayList<>(versions);
+        expected.sort(comparator);
+
+        VersionSortResult<String> result = new VersionSorter(comparator).sort(versions);
+
+        assertEquals(expected, result.getSortedElements());
+        assertTrue(result.isAllValid());
+    }
+
+    @Test
+    public void should_SplitOutInvalidVersions_When_SortingArray() {
+        VersionComparator comparator = new VersionComparatorBuilder().useStrictSemanticVersionParser().build();
+        String[] versions = {"2.0.0", "not a version", "1.0.0", null, "1.0.0-rc.1", "01.0.0"};
+
+        VersionSortResult<String> result = new VersionSorter(comparator).sort(versions);
+
+        assertEquals(Arrays.asList("1.0.0-rc.1", "1.0.0", "2.0.0"), result.getSortedElements());
+        assertEquals(Arrays.asList("not a version", null, "01.0.0"),
+                result.getInvalidElements().stream().map(InvalidVersion::getElement).collect(Collectors.toList()));
+        assertEquals("2.0.0", versions[0]);
+    }
+
+    @Test
+    public void should_ReportParseErrors_When_VersionsAreInvalid() {
+        VersionComparator comparator = new VersionComparatorBuilder().useStrictSemanticVersionParser().build();
+
+        List<InvalidVersion<String>> invalidElements = new VersionSorter(comparator).sort(new String[]{"1.0.0", "1.0.x", null}).getInvalidElements();
+
+        assertEquals(VersionParseError.UNEXPECTED_CHARACTER, invalidElements.get(0).getParseResult().getError());
+        assertEquals(4, invalidElements.get(0).getParseResult().getErrorIndex());
+        assertEquals(VersionParseError.NULL_VERSION, invalidElements.get(1).getParseResult().getError());
+        assertEquals(comparator.tryParse("1.0.x").toString(), invalidElements.get(0).getError().getMessage());
+    }
+
+    @Test
+    public void should_KeepInputOrder_When_VersionsCompareAsEqual() {
+        VersionComparator comparator = new VersionComparatorBuilder().useMavenRulesVersionParser().build();
+        List<Artifact> artifacts = Arrays.asList(new Artifact("b", "1.0"), new Artifact("a", "2"), new Artifact("c", "1"),
+                new Artifact("d", "1-ga"), new Artifact("e", "1-SNAPSHOT"));
+
+        VersionSortResult<Artifact> result = new VersionSorter(comparator).sort(artifacts, Artifact::getVersion);
+
+        assertEquals(Arrays.asList("e", "b", "c", "d", "a"),
+                result.getSortedElements().stream().map(Artifact::getName).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void should_ReturnEmptyResult_When_NoVersionsAreGiven() {
+        VersionSortResult<String> result = new VersionSorter(new VersionComparatorBuilder().build()).sort(Collections.emptyList());
+
+        assertTrue(result.getSortedElements().isEmpty());
+        assertTrue(result.isAllValid());
+    }
+
+    @Test
+    public void should_Throw_When_ComparatorIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionSorter(null));
+    }
+
+    private static final class Artifact {
+
+        private final String name;
+        private final String version;
+
+        private Artifact(String name, String version) {
+            this.name = name;
+            this.version = version;
+        }
+
+        private String getName() {
+            return name;
+        }
+
+        private String getVersion() {
+            return version;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.comparator;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class VersionValidatorTest {
+
+    private static final String[] PARTS = {"1", "0", "01", "12", ".", ".", "-", "+", "rc", "SNAPSHOT", "beta", "é", " "};
+
+    private static Stream<VersionComparator> comparatorsProvider() {
+        return Stream.of(
+                new VersionComparatorBuilder().useMinimalVersionParser().build(),
+                new VersionComparatorBuilder().useStrictSemanticVersionParser().build(),
+                new VersionComparatorBuilder().build(),
+                new VersionComparatorBuilder().useMavenRulesVersionParser().build()
+        );
+    }
+
+    private static String[] randomVersions(int count) {
+        Random random = new Random(17);
+        String[] versions = new String[count];
+        for (int i = 0; i < count; i++) {
+            if (random.nextInt(50) == 0) {
+                continue;
+            }
+            StringBuilder version = new StringBuilder(random.nextBoolean() ? "1.2.3" : "");
+            int parts = random.nextInt(6);
+            for (int part = 0; part < parts; part++) {
+                version.append(PARTS[random.nextInt(PARTS.length)]);
+            }
+            versions[i] = version.toString();
+        }
+        return versions;
+    }
+
+    private static BitSet expectedValidity(VersionComparator comparator, String[] versions) {
+        BitSet expected = new BitSet();
+        for (int i = 0; i < versions.length; i++) {
+            if (comparator.tryParse(versions[i]).isValid()) {
+                expected.set(i);
+            }
+        }
+        return expected;
+    }
+
+    @ParameterizedTest
+    @MethodSource("comparatorsProvider")
+    public void should_MarkVersionsAcceptedByParser_When_ArrayIsValidated(VersionComparator comparator) {
+        String[] versions = randomVersions(3 * VersionValidator.BLOCK_SIZE + 17);
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            BitSet valid = new VersionValidator(comparator, pool).validate(versions);
+
+            assertEquals(expectedValidity(comparator, versions), valid);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("comparatorsProvider")
+    public void should_MarkVersionsAcceptedByParser_When_ListIsValidated(VersionComparator comparator) {
+        String[] versions = randomVersions(VersionValidator.BLOCK_SIZE + 100);
+        List<CharSequence> builders = new ArrayList<>();
+        for (String version : versions) {
+            builders.add(version == null ? null : new StringBuilder(version));
+        }
+
+        assertEquals(expectedValidity(comparator, versions), new VersionValidator(comparator).validate(builders));
+    }
+
+    @ParameterizedTest
+    @MethodSource("comparatorsProvider")
+    public void should_MarkVersionsAcceptedByParser_When_ByteSlicesAreValidated(VersionComparator comparator) {
+        String[] versions = randomVersions(2 * VersionValidator.BLOCK_SIZE);
+        ByteBuffer data = ByteBuffer.allocate(versions.length * 64);
+        List<ByteBuffer> slices = new ArrayList<>();
+        for (String version : versions) {
+            if (version == null) {
+                slices.add(null);
+                continue;
+            }
+            int start = data.position();
+            data.put(version.getBytes(StandardCharsets.UTF_8));
+            ByteBuffer slice = data.duplicate();
+            slice.position(start);
+            slice.limit(data.position());
+            slices.add(slice.slice());
+        }
+
+        assertEquals(expectedValidity(comparator, versions), new VersionValidator(comparator).validateUtf8(slices));
+    }
+
+    @Test
+    public void should_ReturnEmptyBitSet_When_InputIsEmpty() {
+        VersionValidator validator = new VersionValidator(new VersionComparatorBuilder().useStrictSemanticVersionParser().build());
+
+        assertEquals(new BitSet(), validator.validate(new String[0]));
+        assertEquals(BitSet.valueOf(new long[]{0b101}), validator.validate(Arrays.asList("1.0.0", "1.0", "2.0.0-rc.1")));
+    }
+
+    @Test
+    public void should_ThrowException_When_ArgumentsAreNotValid() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionValidator(null));
+        assertThrows(IllegalArgumentException.class, () -> new VersionValidator(new VersionComparatorBuilder().useMavenRulesVersionParser().build(), null));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class LatencyHistogramTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "-5, 0",
+        "0, 0",
+        "1, 1",
+        "2, 2",
+        "3, 2",
+        "4, 3",
+        "1023, 10",
+        "1024, 11",
+        "9223372036854775807, 39"
+    })
+    public void should_RecordInPowerOfTwoBucket_When_LatencyIsRecorded(long elapsedNanos, int expectedBucket) {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.record(elapsedNanos);
+
+        assertEquals(1, histogram.getBucketCount(expectedBucket));
+        assertEquals(1, histogram.getCount());
+        assertTrue(Math.max(0, elapsedNanos) < LatencyHistogram.getBucketUpperBound(expectedBucket) || expectedBucket == LatencyHistogram.BUCKET_COUNT - 1);
+    }
+
+    @Test
+    public void should_ReturnBucketUpperBound_When_PercentileIsRequested() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentileUpperBound(50));
+
+        for (int i = 0; i < 90; i++) {
+            histogram.record(100);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(5_000);
+        }
+
+        assertEquals(128, histogram.getPercentileUpperBound(50));
+        assertEquals(128, histogram.getPercentileUpperBound(90));
+        assertEquals(8_192, histogram.getPercentileUpperBound(99));
+        assertEquals(8_192, histogram.getPercentileUpperBound(100));
+        assertEquals(90 * 100 + 10 * 5_000, histogram.getTotalNanos());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-1", "100.5", "NaN"})
+    public void should_ThrowException_When_PercentileIsNotValid(String percentile) {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram().getPercentileUpperBound(Double.parseDouble(percentile)));
+    }
+}
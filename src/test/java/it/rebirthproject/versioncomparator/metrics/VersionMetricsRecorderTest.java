@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.metrics;
+
+import it.rebirthproject.versioncomparator.comparator.VersionComparator;
+import it.rebirthproject.versioncomparator.comparator.VersionComparatorBuilder;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+public class VersionMetricsRecorderTest {
+
+    @Test
+    public void should_CountParsesAndComparisons_When_RecorderIsRegistered() {
+        VersionMetricsRecorder recorder = new VersionMetricsRecorder();
+        VersionComparator comparator = new VersionComparatorBuilder().useMavenRulesVersionParser().withMetricsListener(recorder).build();
+
+        comparator.compare("1.0", "1.0-SNAPSHOT");
+        comparator.compare("2.0", "1.0");
+        comparator.parse("3.0");
+        assertThrows(IllegalArgumentException.class, () -> comparator.compare("1.0", " "));
+
+        assertEquals(Collections.singleton("MAVEN_SPECS_VERSION"), recorder.getParserTypes());
+        assertEquals(6, recorder.getParseCount("MAVEN_SPECS_VERSION"));
+        assertEquals(1, recorder.getParseFailureCount("MAVEN_SPECS_VERSION"));
+        assertEquals(2, recorder.getCompareCount("MAVEN_SPECS_VERSION"));
+        assertEquals(7, recorder.getParseLatency().getCount());
+        assertEquals(2, recorder.getCompareLatency().getCount());
+        assertEquals(0, recorder.getCacheHitCount("MAVEN_SPECS_VERSION"));
+        assertEquals(0, recorder.getParseCount("MINIMAL_LENGTH_VERSION"));
+    }
+
+    @Test
+    public void should_CountCacheHitsAndMisses_When_ParseCacheIsEnabled() {
+        VersionMetricsRecorder recorder = new VersionMetricsRecorder();
+        VersionComparator comparator = new VersionComparatorBuilder().withParseCache(100).withMetricsListener(recorder).build();
+
+        comparator.compare("1.0.0", "1.0.1");
+        comparator.compare("1.0.0", "1.0.1");
+        comparator.compare("1.0.0", "2.0.0");
+
+        assertEquals(3, recorder.getParseCount("RELAXED_SEMANTIC_VERSION"));
+        assertEquals(3, recorder.getCacheHitCount("RELAXED_SEMANTIC_VERSION"));
+        assertEquals(3, recorder.getCacheMissCount("RELAXED_SEMANTIC_VERSION"));
+        assertEquals(3, recorder.getCompareCount("RELAXED_SEMANTIC_VERSION"));
+    }
+
+    @Test
+    public void should_KeepCountersByParserType_When_RecorderIsShared() {
+        VersionMetricsRecorder recorder = new VersionMetricsRecorder();
+        new VersionComparatorBuilder().useMinimalVersionParser().withMetricsListener(recorder).build().compare("1.0.0", "1.0.1");
+        new VersionComparatorBuilder().useStrictSemanticVersionParser().withMetricsListener(recorder).build().compare("1.0.0", "1.0.1");
+
+        assertEquals(new HashSet<>(Arrays.asList("MINIMAL_LENGTH_VERSION", "STRICT_SEMANTIC_VERSION_STANDARD")), recorder.getParserTypes());
+        assertEquals(1, recorder.getCompareCount("MINIMAL_LENGTH_VERSION"));
+        assertEquals(1, recorder.getCompareCount("STRICT_SEMANTIC_VERSION_STANDARD"));
+        assertEquals(2, recorder.getCompareLatency().getCount());
+    }
+
+    @Test
+    public void should_ThrowException_When_ListenerIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionComparatorBuilder().withMetricsListener(null));
+    }
+}
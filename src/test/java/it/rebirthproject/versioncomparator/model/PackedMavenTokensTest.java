@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import it.rebirthproject.versioncomparator.version.VersionReleaseTypes;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class PackedMavenTokensTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "1",
+        "1|.|0|-|alpha|-|1",
+        "007|.|00|-|Beta|-|2",
+        "1|-|12345678901234567890|.|9223372036854775807|.|9223372036854775808",
+        "v|-|1|-|foo|.|SNAPSHOT|-|sp",
+        "1|-|٣|-|é"
+    })
+    public void should_RebuildTokenList_When_Packed(String tokens) {
+        List<String> tokenList = Arrays.asList(tokens.split("\\|"));
+
+        assertEquals(tokenList, PackedMavenTokens.pack(tokenList).toTokenList());
+    }
+
+    @Test
+    public void should_ClassifyTokens_When_Packed() {
+        PackedMavenTokens tokens = PackedMavenTokens.pack(Arrays.asList("0012", ".", "12345678901234567890", "-", "RC", "-", "foo"));
+
+        assertTrue(tokens.isNumber(0));
+        assertFalse(tokens.isLargeNumber(0));
+        assertEquals(12, tokens.numberAt(0));
+        assertEquals('.', tokens.separatorAt(1));
+        assertTrue(tokens.isLargeNumber(2));
+        assertFalse(tokens.isNumber(4));
+        assertEquals(VersionReleaseTypes.RC, tokens.releaseTypeAt(4));
+        assertEquals('-', tokens.separatorAt(5));
+        assertNull(tokens.releaseTypeAt(6));
+        assertFalse(tokens.startsWithDigit(6));
+    }
+
+    @Test
+    public void should_ShareReleaseTypeSpellings_When_PackingKnownQualifiers() {
+        PackedMavenTokens tokens1 = PackedMavenTokens.pack(Arrays.asList("1", "-", new String("alpha")));
+        PackedMavenTokens tokens2 = PackedMavenTokens.pack(Arrays.asList("2", "-", new String("alpha")));
+
+        assertSame(tokens1.tokenAt(2), tokens2.tokenAt(2));
+    }
+}
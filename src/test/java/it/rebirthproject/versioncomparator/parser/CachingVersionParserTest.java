@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.parser;
+
+import it.rebirthproject.versioncomparator.comparator.ParseCacheStatistics;
+import it.rebirthproject.versioncomparator.comparator.VersionComparator;
+import it.rebirthproject.versioncomparator.comparator.VersionComparatorBuilder;
+import it.rebirthproject.versioncomparator.model.Version;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class CachingVersionParserTest {
+
+    @Test
+    public void should_ReturnCachedVersion_When_VersionIsParsedAgain() {
+        CachingVersionParser parser = new CachingVersionParser(new RelaxedSemanticVersionParser(), 100);
+
+        Version firstVersion = parser.parseVersion("1.2.3-RC");
+        Version secondVersion = parser.parseVersion("1.2.3-RC");
+
+        assertSame(firstVersion, secondVersion);
+        assertEquals(1, parser.getHitCount());
+        assertEquals(1, parser.getMissCount());
+        assertEquals(1, parser.size());
+        assertEquals(VersionMatchingParserType.RELAXED_SEMANTIC_VERSION, parser.getParserType());
+    }
+
+    @Test
+    public void should_NotCacheVersion_When_VersionIsInvalid() {
+        CachingVersionParser parser = new CachingVersionParser(new StrictSemanticVersionParser(), 100);
+
+        assertThrows(IllegalArgumentException.class, () -> parser.parseVersion("1.2"));
+        assertThrows(IllegalArgumentException.class, () -> parser.parseVersion("1.2"));
+        assertThrows(IllegalArgumentException.class, () -> parser.parseVersion(null));
+
+        assertEquals(0, parser.size());
+        assertEquals(0, parser.getHitCount());
+    }
+
+    @Test
+    public void should_NeverExceedMaxEntries_When_ManyVersionsAreParsed() {
+        CachingVersionParser parser = new CachingVersionParser(new MavenRulesVersionParser(), 50);
+
+        for (int i = 0; i < 10_000; i++) {
+            parser.parseVersion("1." + i);
+            assertTrue(parser.size() <= 50);
+        }
+
+        assertEquals(10_000 - parser.size(), parser.getEvictionCount());
+    }
+
+    @Test
+    public void should_KeepPopularVersions_When_ManyVersionsAreSeenOnce() {
+        CachingVersionParser parser = new CachingVersionParser(new MinimalVersionParser(), 10);
+        Version popularVersion = parser.parseVersion("1.0");
+        parser.parseVersion("1.0");
+
+        for (int i = 0; i < 1_000; i++) {
+            parser.parseVersion("2." + i);
+        }
+
+        assertSame(popularVersion, parser.parseVersion("1.0"));
+    }
+
+    @Test
+    public void should_ParseCorrectly_When_CacheIsUsedConcurrently() throws Exception {
+        CachingVersionParser parser = new CachingVersionParser(new RelaxedSemanticVersionParser(), 64);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int seed = thread;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        int patch = (i * 31 + seed) % 200;
+                        if (parser.parseVersion("1.0." + patch).getPatch() != patch) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(parser.size() <= 64);
+        assertEquals(8 * 20_000, parser.getHitCount() + parser.getMissCount());
+    }
+
+    @Test
+    public void should_Throw_When_MaxEntriesIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingVersionParser(new MinimalVersionParser(), 0));
+        assertThrows(IllegalArgumentException.class, () -> new VersionComparatorBuilder().withParseCache(-1));
+    }
+
+    @Test
+    public void should_ReportStatistics_When_ComparatorIsBuiltWithParseCache() {
+        VersionComparator comparator = new VersionComparatorBuilder().useStrictSemanticVersionParser().withParseCache(10).build();
+
+        assertEquals(-1, comparator.compare("1.0.0-rc.1", "1.0.0"));
+        assertEquals(1, comparator.compare("1.0.0", "1.0.0-rc.1"));
+
+        ParseCacheStatistics statistics = comparator.getParseCacheStatistics().get();
+        assertEquals(2, statistics.getHitCount());
+        assertEquals(2, statistics.getMissCount());
+        assertEquals(2, statistics.getSize());
+        assertEquals(10, statistics.getMaxEntries());
+        assertEquals(0.5, statistics.getHitRate());
+        assertFalse(new VersionComparatorBuilder().build().getParseCacheStatistics().isPresent());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.parser;
+
+import it.rebirthproject.versioncomparator.model.Version;
+import it.rebirthproject.versioncomparator.utils.ByteSlice;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class CharSequenceParsingTest {
+
+    private static Stream<VersionParser> parsers() {
+        return Stream.of(new MinimalVersionParser(), new StrictSemanticVersionParser(), new RelaxedSemanticVersionParser(), new MavenRulesVersionParser(),
+                new CachingVersionParser(new MavenRulesVersionParser(), 100), new InterningVersionParser(new RelaxedSemanticVersionParser()));
+    }
+
+    private static void assertSameVersion(Version expected, Version actual, String candidate) {
+        assertEquals(expected.getMajor(), actual.getMajor(), candidate);
+        assertEquals(expected.getMinor(), actual.getMinor(), candidate);
+        assertEquals(expected.getPatch(), actual.getPatch(), candidate);
+        assertEquals(expected.getQualifier(), actual.getQualifier(), candidate);
+        assertEquals(expected.getBuildMetadata(), actual.getBuildMetadata(), candidate);
+        assertEquals(expected.getTokenList(), actual.getTokenList(), candidate);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parsers")
+    public void should_ParseLikeString_When_VersionIsCharSequence(VersionParser parser) {
+        VersionCandidateGenerator generator = new VersionCandidateGenerator(20240104L);
+        StringBuilder builder = new StringBuilder();
+        ByteSlice slice = new ByteSlice();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+        for (int i = 0; i < 20_000; i++) {
+            String candidate = generator.next();
+            builder.setLength(0);
+            builder.append(candidate);
+            byte[] bytes = ("#" + candidate + "#").getBytes(StandardCharsets.US_ASCII);
+            buffer.clear();
+            buffer.put(bytes);
+
+            Version expected;
+            try {
+                expected = parser.parseVersion(candidate);
+            } catch (IllegalArgumentException ex) {
+                assertThrows(IllegalArgumentException.class, () -> parser.parseVersion(builder), candidate);
+                assertNull(parser.tryParseVersion(slice.reset(bytes, 1, bytes.length - 1)), candidate);
+                assertNull(parser.tryParseVersion(slice.reset(buffer, 1, bytes.length - 1)), candidate);
+                continue;
+            }
+            assertSameVersion(expected, parser.parseVersion(builder), candidate);
+            assertSameVersion(expected, parser.tryParseVersion(slice.reset(bytes, 1, bytes.length - 1)), candidate);
+            assertSameVersion(expected, parser.parseVersion(slice.reset(buffer, 1, bytes.length - 1)), candidate);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.parser;
+
+import it.rebirthproject.versioncomparator.comparator.VersionComparator;
+import it.rebirthproject.versioncomparator.comparator.VersionComparatorBuilder;
+import it.rebirthproject.versioncomparator.model.Version;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class InterningVersionParserTest {
+
+    @Test
+    public void should_ReturnSameVersion_When_EqualStringsAreParsed() {
+        InterningVersionParser parser = new InterningVersionParser(new MavenRulesVersionParser());
+
+        Version firstVersion = parser.parseVersion(new String("1.2.3-SNAPSHOT"));
+        Version secondVersion = parser.parseVersion(new String("1.2.3-SNAPSHOT"));
+        Version otherVersion = parser.parseVersion("1.2.4-SNAPSHOT");
+
+        assertSame(firstVersion, secondVersion);
+        assertNotSame(firstVersion, otherVersion);
+        assertEquals(2, parser.size());
+        assertEquals(VersionMatchingParserType.MAVEN_SPECS_VERSION, parser.getParserType());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1.0.0-SNAPSHOT, 2.1.0-SNAPSHOT",
+        "1.0.0-rc, 3.0.0-rc",
+        "1.0.0-FINAL, 1.5.0-FINAL",
+        "1.0.0-rc.1, 2.0.0-rc.1",
+        "1.0.0-alpha+build.5, 2.0.0-beta+build.5"
+    })
+    public void should_ShareQualifiers_When_DistinctVersionsHaveEqualQualifiers(String version1, String version2) {
+        InterningVersionParser parser = new InterningVersionParser(new StrictSemanticVersionParser());
+
+        Version firstVersion = parser.parseVersion(version1);
+        Version secondVersion = parser.parseVersion(version2);
+
+        assertEquals(firstVersion.getQualifier(), new StrictSemanticVersionParser().parseVersion(version1).getQualifier());
+        if (firstVersion.getQualifier().equals(secondVersion.getQualifier())) {
+            assertSame(firstVersion.getQualifier(), secondVersion.getQualifier());
+        }
+        assertSame(firstVersion.getBuildMetadata(), secondVersion.getBuildMetadata());
+    }
+
+    @Test
+    public void should_UseSharedSpelling_When_QualifierIsKnownReleaseType() {
+        InterningVersionParser parser = new InterningVersionParser(new StrictSemanticVersionParser());
+
+        Version version = parser.parseVersion("1.0.0-" + new StringBuilder("SNAPSHOT"));
+
+        assertSame("SNAPSHOT", version.getQualifier());
+    }
+
+    @Test
+    public void should_NotInternVersion_When_VersionIsInvalid() {
+        InterningVersionParser parser = new InterningVersionParser(new StrictSemanticVersionParser());
+
+        assertThrows(IllegalArgumentException.class, () -> parser.parseVersion("1.2"));
+        assertThrows(IllegalArgumentException.class, () -> parser.parseVersion("1.2"));
+        assertThrows(IllegalArgumentException.class, () -> parser.parseVersion(null));
+
+        assertEquals(0, parser.size());
+        assertEquals(3, parser.findInvalidIndex("1.2"));
+    }
+
+    @Test
+    public void should_ReturnSameVersion_When_ParsedConcurrently() throws Exception {
+        InterningVersionParser parser = new InterningVersionParser(new RelaxedSemanticVersionParser());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<Version>>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executor.submit(() -> {
+                    List<Version> versions = new ArrayList<>();
+                    for (int i = 0; i < 200; i++) {
+                        versions.add(parser.parseVersion("1." + i + ".0-beta"));
+                    }
+                    return versions;
+                }));
+            }
+
+            List<Version> expected = futures.get(0).get();
+            for (Future<List<Version>> future : futures) {
+                List<Version> versions = future.get();
+                for (int i = 0; i < versions.size(); i++) {
+                    assertSame(expected.get(i), versions.get(i));
+                }
+            }
+            assertEquals(200, parser.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void should_CompareAsWithoutInterning_When_InterningIsEnabled() {
+        VersionComparator internedComparator = new VersionComparatorBuilder().useMavenRulesVersionParser().withInterning().withParseCache(10).build();
+        VersionComparator comparator = new VersionComparatorBuilder().useMavenRulesVersionParser().build();
+        String[] versions = {"1.0-SNAPSHOT", "1.0", "1.0.Final", "1-rc1", "1.0-sp", "2.0-alpha-1"};
+
+        for (String version1 : versions) {
+            for (String version2 : versions) {
+                assertEquals(comparator.compare(version1, version2), internedComparator.compare(version1, version2));
+            }
+        }
+        assertTrue(internedComparator.getParseCacheStatistics().isPresent());
+    }
+}
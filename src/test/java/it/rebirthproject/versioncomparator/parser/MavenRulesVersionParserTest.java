@@ -15,7 +15,8 @@
  */
 package it.rebirthproject.versioncomparator.parser;
 
-import it.rebirthproject.versioncomparator.version.Version;
+import it.rebirthproject.versioncomparator.model.Version;
+import it.rebirthproject.versioncomparator.utils.TokenUtils;
 import java.util.Arrays;
 import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -24,6 +25,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 public class MavenRulesVersionParserTest {
 
@@ -44,6 +46,19 @@ public class MavenRulesVersionParserTest {
         });
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "\t\n "})
+    public void should_FindInvalidIndex_When_VersionIsBlank(String blankVersion) {
+        assertEquals(blankVersion.length(), parser.findInvalidIndex(new StringBuilder(blankVersion)));
+        assertThrows(IllegalArgumentException.class, () -> parser.parseVersion(blankVersion));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", " 1", "1.-cep-.200-foo2.0_zap", "ÄLPHA", "*"})
+    public void should_FindNoInvalidIndex_When_VersionIsNotBlank(String version) {
+        assertEquals(TokenUtils.NO_INVALID_INDEX, parser.findInvalidIndex(new StringBuilder(version)));
+    }
+
     private static Stream<Arguments> versionListProvider() {
         return Stream.of(
                 Arguments.of("0", new Version(Arrays.asList("0"))),
@@ -73,7 +88,12 @@ public class MavenRulesVersionParserTest {
                 Arguments.of("1-0.1", new Version(Arrays.asList("1", "-", "0", ".", "1"))),
                 Arguments.of("1-0-1", new Version(Arrays.asList("1", "-", "1"))),
                 Arguments.of("1-0.1-1", new Version(Arrays.asList("1", "-", "0", ".", "1", "-", "1"))),
-                Arguments.of("1-0-1-1", new Version(Arrays.asList("1",  "-", "1", "-", "1")))                
+                Arguments.of("1-0-1-1", new Version(Arrays.asList("1",  "-", "1", "-", "1"))),
+                Arguments.of("1-00", new Version(Arrays.asList("1"))),
+                Arguments.of("1.000", new Version(Arrays.asList("1"))),
+                Arguments.of("1-000-1", new Version(Arrays.asList("1", "-", "1"))),
+                Arguments.of("1.00.1", new Version(Arrays.asList("1", ".", "00", ".", "1"))),
+                Arguments.of("2.0.00-b", new Version(Arrays.asList("2", "-", "b")))
         );
     }
 }
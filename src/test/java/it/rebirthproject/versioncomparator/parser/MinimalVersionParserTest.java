@@ -16,7 +16,12 @@
  */
 package it.rebirthproject.versioncomparator.parser;
 
+import it.rebirthproject.versioncomparator.model.Version;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -61,4 +66,28 @@ public class MinimalVersionParserTest {
             parser.parseVersion(invalidVersion);
         });
     }
+
+    /**
+     * The regex used by the parser before the hand-written scanner. It is kept
+     * here to prove that the scanner accepts exactly the same language.
+     */
+    private static final Pattern LEGACY_PATTERN = Pattern.compile("^(?<major>0|[1-9]\\d{0,5})\\.(?<minor>0|[1-9]\\d{0,5})(?:\\.(?<patch>0|[1-9]\\d{0,5}))?$");
+
+    @Test
+    public void should_AcceptSameLanguageAsLegacyRegex_When_ParsingGeneratedVersions() {
+        VersionCandidateGenerator generator = new VersionCandidateGenerator(20240101L);
+        for (int i = 0; i < 200_000; i++) {
+            String candidate = generator.next();
+            Matcher matcher = LEGACY_PATTERN.matcher(candidate);
+
+            if (matcher.matches()) {
+                Version version = parser.parseVersion(candidate);
+                assertEquals(Long.parseLong(matcher.group("major")), version.getMajor(), candidate);
+                assertEquals(Long.parseLong(matcher.group("minor")), version.getMinor(), candidate);
+                assertEquals(matcher.group("patch") != null ? Long.parseLong(matcher.group("patch")) : -1, version.getPatch(), candidate);
+            } else {
+                assertThrows(IllegalArgumentException.class, () -> parser.parseVersion(candidate), candidate);
+            }
+        }
+    }
 }
@@ -16,7 +16,13 @@
  */
 package it.rebirthproject.versioncomparator.parser;
 
+import it.rebirthproject.versioncomparator.model.Version;
+import it.rebirthproject.versioncomparator.version.VersionReleaseTypes;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -102,4 +108,57 @@ public class RelaxedSemanticVersionParserTest {
             parser.parseVersion(invalidVersion);
         });
     }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1.2.3-SNAPSHOT-RC",
+        "1.2.3-rc.final",
+        "1.2.3.ALPHA-a",
+        "1.2.3-RC-RC"
+    })
+    public void should_RejectQualifier_When_ReleaseTypeIsNotUnique(String invalidVersion) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            parser.parseVersion(invalidVersion);
+        });
+        assertEquals("Invalid relaxed semantic version string format: release type is not unique in qualifier" + invalidVersion, exception.getMessage());
+    }
+
+    /**
+     * The regex used by the parser before the hand-written scanner. It is kept
+     * here to prove that the scanner accepts exactly the same language.
+     */
+    private static final Pattern LEGACY_PATTERN = Pattern.compile("(?i)^(?<major>0|[1-9]\\d{0,10})\\.(?<minor>0|[1-9]\\d{0,10})(?:\\.(?<patch>0|[1-9]\\d{0,10}))(?:(?<qualifier>([a-zA-Z.-](?!.*[.-]{2})[a-zA-Z0-9.-]*)))?$");
+
+    @Test
+    public void should_AcceptSameLanguageAsLegacyRegex_When_ParsingGeneratedVersions() {
+        VersionCandidateGenerator generator = new VersionCandidateGenerator(20240103L);
+        for (int i = 0; i < 200_000; i++) {
+            String candidate = generator.next();
+            Version legacyVersion = legacyParseVersion(candidate);
+
+            if (legacyVersion != null) {
+                Version version = parser.parseVersion(candidate);
+                assertEquals(legacyVersion.getMajor(), version.getMajor(), candidate);
+                assertEquals(legacyVersion.getMinor(), version.getMinor(), candidate);
+                assertEquals(legacyVersion.getPatch(), version.getPatch(), candidate);
+                assertEquals(legacyVersion.getQualifier(), version.getQualifier(), candidate);
+                assertEquals(legacyVersion.getBuildMetadata(), version.getBuildMetadata(), candidate);
+            } else {
+                assertThrows(IllegalArgumentException.class, () -> parser.parseVersion(candidate), candidate);
+            }
+        }
+    }
+
+    private static Version legacyParseVersion(String version) {
+        Matcher matcher = LEGACY_PATTERN.matcher(version);
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        String qualifier = matcher.group("qualifier");
+        if (qualifier != null && !qualifier.trim().isEmpty() && !qualifier.matches(VersionReleaseTypes.getRegexToCheckReleaseTypeUniqueness())) {
+            return null;
+        }
+        return new Version(Long.parseLong(matcher.group("major")), Long.parseLong(matcher.group("minor")), Long.parseLong(matcher.group("patch")), qualifier);
+    }
 }
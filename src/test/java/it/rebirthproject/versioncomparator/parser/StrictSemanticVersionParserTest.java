@@ -16,7 +16,12 @@
  */
 package it.rebirthproject.versioncomparator.parser;
 
+import it.rebirthproject.versioncomparator.model.Version;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -110,4 +115,44 @@ public class StrictSemanticVersionParserTest {
             parser.parseVersion(invalidVersion);
         });
     }
+
+    /**
+     * The regex used by the parser before the hand-written scanner. It is kept
+     * here to prove that the scanner accepts exactly the same language.
+     */
+    private static final Pattern LEGACY_PATTERN = Pattern.compile("(?i)^(?<major>0|[1-9]\\d{0,19})\\.(?<minor>0|[1-9]\\d{0,19})\\.(?<patch>0|[1-9]\\d{0,19})(?:-(?<qualifier>(?:0|[1-9]\\d*|\\d*[a-zA-Z-][0-9a-zA-Z-]*)(?:\\.(?:0|[1-9]\\d*|\\d*[a-zA-Z-][0-9a-zA-Z-]*))*))?(?:\\+(?<buildmetadata>[0-9a-zA-Z-]+(?:\\.[0-9a-zA-Z-]+)*))?$");
+
+    @Test
+    public void should_AcceptSameLanguageAsLegacyRegex_When_ParsingGeneratedVersions() {
+        VersionCandidateGenerator generator = new VersionCandidateGenerator(20240102L);
+        for (int i = 0; i < 200_000; i++) {
+            String candidate = generator.next();
+            Version legacyVersion = legacyParseVersion(candidate);
+
+            if (legacyVersion != null) {
+                Version version = parser.parseVersion(candidate);
+                assertEquals(legacyVersion.getMajor(), version.getMajor(), candidate);
+                assertEquals(legacyVersion.getMinor(), version.getMinor(), candidate);
+                assertEquals(legacyVersion.getPatch(), version.getPatch(), candidate);
+                assertEquals(legacyVersion.getQualifier(), version.getQualifier(), candidate);
+                assertEquals(legacyVersion.getBuildMetadata(), version.getBuildMetadata(), candidate);
+            } else {
+                assertThrows(IllegalArgumentException.class, () -> parser.parseVersion(candidate), candidate);
+            }
+        }
+    }
+
+    private static Version legacyParseVersion(String version) {
+        Matcher matcher = LEGACY_PATTERN.matcher(version);
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        try {
+            return new Version(Long.parseLong(matcher.group("major")), Long.parseLong(matcher.group("minor")), Long.parseLong(matcher.group("patch")), matcher.group("qualifier"), matcher.group("buildmetadata"));
+        } catch (NumberFormatException ex) {
+            //The legacy parser rejected the numbers that did not fit in a long
+            return null;
+        }
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.parser;
+
+import java.util.Random;
+
+/**
+ * Generates pseudo random version strings used by the differential tests that
+ * check the hand-written scanners against the legacy regex grammars. Roughly
+ * half of the candidates are built from version-like components (numbers with
+ * and without leading zeros, qualifiers, build metadata) and the rest are
+ * random strings over the characters that matter to the grammars.
+ */
+class VersionCandidateGenerator {
+
+    private static final String RANDOM_ALPHABET = "0123456789..--++aZrcRC_ ";
+    private static final String[] WORDS = {"alpha", "BETA", "rc", "SNAPSHOT", "Final", "a", "M", "dev", "x", "RELEASE", "ga", "sp", "0", "01", "1"};
+
+    private final Random random;
+
+    VersionCandidateGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    String next() {
+        return random.nextBoolean() ? nextStructured() : nextRandom();
+    }
+
+    private String nextRandom() {
+        int length = random.nextInt(16);
+        StringBuilder candidate = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            candidate.append(RANDOM_ALPHABET.charAt(random.nextInt(RANDOM_ALPHABET.length())));
+        }
+        return candidate.toString();
+    }
+
+    private String nextStructured() {
+        StringBuilder candidate = new StringBuilder();
+        int numberParts = 1 + random.nextInt(4);
+        for (int i = 0; i < numberParts; i++) {
+            if (i > 0) {
+                candidate.append('.');
+            }
+            appendNumber(candidate);
+        }
+
+        int suffixes = random.nextInt(4);
+        for (int i = 0; i < suffixes; i++) {
+            int separator = random.nextInt(6);
+            if (separator == 0) {
+                candidate.append('-');
+            } else if (separator == 1) {
+                candidate.append('.');
+            } else if (separator == 2) {
+                candidate.append('+');
+            } else if (separator == 3) {
+                candidate.append("--");
+            }
+            if (random.nextInt(3) == 0) {
+                appendNumber(candidate);
+            } else {
+                candidate.append(WORDS[random.nextInt(WORDS.length)]);
+            }
+        }
+        return candidate.toString();
+    }
+
+    private void appendNumber(StringBuilder candidate) {
+        int digits = random.nextInt(8) == 0 ? 1 + random.nextInt(22) : 1 + random.nextInt(3);
+        for (int i = 0; i < digits; i++) {
+            candidate.append((char) ('0' + random.nextInt(10)));
+        }
+    }
+}
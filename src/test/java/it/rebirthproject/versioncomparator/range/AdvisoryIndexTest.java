@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.range;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class AdvisoryIndexTest {
+
+    private static final String ARTIFACT = "org.example:library";
+    private static final String OTHER_ARTIFACT = "org.example:other";
+
+    private static final String[][] ADVISORIES = {
+        {ARTIFACT, "[1.0,1.2.3)", "ADV-1"},
+        {ARTIFACT, "[1.2,2.0]", "ADV-2"},
+        {ARTIFACT, "(,1.0-SNAPSHOT]", "ADV-3"},
+        {ARTIFACT, "[1.5]", "ADV-4"},
+        {ARTIFACT, "[1.1,1.2),[3.0,)", "ADV-5"},
+        {ARTIFACT, "(1.2.3,1.4)", "ADV-5"},
+        {ARTIFACT, "(2.0,2.0]", "ADV-6"},
+        {OTHER_ARTIFACT, "[1.0,)", "ADV-7"}
+    };
+
+    private static final List<String> VERSIONS = Arrays.asList("0.1", "1.0-SNAPSHOT", "1.0", "1", "1.0.1", "1.1", "1.2-rc1", "1.2", "1.2.2", "1.2.3",
+            "1.3", "1.4", "1.5-SNAPSHOT", "1.5", "1.5.0.1", "2.0", "2.0.1", "3.0-alpha", "3.0", "10.0");
+
+    private static AdvisoryIndex<String> buildIndex() {
+        AdvisoryIndexBuilder<String> builder = new AdvisoryIndexBuilder<>();
+        for (String[] advisory : ADVISORIES) {
+            builder.addAffectedRange(advisory[0], advisory[1], advisory[2]);
+        }
+        return builder.build();
+    }
+
+    private static List<String> findByScanning(String artifact, String version) {
+        List<String> advisories = new ArrayList<>();
+        for (String[] advisory : ADVISORIES) {
+            if (advisory[0].equals(artifact) && !advisories.contains(advisory[2]) && MavenVersionRange.parse(advisory[1]).contains(version)) {
+                advisories.add(advisory[2]);
+            }
+        }
+        return advisories;
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0.1, ADV-3",
+        "1.0-SNAPSHOT, ADV-3",
+        "1.0, ADV-1",
+        "1.1, ADV-1 ADV-5",
+        "1.2, ADV-1 ADV-2",
+        "1.2.3, ADV-2",
+        "1.3, ADV-2 ADV-5",
+        "1.5, ADV-2 ADV-4",
+        "2.0, ADV-2",
+        "3.0, ADV-5"
+    })
+    public void should_FindAdvisories_When_VersionIsAffected(String version, String expectedAdvisories) {
+        AdvisoryIndex<String> index = buildIndex();
+
+        assertEquals(Arrays.asList(expectedAdvisories.split(" ")), index.find(ARTIFACT, version));
+    }
+
+    @Test
+    public void should_FindNoAdvisories_When_VersionOrArtifactIsNotAffected() {
+        AdvisoryIndex<String> index = buildIndex();
+
+        assertEquals(Collections.emptyList(), index.find(ARTIFACT, "2.5"));
+        assertEquals(Collections.emptyList(), index.find(OTHER_ARTIFACT, "0.9"));
+        assertEquals(Collections.emptyList(), index.find("org.example:unknown", "1.0"));
+    }
+
+    @Test
+    public void should_FindSameAdvisoriesAsRanges_When_SearchingEachVersion() {
+        AdvisoryIndex<String> index = buildIndex();
+
+        for (String version : VERSIONS) {
+            for (String artifact : Arrays.asList(ARTIFACT, OTHER_ARTIFACT)) {
+                assertEquals(findByScanning(artifact, version), index.find(artifact, version), "Mismatch for " + artifact + " " + version);
+            }
+        }
+    }
+
+    @Test
+    public void should_FindAllLikeFind_When_InventoryIsUnsorted() {
+        AdvisoryIndex<String> index = buildIndex();
+        List<String> inventory = new ArrayList<>();
+        for (String version : VERSIONS) {
+            inventory.add(ARTIFACT + "@" + version);
+            inventory.add(0, OTHER_ARTIFACT + "@" + version);
+        }
+        inventory.add("org.example:unknown@not-parsed!");
+
+        Map<String, List<String>> expected = new LinkedHashMap<>();
+        for (String item : inventory) {
+            String[] parts = item.split("@");
+            List<String> advisories = index.find(parts[0], parts[1]);
+            if (!advisories.isEmpty()) {
+                expected.put(item, advisories);
+            }
+        }
+        Function<String, String> artifactOf = item -> item.split("@")[0];
+        Function<String, String> versionOf = item -> item.split("@")[1];
+
+        Map<String, List<String>> affectedItems = index.findAll(inventory, artifactOf, versionOf);
+
+        assertEquals(expected, affectedItems);
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(affectedItems.keySet()));
+    }
+
+    @Test
+    public void should_FindSameAdvisoriesAsRanges_When_ManyRangesOverlap() {
+        Random random = new Random(42);
+        AdvisoryIndexBuilder<String> builder = new AdvisoryIndexBuilder<>();
+        Map<String, List<MavenVersionRange>> rangesByAdvisory = new LinkedHashMap<>();
+        for (int i = 0; i < 500; i++) {
+            String advisory = "ADV-" + random.nextInt(200);
+            int lower = random.nextInt(100);
+            int upper = lower + random.nextInt(40);
+            String range = (random.nextBoolean() ? "[" : "(") + "1." + lower + "," + (random.nextInt(10) == 0 ? ")" : "1." + upper + (random.nextBoolean() ? "]" : ")"));
+            builder.addAffectedRange(ARTIFACT, range, advisory);
+            rangesByAdvisory.computeIfAbsent(advisory, key -> new ArrayList<>()).add(MavenVersionRange.parse(range));
+        }
+        AdvisoryIndex<String> index = builder.build();
+
+        List<String> inventory = new ArrayList<>();
+        for (int minor = 0; minor < 150; minor++) {
+            inventory.add("1." + minor);
+            inventory.add("1." + minor + ".1");
+        }
+        Map<String, List<String>> affectedItems = index.findAll(inventory, item -> ARTIFACT, Function.identity());
+
+        for (String version : inventory) {
+            List<String> expected = new ArrayList<>();
+            rangesByAdvisory.forEach((advisory, ranges) -> {
+                if (ranges.stream().anyMatch(range -> range.contains(version))) {
+                    expected.add(advisory);
+                }
+            });
+            assertEquals(expected, index.find(ARTIFACT, version), "Mismatch for " + version);
+            assertEquals(expected, affectedItems.getOrDefault(version, Collections.emptyList()), "Mismatch in findAll for " + version);
+        }
+    }
+
+    @Test
+    public void should_ThrowException_When_ArgumentsAreNotValid() {
+        AdvisoryIndexBuilder<String> builder = new AdvisoryIndexBuilder<>();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.addAffectedRange(null, "[1.0,)", "ADV-1"));
+        assertThrows(IllegalArgumentException.class, () -> builder.addAffectedRange(ARTIFACT, "[1.0,", "ADV-1"));
+        assertThrows(IllegalArgumentException.class, () -> builder.addAffectedRange(ARTIFACT, "[1.0,)", null));
+        assertThrows(IllegalArgumentException.class, () -> buildIndex().find(ARTIFACT, " "));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.range;
+
+import it.rebirthproject.versioncomparator.comparator.ComparableVersion;
+import it.rebirthproject.versioncomparator.comparator.VersionComparator;
+import it.rebirthproject.versioncomparator.comparator.VersionComparatorBuilder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class MavenVersionRangeTest {
+
+    private static final List<String> SORTED_CANDIDATES = Arrays.asList("0.9", "1.0-SNAPSHOT", "1.0", "1.1", "1.2-rc1", "1.2", "1.2.5",
+            "1.3", "1.4", "1.5", "2.0-alpha", "2.0", "2.0.1", "3.0");
+
+    @ParameterizedTest
+    @CsvSource({
+        "'[1.0,2.0)', 1.0, true",
+        "'[1.0,2.0)', 1.0-SNAPSHOT, false",
+        "'[1.0,2.0)', 2.0-alpha, true",
+        "'[1.0,2.0)', 2.0, false",
+        "'(1.0,2.0]', 1.0, false",
+        "'(1.0,2.0]', 2.0.0, true",
+        "'(,1.5]', 0.1, true",
+        "'(,1.5]', 1.5, true",
+        "'(,1.5]', 1.5.1, false",
+        "'[1.5,)', 99, true",
+        "'[1.5,)', 1.4, false",
+        "'[1.0]', 1, true",
+        "'[1.0]', 1.0.1, false",
+        "'[1.2,1.3),[1.5,)', 1.2.5, true",
+        "'[1.2,1.3),[1.5,)', 1.3, false",
+        "'[1.2,1.3),[1.5,)', 1.4, false",
+        "'[1.2,1.3),[1.5,)', 1.5, true",
+        "'(,1.0],[1.2,)', 1.1, false",
+        "'(,1.0],[1.2,)', 1.0, true",
+        "'[1.0,1.1],[1.1,1.2]', 1.1, true",
+        "'1.0', 5.0, true"
+    })
+    public void should_ContainVersion_When_InsideRestrictions(String range, String version, boolean expected) {
+        MavenVersionRange versionRange = MavenVersionRange.parse(range);
+
+        assertEquals(expected, versionRange.contains(version), "Mismatch for range " + range + " and version " + version);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"[1.0,2.0)", "(,1.5]", "[1.2,1.3),[1.5,)", "[1.0,1.2],[1.2,1.4]", "(1.0,2.0)", "[1.2.5]", "[4,)", "(,0.1)", "1.0"})
+    public void should_FilterSortedLikeContains_When_CandidatesAreSorted(String range) {
+        MavenVersionRange versionRange = MavenVersionRange.parse(range);
+        List<String> expected = SORTED_CANDIDATES.stream().filter(versionRange::contains).collect(Collectors.toList());
+
+        VersionComparator comparator = new VersionComparatorBuilder().useMavenRulesVersionParser().build();
+        List<ComparableVersion> sortedVersions = new ArrayList<>();
+        for (String candidate : SORTED_CANDIDATES) {
+            sortedVersions.add(comparator.parse(candidate));
+        }
+
+        assertEquals(expected, versionRange.filter(SORTED_CANDIDATES));
+        assertEquals(expected, versionRange.filterSorted(SORTED_CANDIDATES));
+        assertEquals(expected, versionRange.filterSortedVersions(sortedVersions).stream().map(ComparableVersion::getOriginalVersion).collect(Collectors.toList()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "[1.0", "(1.0)", "[1.0)", "[2.0,1.0]", "[1.0,2.0,3.0]", "[1.0,2.0),1.5", "[1.5,2.0),[1.0,1.2)", "[1.0,),[2.0,3.0]", "[1.0,2.0],(,3.0]"})
+    public void should_Throw_When_RangeIsInvalid(String range) {
+        assertThrows(IllegalArgumentException.class, () -> MavenVersionRange.parse(range));
+    }
+
+    @Test
+    public void should_ReturnRecommendedVersion_When_RangeIsSoftRequirement() {
+        assertEquals("1.0", MavenVersionRange.parse("1.0").getRecommendedVersion().get().getOriginalVersion());
+        assertFalse(MavenVersionRange.parse("[1.0]").getRecommendedVersion().isPresent());
+        assertTrue(MavenVersionRange.parse(" [1.0, 2.0) ").contains("1.5"));
+    }
+}
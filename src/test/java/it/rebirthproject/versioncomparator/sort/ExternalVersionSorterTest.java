@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.sort;
+
+import it.rebirthproject.versioncomparator.comparator.VersionComparator;
+import it.rebirthproject.versioncomparator.comparator.VersionComparatorBuilder;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class ExternalVersionSorterTest {
+
+    private static final VersionComparator MAVEN_COMPARATOR = new VersionComparatorBuilder().useMavenRulesVersionParser().build();
+
+    private static List<String> randomCoordinates(int count) {
+        Random random = new Random(31);
+        String[] qualifiers = {"", "-SNAPSHOT", "-rc1", "-beta-2", ".Final", "-jre"};
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            lines.add("org.example:artifact-" + random.nextInt(20) + ":" + random.nextInt(4) + "." + random.nextInt(4)
+                    + (random.nextBoolean() ? ".0" : "") + qualifiers[random.nextInt(qualifiers.length)]);
+        }
+        return lines;
+    }
+
+    private static List<String> sort(ExternalVersionSorter sorter, List<String> lines) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        sorter.sort(new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8)), output);
+        String sorted = new String(output.toByteArray(), StandardCharsets.UTF_8);
+        return sorted.isEmpty() ? Collections.emptyList() : Arrays.asList(sorted.split("\n"));
+    }
+
+    private static String keyOf(String line) {
+        return line.substring(0, line.lastIndexOf(':'));
+    }
+
+    private static String versionOf(String line) {
+        return line.substring(line.lastIndexOf(':') + 1);
+    }
+
+    private static Comparator<String> byKeyThenVersion() {
+        Comparator<String> byKey = Comparator.comparing(ExternalVersionSorterTest::keyOf);
+        return byKey.thenComparing(ExternalVersionSorterTest::versionOf, MAVEN_COMPARATOR);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4_096, 64 * 1024 * 1024})
+    public void should_SortLikeComparator_When_RunsAreSpilled(int chunkSize) throws IOException {
+        List<String> lines = randomCoordinates(3_000);
+        List<String> expected = new ArrayList<>(lines);
+        expected.sort(byKeyThenVersion());
+
+        ExternalVersionSorter sorter = new ExternalVersionSorterBuilder(MAVEN_COMPARATOR).withKeySeparator(':').withChunkSize(chunkSize).withMergeWidth(3).build();
+
+        assertEquals(expected, sort(sorter, lines));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4_096, 64 * 1024 * 1024})
+    public void should_KeepFirstOfEqualLines_When_DuplicatesAreRemoved(int chunkSize) throws IOException {
+        List<String> lines = randomCoordinates(3_000);
+        List<String> expected = new ArrayList<>();
+        lines.stream().sorted(byKeyThenVersion()).forEach(line -> {
+            if (expected.isEmpty() || byKeyThenVersion().compare(expected.get(expected.size() - 1), line) != 0) {
+                expected.add(line);
+            }
+        });
+
+        ExternalVersionSorter sorter = new ExternalVersionSorterBuilder(MAVEN_COMPARATOR).withKeySeparator(':').removeDuplicates()
+                .withChunkSize(chunkSize).withMergeWidth(4).build();
+
+        assertEquals(expected, sort(sorter, lines));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4_096, 64 * 1024 * 1024})
+    public void should_KeepGreatestVersionOfEveryKey_When_MaxPerKeyIsKept(int chunkSize) throws IOException {
+        List<String> lines = randomCoordinates(3_000);
+        Map<String, String> greatest = new LinkedHashMap<>();
+        for (String line : lines) {
+            greatest.merge(keyOf(line), line, (current, candidate) -> MAVEN_COMPARATOR.compare(versionOf(candidate), versionOf(current)) > 0 ? candidate : current);
+        }
+        List<String> expected = greatest.values().stream().sorted(Comparator.comparing(ExternalVersionSorterTest::keyOf)).collect(Collectors.toList());
+
+        ExternalVersionSorter sorter = new ExternalVersionSorterBuilder(MAVEN_COMPARATOR).withKeySeparator(':').keepOnlyMaxVersionPerKey()
+                .withChunkSize(chunkSize).withMergeWidth(2).build();
+
+        assertEquals(expected, sort(sorter, lines));
+    }
+
+    @Test
+    public void should_SkipInvalidLines_When_SortingFiles() throws IOException {
+        Path input = Files.createTempFile("versions", ".txt");
+        Path output = Files.createTempFile("sorted", ".txt");
+        try {
+            Files.write(input, Arrays.asList("2.0.0", "not a version", "", "1.0.0-RC", "1.0.0", "1.2"), StandardCharsets.UTF_8);
+            ExternalVersionSorter sorter = new ExternalVersionSorterBuilder(new VersionComparatorBuilder().build()).withChunkSize(1)
+                    .withTemporaryDirectory(input.getParent()).build();
+
+            ExternalSortStatistics statistics = sorter.sort(input, output);
+
+            assertEquals(Arrays.asList("1.0.0-RC", "1.0.0", "2.0.0"), Files.readAllLines(output, StandardCharsets.UTF_8));
+            assertEquals(5, statistics.getLineCount());
+            assertEquals(2, statistics.getInvalidLineCount());
+            assertEquals(3, statistics.getWrittenLineCount());
+            assertEquals(3, statistics.getRunCount());
+        } finally {
+            Files.delete(input);
+            Files.delete(output);
+        }
+    }
+
+    @Test
+    public void should_SortKeysByCodePoint_When_KeysAreNotAscii() throws IOException {
+        ExternalVersionSorter sorter = new ExternalVersionSorterBuilder(MAVEN_COMPARATOR).withKeySeparator(':').withChunkSize(1).build();
+
+        List<String> sorted = sort(sorter, Arrays.asList("😀:1.0", "zeta:2.0", "été:1.0", "zeta:1.0", "missing-separator"));
+
+        assertEquals(Arrays.asList("zeta:1.0", "zeta:2.0", "été:1.0", "😀:1.0"), sorted);
+    }
+
+    @Test
+    public void should_ThrowException_When_OptionIsNotValid() {
+        assertThrows(IllegalArgumentException.class, () -> new ExternalVersionSorterBuilder(null));
+        assertThrows(IllegalArgumentException.class, () -> new ExternalVersionSorterBuilder(MAVEN_COMPARATOR).withChunkSize(0));
+        assertThrows(IllegalArgumentException.class, () -> new ExternalVersionSorterBuilder(MAVEN_COMPARATOR).withMergeWidth(1));
+    }
+}
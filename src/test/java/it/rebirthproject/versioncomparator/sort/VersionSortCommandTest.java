@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2024/2026 Andrea Paternesi Rebirth project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package it.rebirthproject.versioncomparator.sort;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class VersionSortCommandTest {
+
+    @Test
+    public void should_SortStandardInput_When_StreamsAreGiven() throws Exception {
+        ByteArrayInputStream input = new ByteArrayInputStream("g:a:1.0\ng:a:2.0-SNAPSHOT\ng:b:1\ng:a:1.1\n".getBytes(StandardCharsets.UTF_8));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ByteArrayOutputStream error = new ByteArrayOutputStream();
+
+        int status = VersionSortCommand.run(new String[]{"--mode", "maven", "--key-separator", ":", "--max-per-key", "-", "-"}, input, output,
+                new PrintStream(error, true, "UTF-8"));
+
+        assertEquals(VersionSortCommand.EXIT_SUCCESS, status);
+        assertEquals("g:a:2.0-SNAPSHOT\ng:b:1\n", new String(output.toByteArray(), StandardCharsets.UTF_8));
+        assertTrue(new String(error.toByteArray(), StandardCharsets.UTF_8).startsWith("Read 4 lines"));
+    }
+
+    @Test
+    public void should_RemoveEqualVersions_When_ZerosAreSpelledDifferently() throws Exception {
+        ByteArrayInputStream input = new ByteArrayInputStream("g:a:1\ng:a:1.00\ng:a:1.0\ng:a:1-00\ng:a:2-000\ng:a:2\n".getBytes(StandardCharsets.UTF_8));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        int status = VersionSortCommand.run(new String[]{"--mode", "maven", "--key-separator", ":", "--unique", "-", "-"}, input, output,
+                new PrintStream(new ByteArrayOutputStream(), true, "UTF-8"));
+
+        assertEquals(VersionSortCommand.EXIT_SUCCESS, status);
+        assertEquals("g:a:1\ng:a:2-000\n", new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void should_SortFiles_When_PathsAreGiven() throws Exception {
+        Path input = Files.createTempFile("versions", ".txt");
+        Path output = Files.createTempFile("sorted", ".txt");
+        try {
+            Files.write(input, Arrays.asList("1.2", "1.0", "1.2", "0.9"), StandardCharsets.UTF_8);
+
+            int status = VersionSortCommand.run(new String[]{"--mode", "minimal", "--unique", "--chunk-size-mb", "1", input.toString(), output.toString()},
+                    new ByteArrayInputStream(new byte[0]), new ByteArrayOutputStream(), new PrintStream(new ByteArrayOutputStream(), true, "UTF-8"));
+
+            assertEquals(VersionSortCommand.EXIT_SUCCESS, status);
+            assertEquals(Arrays.asList("0.9", "1.0", "1.2"), Files.readAllLines(output, StandardCharsets.UTF_8));
+        } finally {
+            Files.delete(input);
+            Files.delete(output);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "--mode", "--mode semver - -", "--key-separator :: - -", "--chunk-size-mb 0 - -", "--chunk-size-mb x - -", "--bogus - -", "-"})
+    public void should_PrintUsage_When_ArgumentsAreNotValid(String args) throws Exception {
+        ByteArrayOutputStream error = new ByteArrayOutputStream();
+
+        int status = VersionSortCommand.run(args.isEmpty() ? new String[0] : args.split(" "), new ByteArrayInputStream(new byte[0]), new ByteArrayOutputStream(),
+                new PrintStream(error, true, "UTF-8"));
+
+        assertEquals(VersionSortCommand.EXIT_USAGE_ERROR, status);
+    }
+
+    @Test
+    public void should_ReturnIoError_When_InputDoesNotExist() throws Exception {
+        int status = VersionSortCommand.run(new String[]{"/nonexistent/versions.txt", "-"}, new ByteArrayInputStream(new byte[0]), new ByteArrayOutputStream(),
+                new PrintStream(new ByteArrayOutputStream(), true, "UTF-8"));
+
+        assertEquals(VersionSortCommand.EXIT_IO_ERROR, status);
+    }
+}
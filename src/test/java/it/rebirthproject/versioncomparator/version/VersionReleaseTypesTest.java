@@ -17,6 +17,7 @@
 package it.rebirthproject.versioncomparator.version;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -41,11 +42,38 @@ public class VersionReleaseTypesTest {
         "b,B",
         "B,B",
         "beta,BETA",
-        "BETA,BETA"
+        "BETA,BETA",
+        "Pre_Alpha,PRE_ALPHA",
+        "sNaPsHoT,SNAPSHOT",
+        "fınal,FINAL",
+        "ſp,SP",
+        "empty,EMPTY"
     })
     public void should_ReturnReleaseType_When_MatchingByValueOrEnumName(String releaseTypeToken, VersionReleaseTypes expectedReleaseType) {
         VersionReleaseTypes actualReleaseType = VersionReleaseTypes.getValueOfReleaseTypes(releaseTypeToken);
 
         assertEquals(expectedReleaseType, actualReleaseType);
     }
+
+    @ParameterizedTest
+    @CsvSource({
+        "alph",
+        "alphas",
+        "nightly",
+        "rc1",
+        "fïnal"
+    })
+    public void should_ReturnNull_When_TokenIsNotAReleaseType(String token) {
+        assertNull(VersionReleaseTypes.getValueOfReleaseTypes(token));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1.0-rc1,4,6,RC",
+        "1.0-rc1,2,6,",
+        "SNAPSHOT,0,8,SNAPSHOT"
+    })
+    public void should_ReturnReleaseType_When_LookingUpAPartOfAText(String text, int start, int end, VersionReleaseTypes expectedReleaseType) {
+        assertEquals(expectedReleaseType, VersionReleaseTypes.getValueOfReleaseTypes(text, start, end));
+    }
 }